@@ -0,0 +1,75 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;    // High-performance local cache (size + TTL eviction).
+import org.springframework.beans.factory.annotation.Value; // Injects configuration values.
+import org.springframework.cache.CacheManager;          // Spring cache abstraction.
+import org.springframework.cache.annotation.EnableCaching; // Enables @Cacheable / @CacheEvict.
+import org.springframework.cache.caffeine.CaffeineCacheManager; // CacheManager backed by Caffeine.
+import org.springframework.context.annotation.Bean;     // Marks a method as a Spring bean provider.
+import org.springframework.context.annotation.Configuration; // Marks this class as a Spring configuration class.
+import org.springframework.data.mongodb.core.MongoTemplate; // Used by the change stream listener container.
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer; // Runs change stream subscriptions.
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;        // Container abstraction.
+
+import java.time.Duration;                              // TTL of cache entries.
+
+// @Configuration → Marks this class as a configuration provider.
+// @EnableCaching → Activates Spring's caching annotations (used on TaskServiceImplementation).
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // ================================
+    // Cache Names
+    // ================================
+    public static final String TASKS_CACHE = "tasks"; // Task by id (GET /api/tasks/{id}).
+    public static final String TAG_FACETS_CACHE = "tagFacets"; // Tag counts per filter (GET /api/tasks/tags/facets).
+    public static final String USER_PROFILES_CACHE = "userProfiles"; // JWT email → user profile (JwtAuthenticationFilter).
+
+    // ================================
+    // Cache Manager
+    // ================================
+    // Purpose:
+    // - In-process cache in front of getTaskById().
+    // - Bounded by size and TTL → memory stays capped and stale entries expire even if an invalidation is missed.
+    // - recordStats() → hit/miss/eviction metrics are exported through actuator (cache.gets, cache.evictions, ...).
+    // - Tag facets get their own, smaller cache with a short TTL → only popular filters stay cached.
+    // - User profiles are cached per email so authenticated requests skip the USER-SERVICE call
+    //   (the only profile cache of this service; read by UserProfileResolver → one call per email on a miss).
+    @Bean
+    public CacheManager cacheManager(@Value("${task.cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${task.cache.ttl:60s}") Duration ttl,
+                                     @Value("${task.cache.tag-facets.maximum-size:1000}") long facetsMaximumSize,
+                                     @Value("${task.cache.tag-facets.ttl:30s}") Duration facetsTtl,
+                                     @Value("${task.auth.user-cache.maximum-size:10000}") long usersMaximumSize,
+                                     @Value("${task.auth.user-cache.ttl:5m}") Duration usersTtl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(TASKS_CACHE, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(TAG_FACETS_CACHE, Caffeine.newBuilder()
+                .maximumSize(facetsMaximumSize)
+                .expireAfterWrite(facetsTtl)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(USER_PROFILES_CACHE, Caffeine.newBuilder()
+                .maximumSize(usersMaximumSize)
+                .expireAfterWrite(usersTtl)
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+
+    // ================================
+    // Change Stream Listener Container
+    // ================================
+    // Runs the MongoDB change stream used by TaskCacheInvalidator to evict entries
+    // changed by other task-service instances.
+    @Bean
+    public MessageListenerContainer messageListenerContainer(MongoTemplate mongoTemplate) {
+        return new DefaultMessageListenerContainer(mongoTemplate);
+    }
+}
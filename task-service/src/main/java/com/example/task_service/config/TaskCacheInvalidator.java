@@ -0,0 +1,108 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.config;
+
+import com.mongodb.client.model.changestream.ChangeStreamDocument; // One change event from MongoDB.
+import com.mongodb.client.model.changestream.OperationType;        // insert / update / replace / delete.
+import com.mongodb.client.model.changestream.UpdateDescription;    // Fields touched by an update.
+import lombok.RequiredArgsConstructor;                  // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;                       // Lombok → logging support.
+import org.bson.BsonValue;                              // _id of the changed document.
+import org.bson.Document;                               // Raw BSON document.
+import org.springframework.boot.context.event.ApplicationReadyEvent; // Published once the application has started.
+import org.springframework.cache.Cache;                 // Spring cache abstraction.
+import org.springframework.cache.CacheManager;          // Provides the "tasks" and "tagFacets" caches.
+import org.springframework.context.event.EventListener; // Marks a method as an application event listener.
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;     // Change stream subscription request.
+import org.springframework.data.mongodb.core.messaging.Message;                 // Message delivered to the listener.
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer; // Runs the subscription.
+import org.springframework.stereotype.Component;        // Marks this class as a Spring-managed bean.
+
+import java.util.List;
+
+// TaskCacheInvalidator → Keeps the "tasks" and "tagFacets" caches consistent across task-service replicas.
+// Purpose:
+// - Local writes evict their own entries through @CacheEvict.
+// - Writes made by other instances (behind Eureka) are seen here through a MongoDB change stream
+//   on the Tasks collection → the matching entry is evicted on every replica.
+// - Inserts, deletes and updates touching "tags" also clear the tag facet cache.
+// - Change streams require a replica set (e.g. MongoDB Atlas). On a standalone server the
+//   subscription fails, a warning is logged and the cache TTL bounds staleness instead.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskCacheInvalidator {
+
+    // ================================
+    // Dependencies (Injected via Constructor)
+    // ================================
+    private final MessageListenerContainer messageListenerContainer; // Runs the change stream.
+    private final CacheManager cacheManager;                         // Provides the "tasks" and "tagFacets" caches.
+
+    // ================================
+    // Subscribe at Startup
+    // ================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        // Updates, replacements and deletes can make a cached task stale; inserts only affect tag facets.
+        Document onlyModifications = new Document("$match",
+                new Document("operationType", new Document("$in", List.of("insert", "update", "replace", "delete"))));
+
+        ChangeStreamRequest<Document> request = ChangeStreamRequest.builder(this::onChange)
+                .collection("Tasks")
+                .filter(onlyModifications)
+                .build();
+
+        messageListenerContainer.register(request, Document.class,
+                error -> log.warn("Task cache invalidation stream stopped, relying on TTL: {}", error.getMessage()));
+    }
+
+    // ================================
+    // Change Event Handler
+    // ================================
+    // Evicts the changed task id (documentKey only → no full document lookup needed)
+    // and clears the tag facets when the set of tags in the collection may have changed.
+    private void onChange(Message<ChangeStreamDocument<Document>, Document> message) {
+        ChangeStreamDocument<Document> change = message.getRaw();
+        if (change == null || change.getDocumentKey() == null) {
+            return;
+        }
+
+        if (change.getOperationType() != OperationType.INSERT) {
+            BsonValue id = change.getDocumentKey().get("_id");
+            String taskId = id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+            clear(CacheConfig.TASKS_CACHE, taskId);
+        }
+
+        if (affectsTags(change)) {
+            clear(CacheConfig.TAG_FACETS_CACHE, null);
+        }
+    }
+
+    // Updates only matter for facets when they set or remove the tags field.
+    private boolean affectsTags(ChangeStreamDocument<Document> change) {
+        if (change.getOperationType() != OperationType.UPDATE) {
+            return true;
+        }
+        UpdateDescription description = change.getUpdateDescription();
+        if (description == null) {
+            return true;
+        }
+        boolean tagsSet = description.getUpdatedFields() != null
+                && description.getUpdatedFields().keySet().stream().anyMatch(field -> field.startsWith("tags"));
+        boolean tagsRemoved = description.getRemovedFields() != null && description.getRemovedFields().contains("tags");
+        return tagsSet || tagsRemoved;
+    }
+
+    // Evicts one key, or the whole cache when key is null.
+    private void clear(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        if (key == null) {
+            cache.clear();
+        } else {
+            cache.evict(key);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.config;
+
+import com.example.task_service.taskModel.Task;          // Task entity whose index annotations are resolved.
+import lombok.RequiredArgsConstructor;                  // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;                       // Lombok → logging support.
+import org.springframework.boot.context.event.ApplicationReadyEvent; // Published once the application has started.
+import org.springframework.context.event.EventListener; // Marks a method as an application event listener.
+import org.springframework.data.mongodb.core.MongoTemplate; // Low-level MongoDB operations (index management).
+import org.springframework.data.mongodb.core.index.IndexOperations; // Index operations for a single collection.
+import org.springframework.data.mongodb.core.index.IndexResolver;   // Resolves @Indexed/@CompoundIndex annotations.
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver; // Default annotation-based resolver.
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext; // Mapping metadata for MongoDB entities.
+import org.springframework.stereotype.Component;        // Marks this class as a Spring-managed bean.
+
+// TaskIndexInitializer → Creates the indexes declared on Task when the service starts.
+// Purpose:
+// - Spring Data does not auto-create indexes by default.
+// - Without these indexes, status/assignee filtering and deadline/createdAt sorting would scan the whole collection.
+// - createIndex() is idempotent → existing indexes are left untouched.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskIndexInitializer {
+
+    // ================================
+    // Dependencies (Injected via Constructor)
+    // ================================
+    private final MongoTemplate mongoTemplate;             // Used to access index operations.
+    private final MongoMappingContext mongoMappingContext; // Used to resolve index annotations on Task.
+
+    // ================================
+    // Create Indexes at Startup
+    // ================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(Task.class);
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+
+        resolver.resolveIndexFor(Task.class).forEach(index -> {
+            String name = indexOps.createIndex(index);
+            log.info("Ensured index {} on Tasks collection", name);
+        });
+    }
+}
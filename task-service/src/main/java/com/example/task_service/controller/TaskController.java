@@ -1,18 +1,36 @@
 // Package declaration → groups related classes together.
 package com.example.task_service.controller;
 
+import com.example.task_service.dto.BulkItemResult;       // Per-item outcome of a bulk request.
+import com.example.task_service.dto.TaskAssignment;       // One (taskId, userId) pair of a bulk assignment.
+import com.example.task_service.dto.TaskPage;             // One page of tasks + cursor for the next page.
+import com.example.task_service.dto.TagCount;             // One tag facet entry (tag + count).
+import com.example.task_service.dto.TagFilter;            // Optional any-of / all-of tag condition.
+import com.example.task_service.dto.TaskStats;            // Task counts by status / assignee + overdue.
 import com.example.task_service.dto.UserDTO;              // DTO representing user details (from USER-SERVICE).
+import com.example.task_service.security.JwtAuthenticationFilter; // Puts the verified caller into the request.
 import com.example.task_service.enums.TaskStatus;         // Enum for task status (PENDING, ASSIGNED, DONE).
 import com.example.task_service.service.TaskService;      // Service interface for task operations.
-import com.example.task_service.service.UserServiceClient;// Feign client to call USER-SERVICE for user profile.
+import com.example.task_service.service.TaskStatsService; // Pre-aggregated task statistics.
 import com.example.task_service.taskModel.Task;           // Task entity mapped to MongoDB.
 import lombok.RequiredArgsConstructor;                    // Lombok → generates constructor for final fields.
 import lombok.extern.slf4j.Slf4j;                         // Lombok → logging support.
+import org.springframework.format.annotation.DateTimeFormat; // Parses ISO date-time request parameters.
+import org.springframework.http.HttpHeaders;              // Standard header names (If-Match).
 import org.springframework.http.HttpStatus;               // HTTP status codes.
+import org.springframework.http.MediaType;                // Content types (NDJSON for exports).
 import org.springframework.http.ResponseEntity;           // Represents HTTP responses.
 import org.springframework.web.bind.annotation.*;         // REST controller + mapping annotations.
+import org.springframework.web.context.request.WebRequest; // Evaluates If-None-Match (conditional GET).
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody; // Writes the body directly to the response stream.
+import tools.jackson.databind.json.JsonMapper;            // Jackson mapper (same configuration as the JSON endpoints).
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Iterator;
 import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
 
 // @RestController → Marks this class as a REST controller (returns JSON responses).
 // @RequestMapping("/api/tasks") → Base URL for task-related endpoints.
@@ -24,69 +42,291 @@ import java.util.List;
 @Slf4j
 public class TaskController {
 
+    // ================================
+    // Pagination Header
+    // ================================
+    // Response header carrying the cursor of the next page (absent on the last page).
+    // The body stays a plain JSON array, so existing clients keep working.
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    // ================================
+    // Bulk Limit
+    // ================================
+    // Maximum number of items accepted by one bulk request.
+    private static final int MAX_BULK_ITEMS = 1000;
+
     // ================================
     // Dependencies (Injected via Constructor)
     // ================================
     private final TaskService taskService;           // Provides task-related operations.
-    private final UserServiceClient userServiceClient; // Feign client to call USER-SERVICE for user profile.
+    private final TaskStatsService taskStatsService; // Provides the task statistics.
+    private final JsonMapper jsonMapper;             // Serializes tasks for the NDJSON export.
 
     // ================================
     // Create Task (POST /api/tasks)
     // ================================
     @PostMapping
     public ResponseEntity<Task> createTask(@RequestBody Task task,
-                                           @RequestHeader("Authorization") String jwt) throws Exception {
+                                           @RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user) throws Exception {
         log.info("Request to create task is received!");
 
-        // Step 1: Fetch user profile from USER-SERVICE using JWT.
-        UserDTO user = userServiceClient.getUserProfile(jwt);
-
-        // Step 2: Only admins can create tasks.
+        // Step 1: Only admins can create tasks (user resolved from the verified JWT by JwtAuthenticationFilter).
         if (!"ROLE_ADMIN".equals(user.role())) {
             log.warn("Unauthorized task creation attempted by user with email: {}", user.email());
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
 
-        // Step 3: Create task via TaskService.
+        // Step 2: Create task via TaskService.
         Task createdTask = taskService.create(task, user.role());
 
-        // Step 4: Return created task with HTTP 201 Created.
+        // Step 3: Return created task with HTTP 201 Created.
         return new ResponseEntity<>(createdTask, HttpStatus.CREATED);
     }
 
+    // ================================
+    // Create Tasks in Bulk (POST /api/tasks/bulk)
+    // ================================
+    // Purpose:
+    // - Create up to MAX_BULK_ITEMS tasks with one profile lookup and one bulk write.
+    // - Returns one BulkItemResult per task (index, generated id, success/error).
+    @PostMapping("/bulk")
+    public ResponseEntity<List<BulkItemResult>> createTasks(@RequestBody List<Task> tasks,
+                                                            @RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user) throws Exception {
+        log.info("Request to create {} tasks in bulk is received!", tasks.size());
+
+        if (tasks.isEmpty() || tasks.size() > MAX_BULK_ITEMS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Step 1: Role is checked once for the whole batch.
+        if (!"ROLE_ADMIN".equals(user.role())) {
+            log.warn("Unauthorized bulk task creation attempted by user with email: {}", user.email());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Step 2: Insert all tasks with one bulk write.
+        return ResponseEntity.ok(taskService.createTasks(tasks, user.role()));
+    }
+
+    // ================================
+    // Assign Tasks in Bulk (PUT /api/tasks/bulk/assign)
+    // ================================
+    // Purpose:
+    // - Assign up to MAX_BULK_ITEMS tasks with one profile lookup and one bulk write.
+    // - Body: [ { "taskId": "...", "userId": "..." }, ... ]
+    @PutMapping("/bulk/assign")
+    public ResponseEntity<List<BulkItemResult>> assignTasks(@RequestBody List<TaskAssignment> assignments,
+                                                            @RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user) {
+        if (assignments.isEmpty() || assignments.size() > MAX_BULK_ITEMS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Step 1: Role is checked once for the whole batch.
+        if (!"ROLE_ADMIN".equals(user.role())) {
+            log.warn("Unauthorized bulk assignment attempted by user with email: {}", user.email());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Step 2: Assign all tasks with one bulk write.
+        return ResponseEntity.ok(taskService.assignTasks(assignments));
+    }
+
     // ================================
     // Get Task by ID (GET /api/tasks/{id})
     // ================================
+    // Conditional GET:
+    // - ETag "<id>-<version>" (strong; the version changes on every write) + Last-Modified (updatedAt).
+    // - When If-None-Match / If-Modified-Since still match, Spring answers 304 without serializing the task.
     @GetMapping("/{id}")
     public ResponseEntity<Task> getTaskById(@PathVariable String id,
-                                            @RequestHeader("Authorization") String jwt) throws Exception {
-        if (jwt == null) {
-            throw new Exception("JWT is needed to get task by id.");
+                                            @RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user) throws Exception {
+        // `user` is only required → the request must carry a valid JWT.
+        Task task = taskService.getTaskById(id);
+        if (task == null) {
+            return ResponseEntity.notFound().build();
         }
 
-        Task task = taskService.getTaskById(id);
-        return task != null ? ResponseEntity.ok(task) : ResponseEntity.notFound().build();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag("\"" + task.getId() + "-" + (task.getVersion() == null ? 0 : task.getVersion()) + "\"");
+        LocalDateTime lastModified = task.getUpdatedAt() != null ? task.getUpdatedAt() : task.getCreatedAt();
+        if (lastModified != null) {
+            response.lastModified(lastModified.atZone(ZoneId.systemDefault()).toInstant());
+        }
+        return response.body(task);
     }
 
     // ================================
     // Get Assigned User's Tasks (GET /api/tasks)
     // ================================
+    // Pagination (optional):
+    // - limit → page size; after → value of X-Next-Cursor from the previous page.
+    // - Without limit/after/tags the full list is returned (previous behaviour).
+    // Tag filter (optional):
+    // - tags=a&tags=b → tasks with any of the tags; add tagMatch=all → tasks with every tag.
+    // Conditional GET:
+    // - ETag = task counters revision + user → If-None-Match answers 304 without querying the tasks.
+    // - No ETag (and never 304) while the revision is known to miss a task write (see TaskStatsService.currentRevision()).
     @GetMapping
-    public ResponseEntity<List<Task>> getAssignedUserTask(@RequestHeader("Authorization") String jwt,
+    public ResponseEntity<List<Task>> getAssignedUserTask(WebRequest request,
+                                                          @RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user,
                                                           @RequestParam(required = false) TaskStatus status,
+                                                          @RequestParam(required = false) List<String> tags,
+                                                          @RequestParam(required = false) String tagMatch,
                                                           @RequestParam(required = false) String sortByDeadline,
-                                                          @RequestParam(required = false) String sortByCreatedAt) throws Exception {
-        if (jwt == null) {
-            throw new Exception("JWT is required for getting assigned user tasks");
+                                                          @RequestParam(required = false) String sortByCreatedAt,
+                                                          @RequestParam(required = false) Integer limit,
+                                                          @RequestParam(required = false) String after) throws Exception {
+        // Step 1: Nothing written since the client's copy → 304 (no query, no serialization).
+        String eTag = listETag(user.id());
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
         }
 
-        // Step 1: Fetch user profile from USER-SERVICE.
-        UserDTO user = userServiceClient.getUserProfile(jwt);
-
         // Step 2: Fetch tasks assigned to this user with optional filters.
-        List<Task> tasks = taskService.assignedUsersTask(user.id(), status, sortByDeadline, sortByCreatedAt);
+        TagFilter tagFilter = TagFilter.of(tags, tagMatch);
+        if (limit == null && after == null && tagFilter == null) {
+            List<Task> tasks = taskService.assignedUsersTask(user.id(), status, sortByDeadline, sortByCreatedAt);
+            return pageResponse(new TaskPage(tasks, null), eTag);
+        }
+
+        // Step 3: Paginated variant → one page + next cursor header.
+        TaskPage page = taskService.assignedUsersTaskPage(user.id(), status, tagFilter, sortByDeadline, sortByCreatedAt,
+                limit, after);
+        return pageResponse(page, eTag);
+    }
+
+    // ================================
+    // Get All Tasks (GET /api/tasks/all) → Admin listing
+    // ================================
+    // Always paginated (keyset) → supports limit/after plus the same status/tags/sort parameters.
+    // Same conditional GET handling as GET /api/tasks.
+    @GetMapping("/all")
+    public ResponseEntity<List<Task>> getAllTasks(WebRequest request,
+                                                  @RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user,
+                                                  @RequestParam(required = false) TaskStatus status,
+                                                  @RequestParam(required = false) List<String> tags,
+                                                  @RequestParam(required = false) String tagMatch,
+                                                  @RequestParam(required = false) String sortByDeadline,
+                                                  @RequestParam(required = false) String sortByCreatedAt,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestParam(required = false) String after) {
+        // Step 1: Only admins can list every task.
+        if (!"ROLE_ADMIN".equals(user.role())) {
+            log.warn("Unauthorized task listing attempted by user with email: {}", user.email());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Step 2: Nothing written since the client's copy → 304.
+        String eTag = listETag(user.id());
+        if (eTag != null && request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        // Step 3: Fetch one page.
+        TaskPage page = taskService.getAllTasksPage(status, TagFilter.of(tags, tagMatch), sortByDeadline,
+                sortByCreatedAt, limit, after);
+        return pageResponse(page, eTag);
+    }
+
+    // ================================
+    // Task Statistics (GET /api/tasks/stats) → Admin only
+    // ================================
+    // Purpose:
+    // - Counts by status and by assignee + number of overdue open tasks.
+    // - Read from the counters document (kept up to date by every task write),
+    //   so dashboards no longer need to download the whole task list.
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStats> getTaskStats(@RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user) {
+        if (!"ROLE_ADMIN".equals(user.role())) {
+            log.warn("Unauthorized stats request attempted by user with email: {}", user.email());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(taskStatsService.getStats());
+    }
 
-        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    // ================================
+    // Tag Facets (GET /api/tasks/tags/facets)
+    // ================================
+    // Purpose:
+    // - Returns [{ "tag": "...", "count": n }, ...] for the current filter, most frequent first,
+    //   so clients can build a tag sidebar without downloading the task list.
+    // - Same filters as the listings: status, tags/tagMatch, assignedUserId (admins only; users see their own tasks).
+    @GetMapping("/tags/facets")
+    public ResponseEntity<List<TagCount>> getTagFacets(@RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user,
+                                                       @RequestParam(required = false) TaskStatus status,
+                                                       @RequestParam(required = false) String assignedUserId,
+                                                       @RequestParam(required = false) List<String> tags,
+                                                       @RequestParam(required = false) String tagMatch,
+                                                       @RequestParam(required = false) Integer limit) {
+        // Step 1: Non-admins only get counts over the tasks assigned to them.
+        String assignee = "ROLE_ADMIN".equals(user.role()) ? assignedUserId : user.id();
+
+        // Step 2: One aggregation (or a cache hit) for the whole facet list.
+        return ResponseEntity.ok(taskService.tagFacets(status, assignee, TagFilter.of(tags, tagMatch), limit));
+    }
+
+    // ================================
+    // Search Tasks (GET /api/tasks/search?q=...)
+    // ================================
+    // Purpose:
+    // - Full-text search over title, description and tags, best matches first.
+    // - Optional filters: status, assignedUserId (admins only; users always search their own tasks).
+    // - Keyset pagination: limit + after (value of X-Next-Cursor from the previous page).
+    @GetMapping("/search")
+    public ResponseEntity<List<Task>> searchTasks(@RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user,
+                                                  @RequestParam String q,
+                                                  @RequestParam(required = false) TaskStatus status,
+                                                  @RequestParam(required = false) String assignedUserId,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestParam(required = false) String after) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Step 1: Non-admins can only search the tasks assigned to them.
+        String assignee = "ROLE_ADMIN".equals(user.role()) ? assignedUserId : user.id();
+
+        // Step 2: Fetch one page of results.
+        TaskPage page = taskService.searchTasks(q, status, assignee, limit, after);
+        return pageResponse(page, null);
+    }
+
+    // ================================
+    // Export Tasks (GET /api/tasks/export) → Admin only, NDJSON
+    // ================================
+    // Purpose:
+    // - Streams every matching task as one JSON object per line (application/x-ndjson).
+    // - Tasks are read from a MongoDB cursor and written straight to the response,
+    //   so memory use does not grow with the size of the collection.
+    // Optional filters: status, assignedUserId, createdFrom / createdTo (ISO date-time).
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user,
+                                                             @RequestParam(required = false) TaskStatus status,
+                                                             @RequestParam(required = false) String assignedUserId,
+                                                             @RequestParam(required = false)
+                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                             @RequestParam(required = false)
+                                                             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo) {
+        // Step 1: Only admins can export tasks.
+        if (!"ROLE_ADMIN".equals(user.role())) {
+            log.warn("Unauthorized task export attempted by user with email: {}", user.email());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Step 2: Write tasks line by line while iterating the cursor (runs on an MVC async thread).
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<Task> tasks = taskService.exportTasks(status, assignedUserId, createdFrom, createdTo)) {
+                Iterator<Task> iterator = tasks.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(jsonMapper.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     // ================================
@@ -95,8 +335,7 @@ public class TaskController {
     @PutMapping("/{id}/user/{userId}/assigned")
     public ResponseEntity<Task> assignedTaskToUser(@PathVariable String id,
                                                    @PathVariable String userId,
-                                                   @RequestHeader("Authorization") String jwt) throws Exception {
-        UserDTO user = userServiceClient.getUserProfile(jwt);
+                                                   @RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user) throws Exception {
         Task task = taskService.assignedToUser(id, userId);
         return new ResponseEntity<>(task, HttpStatus.OK);
     }
@@ -104,15 +343,22 @@ public class TaskController {
     // ================================
     // Update Task (PUT /api/tasks/{id})
     // ================================
+    // Optimistic concurrency:
+    // - The expected version comes from If-Match (the "<id>-<version>" ETag of GET /api/tasks/{id}),
+    //   or from the body's "version" when no If-Match is sent.
+    // - Neither → 428 Precondition Required; an ETag of another task → 412; a stale version → 409.
     @PutMapping("/{id}")
     public ResponseEntity<Task> updateTask(@PathVariable String id,
                                            @RequestBody Task req,
-                                           @RequestHeader("Authorization") String jwt) throws Exception {
-        if (jwt == null) {
-            throw new Exception("JWT is required for updating the task.");
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                           @RequestAttribute(JwtAuthenticationFilter.USER_ATTRIBUTE) UserDTO user) throws Exception {
+        if (ifMatch != null) {
+            Long version = versionOf(id, ifMatch);
+            if (version == null) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            req.setVersion(version);
         }
-
-        UserDTO user = userServiceClient.getUserProfile(jwt);
         Task task = taskService.updateTask(id, req, user.id());
 
         return task != null ? new ResponseEntity<>(task, HttpStatus.OK)
@@ -132,12 +378,90 @@ public class TaskController {
         }
     }
 
+    // ================================
+    // Complete Tasks in Bulk (PUT /api/tasks/bulk/complete)
+    // ================================
+    // Purpose:
+    // - Called by TASK-SUBMISSION-SERVICE for a batch of accepted submissions → one round trip, one bulk write.
+    // - Body: [ "taskId1", "taskId2", ... ] (up to MAX_BULK_ITEMS).
+    // - Idempotent → tasks that are already DONE are left untouched (no version bump), so retries are harmless.
+    // - Service token (X-Service-Token) or an admin JWT required.
+    @PutMapping("/bulk/complete")
+    public ResponseEntity<List<BulkItemResult>> completeTasks(@RequestBody List<String> taskIds,
+                                                              @RequestAttribute(value = JwtAuthenticationFilter.SERVICE_ATTRIBUTE, required = false) Boolean service,
+                                                              @RequestAttribute(value = JwtAuthenticationFilter.USER_ATTRIBUTE, required = false) UserDTO user) {
+        if (!isServiceOrAdmin(service, user)) {
+            log.warn("Unauthorized bulk task completion attempted by {}", user == null ? "unknown caller" : user.email());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (taskIds.isEmpty() || taskIds.size() > MAX_BULK_ITEMS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(taskService.completeTasks(taskIds));
+    }
+
     // ================================
     // Complete Task (PUT /api/tasks/{id}/complete)
     // ================================
+    // Service token (X-Service-Token) or an admin JWT required.
     @PutMapping("/{id}/complete")
-    public ResponseEntity<Task> completeTask(@PathVariable String id) throws Exception {
+    public ResponseEntity<Task> completeTask(@PathVariable String id,
+                                             @RequestAttribute(value = JwtAuthenticationFilter.SERVICE_ATTRIBUTE, required = false) Boolean service,
+                                             @RequestAttribute(value = JwtAuthenticationFilter.USER_ATTRIBUTE, required = false) UserDTO user) throws Exception {
+        if (!isServiceOrAdmin(service, user)) {
+            log.warn("Unauthorized task completion attempted by {}", user == null ? "unknown caller" : user.email());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
         Task task = taskService.completeTask(id);
         return new ResponseEntity<>(task, HttpStatus.OK);
     }
+
+    // Internal callers authenticate with the service token (JwtAuthenticationFilter); users need ROLE_ADMIN.
+    private boolean isServiceOrAdmin(Boolean service, UserDTO user) {
+        return Boolean.TRUE.equals(service) || (user != null && "ROLE_ADMIN".equals(user.role()));
+    }
+
+    // ================================
+    // Pagination Helper
+    // ================================
+    // Returns the page as a JSON array and exposes the next cursor (and ETag, if any) as response headers.
+    private ResponseEntity<List<Task>> pageResponse(TaskPage page, String eTag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        return response.body(page.tasks());
+    }
+
+    // ================================
+    // If-Match Version
+    // ================================
+    // "<id>-<version>" ETag of this task → version; anything else (another task, "*", a list, weak) → null.
+    private static Long versionOf(String id, String ifMatch) {
+        String eTag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!eTag.startsWith(prefix) || !eTag.endsWith("\"") || eTag.length() <= prefix.length() + 1) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eTag.substring(prefix.length(), eTag.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // ================================
+    // Listing ETag
+    // ================================
+    // Strong ETag for task listings: the counters revision changes on every task write (any replica),
+    // the user id keeps different users' listings apart. The revision is read BEFORE the tasks,
+    // so a response is never tagged with a revision newer than its content.
+    // null → the revision missed a write (failed counter update) → respond without ETag.
+    private String listETag(String userId) {
+        OptionalLong revision = taskStatsService.currentRevision();
+        return revision.isEmpty() ? null : "\"tasks-" + revision.getAsLong() + "-" + userId + "\"";
+    }
 }
\ No newline at end of file
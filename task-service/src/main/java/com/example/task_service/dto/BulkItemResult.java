@@ -0,0 +1,27 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+// BulkItemResult → Outcome of one item of a bulk request.
+// Purpose:
+// - Bulk writes are unordered → one failing item does not stop the others.
+// - index → position of the item in the request body.
+// - id → task id (generated for created tasks).
+// - success / error → result of the item (error is null on success).
+public record BulkItemResult(
+        int index,
+        String id,
+        boolean success,
+        String error
+) {
+
+    // ================================
+    // Factory Methods
+    // ================================
+    public static BulkItemResult ok(int index, String id) {
+        return new BulkItemResult(index, id, true, null);
+    }
+
+    public static BulkItemResult failed(int index, String id, String error) {
+        return new BulkItemResult(index, id, false, error);
+    }
+}
@@ -0,0 +1,17 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+import java.util.Map;
+import java.util.Set;
+
+// BulkUpdateResult → Outcome of one conditional bulk write (see TaskRepositoryCustom.bulkComplete()).
+// - failures  → error message keyed by request index (unknown task, write error).
+// - unmatched → request indexes whose update matched nothing because the task changed concurrently.
+//   MongoDB only reports the matched total, so these are found by re-reading the tasks after the write.
+// - exact     → false when fewer unmatched updates were found than MongoDB reported (a concurrent write
+//   already left the task in the target state) → callers cannot attribute counter deltas per item.
+public record BulkUpdateResult(
+        Map<Integer, String> failures,
+        Set<Integer> unmatched,
+        boolean exact
+) { }
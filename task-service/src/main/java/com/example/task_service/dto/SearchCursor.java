@@ -0,0 +1,45 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+import com.example.task_service.exception.InvalidCursorException; // Thrown for malformed cursors (→ 400).
+import org.bson.types.ObjectId;                                   // Used to validate the _id part of the cursor.
+
+import java.nio.charset.StandardCharsets;                         // Charset for encoding the cursor.
+import java.util.Base64;                                          // URL-safe encoding of the cursor.
+
+// SearchCursor → Keyset position for full-text search results.
+// Purpose:
+// - Search results are ordered by (relevance score desc, _id asc) instead of a date field.
+// - Works like TaskCursor: the next page starts strictly after (score, id).
+public record SearchCursor(
+        double score, // Relevance score of the last task of the page.
+        String id     // _id of the last task (tiebreaker for equal scores).
+) {
+
+    // ================================
+    // Encode Cursor
+    // ================================
+    // Format (before Base64): score|id
+    public String encode() {
+        String raw = score + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ================================
+    // Decode Cursor
+    // ================================
+    // Throws InvalidCursorException if the cursor is malformed.
+    public static SearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 2 || !ObjectId.isValid(parts[1])) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+            return new SearchCursor(Double.parseDouble(parts[0]), parts[1]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,10 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+// TagCount → One entry of the tag facet response.
+// Example JSON:
+//   { "tag": "backend", "count": 42 }
+public record TagCount(
+        String tag, // Tag value.
+        long count  // Number of tasks matching the current filter that carry this tag.
+) { }
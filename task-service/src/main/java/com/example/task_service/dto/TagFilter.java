@@ -0,0 +1,26 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+import java.util.List;
+
+// TagFilter → Optional tag condition of a task listing or facet request.
+// Purpose:
+// - tags → tags to match (multikey index on Task.tags).
+// - matchAll → false = task has any of the tags ($in), true = task has all of them ($all).
+public record TagFilter(
+        List<String> tags,
+        boolean matchAll
+) {
+
+    // ================================
+    // Build from Request Parameters
+    // ================================
+    // tagMatch → "any" (default) or "all".
+    // Returns null when no tags were requested → no tag condition at all.
+    public static TagFilter of(List<String> tags, String tagMatch) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        return new TagFilter(List.copyOf(tags), "all".equalsIgnoreCase(tagMatch));
+    }
+}
@@ -0,0 +1,10 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+// TaskAssignment → One entry of a bulk assignment request.
+// Example JSON:
+//   { "taskId": "65f0c1...", "userId": "65e9a2..." }
+public record TaskAssignment(
+        String taskId, // ID of the task to assign.
+        String userId  // ID of the user receiving the task.
+) { }
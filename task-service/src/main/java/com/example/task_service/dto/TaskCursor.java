@@ -0,0 +1,63 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+import com.example.task_service.exception.InvalidCursorException; // Thrown for malformed cursors (→ 400).
+import com.example.task_service.taskModel.Task;                   // Task entity the cursor points at.
+import org.bson.types.ObjectId;                                   // Used to validate the _id part of the cursor.
+
+import java.nio.charset.StandardCharsets;                         // Charset for encoding the cursor.
+import java.time.LocalDateTime;                                   // Type of the sort fields (deadline, createdAt).
+import java.time.format.DateTimeParseException;                   // Thrown for malformed sort values.
+import java.util.Base64;                                          // URL-safe encoding of the cursor.
+
+// TaskCursor → Position of the last task of a page, used for keyset (cursor) pagination.
+// Purpose:
+// - Pages are ordered by (sortField, _id); the next page starts strictly after this pair.
+// - Unlike skip/offset, MongoDB seeks directly into the index, so deep pages cost the same as the first.
+// - Sent to clients as an opaque, URL-safe string (X-Next-Cursor header / "after" parameter).
+public record TaskCursor(
+        String sortField,        // Field the page is sorted by ("deadline" or "createdAt").
+        LocalDateTime sortValue, // Value of the sort field on the last task (may be null).
+        String id                // _id of the last task (tiebreaker for equal sort values).
+) {
+
+    // ================================
+    // Create Cursor from Task
+    // ================================
+    public static TaskCursor of(Task task, String sortField) {
+        LocalDateTime value = "deadline".equals(sortField) ? task.getDeadline() : task.getCreatedAt();
+        return new TaskCursor(sortField, value, task.getId());
+    }
+
+    // ================================
+    // Encode Cursor
+    // ================================
+    // Format (before Base64): sortField|sortValue|id  → e.g. "deadline|2025-01-31T10:00|65f0..."
+    public String encode() {
+        String raw = sortField + "|" + (sortValue == null ? "" : sortValue) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ================================
+    // Decode Cursor
+    // ================================
+    // Throws InvalidCursorException if the cursor is malformed or was issued for another sort field.
+    public static TaskCursor decode(String cursor, String expectedSortField) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 3 || !ObjectId.isValid(parts[2])) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+            if (!parts[0].equals(expectedSortField)) {
+                throw new InvalidCursorException("Cursor was issued for a different sort order");
+            }
+
+            LocalDateTime value = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+            return new TaskCursor(parts[0], value, parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+}
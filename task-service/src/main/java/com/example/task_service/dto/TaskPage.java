@@ -0,0 +1,15 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+import com.example.task_service.taskModel.Task; // Task entity mapped to MongoDB.
+
+import java.util.List;
+
+// TaskPage → One page of tasks returned by keyset pagination.
+// Purpose:
+// - tasks → the tasks of this page (in sort order).
+// - nextCursor → opaque cursor for the next page, or null when this is the last page.
+public record TaskPage(
+        List<Task> tasks,
+        String nextCursor
+) { }
@@ -0,0 +1,11 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+import com.example.task_service.taskModel.Task; // Task entity mapped to MongoDB.
+
+// TaskSearchHit → A task returned by full-text search together with its relevance score.
+// The score is only needed to build the next page's cursor.
+public record TaskSearchHit(
+        Task task,
+        double score
+) { }
@@ -0,0 +1,19 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.dto;
+
+import com.example.task_service.enums.TaskStatus; // Enum for task status (PENDING, ASSIGNED, DONE).
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// TaskStats → Response of GET /api/tasks/stats.
+// Example JSON:
+//   { "byStatus": { "PENDING": 12, "ASSIGNED": 30, "DONE": 85 },
+//     "byAssignee": { "65e9a2...": 7 }, "overdue": 4, "revision": 1289, "reconciledAt": "..." }
+public record TaskStats(
+        Map<TaskStatus, Long> byStatus, // Number of tasks per status.
+        Map<String, Long> byAssignee,   // Number of tasks per assigned user id.
+        long overdue,                   // Open (PENDING / ASSIGNED) tasks whose deadline has passed.
+        long revision,                  // Counter revision (changes whenever a task is written).
+        LocalDateTime reconciledAt      // Last reconciliation (null if it never ran).
+) { }
@@ -0,0 +1,21 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.exception;
+
+import org.springframework.http.HttpStatus;                      // HTTP status codes.
+import org.springframework.web.bind.annotation.ResponseStatus;   // Maps the exception to an HTTP status.
+
+// TaskConflictException → Thrown when an update carries a version that no longer matches the stored task
+// (someone else modified it first).
+// @ResponseStatus(HttpStatus.CONFLICT) → Spring answers with 409 → client should re-read and retry.
+@ResponseStatus(HttpStatus.CONFLICT)
+public class TaskConflictException extends Exception {
+
+    // ================================
+    // Constructor
+    // ================================
+    // Example usage:
+    //   throw new TaskConflictException("Task " + id + " was modified concurrently");
+    public TaskConflictException(String message) {
+        super(message);
+    }
+}
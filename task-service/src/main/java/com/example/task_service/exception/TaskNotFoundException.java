@@ -0,0 +1,20 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.exception;
+
+import org.springframework.http.HttpStatus;                      // HTTP status codes.
+import org.springframework.web.bind.annotation.ResponseStatus;   // Maps the exception to an HTTP status.
+
+// TaskNotFoundException → Thrown when a write targets a task id that does not exist.
+// @ResponseStatus(HttpStatus.NOT_FOUND) → Spring answers with 404.
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class TaskNotFoundException extends Exception {
+
+    // ================================
+    // Constructor
+    // ================================
+    // Example usage:
+    //   throw new TaskNotFoundException("Task not found with id: " + id);
+    public TaskNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.exception;
+
+import org.springframework.http.HttpStatus;                      // HTTP status codes.
+import org.springframework.web.bind.annotation.ResponseStatus;   // Maps the exception to an HTTP status.
+
+// TaskVersionRequiredException → Thrown when an update carries no version (neither If-Match nor "version").
+// @ResponseStatus(HttpStatus.PRECONDITION_REQUIRED) → Spring answers with 428 → client should GET the task
+// and send its ETag back as If-Match.
+@ResponseStatus(HttpStatus.PRECONDITION_REQUIRED)
+public class TaskVersionRequiredException extends Exception {
+
+    // ================================
+    // Constructor
+    // ================================
+    // Example usage:
+    //   throw new TaskVersionRequiredException("Updating task " + id + " requires If-Match or a version");
+    public TaskVersionRequiredException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.repository;
+
+import com.example.task_service.taskModel.TaskCounters; // Counters document mapped to MongoDB.
+import org.springframework.data.mongodb.repository.MongoRepository; // Spring Data MongoDB repository base interface.
+
+// TaskCountersRepository → Access to the TaskCounters document (statistics endpoint).
+// Reads go through findById(TaskCounters.GLOBAL_ID); writes through the atomic methods of TaskCountersRepositoryCustom.
+public interface TaskCountersRepository extends MongoRepository<TaskCounters, String>, TaskCountersRepositoryCustom {
+}
@@ -0,0 +1,25 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.repository;
+
+import java.util.Map;
+
+// TaskCountersRepositoryCustom → Atomic updates of the TaskCounters document.
+// The implementation lives in TaskCountersRepositoryCustomImpl.
+public interface TaskCountersRepositoryCustom {
+
+    // ================================
+    // Increment Counters
+    // ================================
+    // Purpose:
+    // - Apply all deltas with one upserted $inc (revision is incremented too).
+    // - statusDeltas → TaskStatus name → delta; assigneeDeltas → user id → delta.
+    void increment(Map<String, Long> statusDeltas, Map<String, Long> assigneeDeltas);
+
+    // ================================
+    // Replace Counters
+    // ================================
+    // Purpose:
+    // - Overwrite the counts with freshly computed values (reconciliation).
+    // - revision is incremented and reconciledAt set in the same write.
+    void replaceCounts(Map<String, Long> byStatus, Map<String, Long> byAssignee);
+}
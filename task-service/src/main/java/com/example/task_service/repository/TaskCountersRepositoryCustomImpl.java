@@ -0,0 +1,54 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.repository;
+
+import com.example.task_service.taskModel.TaskCounters; // Counters document mapped to MongoDB.
+import lombok.RequiredArgsConstructor;            // Lombok → generates constructor for final fields.
+import org.springframework.data.mongodb.core.MongoTemplate;     // Low-level MongoDB operations.
+import org.springframework.data.mongodb.core.query.Criteria;    // Builds MongoDB filter documents.
+import org.springframework.data.mongodb.core.query.Query;       // MongoDB query.
+import org.springframework.data.mongodb.core.query.Update;      // $inc / $set modifications.
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// TaskCountersRepositoryCustomImpl → Implementation of TaskCountersRepositoryCustom using MongoTemplate.
+@RequiredArgsConstructor
+public class TaskCountersRepositoryCustomImpl implements TaskCountersRepositoryCustom {
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final MongoTemplate mongoTemplate; // Provides atomic update support.
+
+    // ================================
+    // Increment Counters
+    // ================================
+    @Override
+    public void increment(Map<String, Long> statusDeltas, Map<String, Long> assigneeDeltas) {
+        Update update = new Update().inc("revision", 1);
+        statusDeltas.forEach((status, delta) -> update.inc("byStatus." + status, delta));
+        assigneeDeltas.forEach((userId, delta) -> update.inc("byAssignee." + userId, delta));
+
+        // Upsert → the document is created by the first write.
+        mongoTemplate.upsert(globalDocument(), update, TaskCounters.class);
+    }
+
+    // ================================
+    // Replace Counters
+    // ================================
+    @Override
+    public void replaceCounts(Map<String, Long> byStatus, Map<String, Long> byAssignee) {
+        Update update = new Update()
+                .set("byStatus", byStatus)
+                .set("byAssignee", byAssignee)
+                .set("reconciledAt", LocalDateTime.now())
+                .inc("revision", 1);
+
+        mongoTemplate.upsert(globalDocument(), update, TaskCounters.class);
+    }
+
+    // Query matching the single counters document.
+    private Query globalDocument() {
+        return new Query(Criteria.where("id").is(TaskCounters.GLOBAL_ID));
+    }
+}
@@ -1,16 +1,21 @@
 // Package declaration → groups related classes together.
 package com.example.task_service.repository;
 
+import com.example.task_service.enums.TaskStatus;        // Enum for task status (PENDING, ASSIGNED, DONE).
 import com.example.task_service.taskModel.Task;          // Task entity mapped to MongoDB.
+import org.springframework.data.domain.Sort;             // Sort order applied by MongoDB (not in memory).
 import org.springframework.data.mongodb.repository.MongoRepository; // Spring Data MongoDB repository base interface.
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 // TaskRepository → Interface for performing CRUD operations on Task collection in MongoDB.
 // Extends MongoRepository<Task, String>:
 // - Task → entity type.
 // - String → type of the primary key (id).
-public interface TaskRepository extends MongoRepository<Task, String> {
+// Also extends TaskRepositoryCustom → adds the hand-written keyset pagination queries.
+public interface TaskRepository extends MongoRepository<Task, String>, TaskRepositoryCustom {
 
     // ================================
     // Custom Query Method: Find Tasks by Assigned User
@@ -23,6 +28,39 @@ public interface TaskRepository extends MongoRepository<Task, String> {
     //   → returns all tasks where assignedUserId = "user123".
     public List<Task> findByAssignedUserId(String userId);
 
+    // ================================
+    // Custom Query Method: Find Tasks by Status (sorted)
+    // ================================
+    // Purpose:
+    // - Filter and sort tasks inside MongoDB instead of in the JVM.
+    // - Backed by the status_deadline / status_createdAt compound indexes.
+    // - A single status becomes an equality match; "any status" is passed as all enum values,
+    //   which lets MongoDB merge the sorted index ranges instead of sorting in memory.
+    // Example:
+    //   taskRepository.findByStatusIn(List.of(TaskStatus.PENDING), Sort.by("deadline"))
+    //   → { status: { $in: ["PENDING"] } } sorted by deadline ascending.
+    public List<Task> findByStatusIn(Collection<TaskStatus> statuses, Sort sort);
+
+    // ================================
+    // Custom Query Method: Find Tasks by Assigned User and Status (sorted)
+    // ================================
+    // Purpose:
+    // - Same as findByStatusIn(), scoped to one assignee.
+    // - Backed by the assignedUserId_status_deadline / assignedUserId_status_createdAt indexes.
+    // Example:
+    //   taskRepository.findByAssignedUserIdAndStatusIn("user123", List.of(TaskStatus.ASSIGNED), Sort.by("createdAt"))
+    public List<Task> findByAssignedUserIdAndStatusIn(String userId, Collection<TaskStatus> statuses, Sort sort);
+
+    // ================================
+    // Custom Query Method: Count Overdue Tasks
+    // ================================
+    // Purpose:
+    // - Count tasks in the given statuses whose deadline lies before `now` (statistics endpoint).
+    // - Served by the status_deadline_id index (count over an index range, no documents fetched).
+    // Example:
+    //   taskRepository.countByStatusInAndDeadlineBefore(List.of(PENDING, ASSIGNED), LocalDateTime.now())
+    public long countByStatusInAndDeadlineBefore(Collection<TaskStatus> statuses, LocalDateTime now);
+
     // ================================
     // Custom Query Method: Delete Task by ID
     // ================================
@@ -33,4 +71,4 @@ public interface TaskRepository extends MongoRepository<Task, String> {
     //   taskRepository.deleteById("63f1a2b4c9e77a1234567890")
     //   → deletes the task with that ID from MongoDB.
     public void deleteById(String id);
-}
\ No newline at end of file
+}
@@ -0,0 +1,142 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.repository;
+
+import com.example.task_service.dto.BulkUpdateResult; // Failures + unmatched items of a conditional bulk write.
+import com.example.task_service.dto.TaskAssignment; // One (taskId, userId) pair of a bulk assignment.
+import com.example.task_service.dto.SearchCursor; // Position after which the next search page starts.
+import com.example.task_service.dto.TaskCursor;   // Position after which the next page starts.
+import com.example.task_service.dto.TaskSearchHit; // Task + relevance score.
+import com.example.task_service.dto.TagCount;     // One tag facet entry (tag + count).
+import com.example.task_service.dto.TagFilter;    // Optional any-of / all-of tag condition.
+import com.example.task_service.enums.TaskStatus; // Enum for task status (PENDING, ASSIGNED, DONE).
+import com.example.task_service.taskModel.Task;   // Task entity mapped to MongoDB.
+import org.springframework.data.mongodb.core.query.Update; // $set / $inc modifications.
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// TaskRepositoryCustom → Custom repository fragment for queries that cannot be expressed
+// as derived query methods (dynamic criteria, keyset pagination).
+// Spring Data merges it into TaskRepository; the implementation lives in TaskRepositoryCustomImpl.
+public interface TaskRepositoryCustom {
+
+    // ================================
+    // Find Page (keyset pagination)
+    // ================================
+    // Purpose:
+    // - Fetch up to `limit` tasks ordered by (sortField, _id), starting strictly after `after`.
+    // - assignedUserId → optional assignee filter (null = all users).
+    // - statuses → status $in filter (all statuses + null when no filter was requested).
+    // - tagFilter → optional tag condition (null = any tags).
+    // - after → cursor of the previous page's last task (null = first page).
+    List<Task> findPage(String assignedUserId, Collection<TaskStatus> statuses, TagFilter tagFilter,
+                        String sortField, TaskCursor after, int limit);
+
+    // ================================
+    // Tag Facets
+    // ================================
+    // Purpose:
+    // - Count tasks per tag for the given filter with a single aggregation
+    //   ($match → $unwind tags → $group → $sort → $limit).
+    // - Most frequent tags first; at most `limit` entries.
+    List<TagCount> tagFacets(String assignedUserId, Collection<TaskStatus> statuses, TagFilter tagFilter, int limit);
+
+    // ================================
+    // Full-Text Search (keyset pagination)
+    // ================================
+    // Purpose:
+    // - Match `text` against the weighted text index (title, tags, description).
+    // - Combinable with the assignee and status filters.
+    // - Ordered by (relevance score desc, _id asc), starting strictly after `after`.
+    List<TaskSearchHit> search(String text, String assignedUserId, Collection<TaskStatus> statuses,
+                               SearchCursor after, int limit);
+
+    // ================================
+    // Stream Tasks (export)
+    // ================================
+    // Purpose:
+    // - Iterate over matching tasks through a MongoDB cursor, one batch at a time.
+    // - Memory use stays constant regardless of collection size.
+    // - createdFrom / createdTo → optional createdAt window (inclusive / exclusive).
+    // - The returned Stream holds an open cursor → callers must close it (try-with-resources).
+    Stream<Task> streamTasks(String assignedUserId, Collection<TaskStatus> statuses,
+                             LocalDateTime createdFrom, LocalDateTime createdTo);
+
+    // ================================
+    // Find and Update (single round trip)
+    // ================================
+    // Purpose:
+    // - Atomically apply `update` (only the changed fields) to one task and return the document
+    //   as it was BEFORE the write → callers know the previous status/assignee (statistics deltas)
+    //   and apply the same changes in memory to obtain the updated task.
+    // - The version field is incremented as part of the same write.
+    // - expectedVersion → optional; when set, the write only happens if the stored version matches.
+    // - Returns null when no task matched (missing id or version mismatch).
+    Task findAndUpdate(String id, Long expectedVersion, Update update);
+
+    // ================================
+    // Find and Remove (single round trip)
+    // ================================
+    // Purpose:
+    // - Atomically delete one task and return the deleted document (null if it did not exist).
+    Task findAndRemove(String id);
+
+    // ================================
+    // Find States
+    // ================================
+    // Purpose:
+    // - Fetch id, status and assignedUserId of the given tasks with one $in query (projection only).
+    // - Unknown or malformed ids are simply absent from the result.
+    List<Task> findStates(Collection<String> ids);
+
+    // ================================
+    // Count by Field
+    // ================================
+    // Purpose:
+    // - Count tasks grouped by one field (e.g. "status", "assignedUserId") with a single aggregation.
+    // - Tasks where the field is missing or null are not included.
+    Map<String, Long> countBy(String field);
+
+    // ================================
+    // Bulk Insert
+    // ================================
+    // Purpose:
+    // - Insert all tasks with one unordered bulk write (one round trip per driver batch).
+    // - Returns the failures keyed by index in `tasks` (empty map = everything inserted).
+    Map<Integer, String> bulkInsert(List<Task> tasks);
+
+    // ================================
+    // Bulk Assign
+    // ================================
+    // Purpose:
+    // - Assign many tasks with one unordered bulk write ($set assignee + status, $inc version).
+    // - currentStates → status and assignee of every known task as read by findStates(); other task ids are
+    //   reported as failures.
+    // - Conditional: each update only matches while the task still has the status and assignee that were read
+    //   → a concurrent change is never overwritten. A task repeated in the batch is written once (last assignment).
+    // - Returns the failures keyed by index in `assignments` and the indexes whose update matched nothing.
+    BulkUpdateResult bulkAssign(List<TaskAssignment> assignments, Map<String, Task> currentStates);
+
+    // ================================
+    // Bulk Complete
+    // ================================
+    // Purpose:
+    // - Mark many tasks as DONE with one unordered bulk write ($set status, $inc version).
+    // - currentStatuses → status of every known task as read by findStates(); other task ids are reported as failures.
+    // - Conditional: tasks that are already DONE are not written, and each update only matches while the task
+    //   still has the status that was read → a concurrent change is never overwritten or counted twice.
+    // - Returns the failures keyed by index in `taskIds` and the indexes whose update matched nothing
+    //   (the task changed after it was read and is not DONE) → callers retry those with findAndUpdateUnlessDone().
+    BulkUpdateResult bulkComplete(List<String> taskIds, Map<String, TaskStatus> currentStatuses);
+
+    // ================================
+    // Find and Update (unless DONE)
+    // ================================
+    // Purpose:
+    // - Like findAndUpdate(), but the write only happens while the task is not DONE (null status included).
+    // - Returns the document as it was BEFORE the write, or null when the task is missing or already DONE.
+    Task findAndUpdateUnlessDone(String id, Update update);
+}
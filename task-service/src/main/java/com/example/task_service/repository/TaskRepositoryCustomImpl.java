@@ -0,0 +1,429 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.repository;
+
+import com.example.task_service.dto.BulkUpdateResult; // Failures + unmatched items of a conditional bulk write.
+import com.example.task_service.dto.TaskAssignment; // One (taskId, userId) pair of a bulk assignment.
+import com.example.task_service.dto.SearchCursor; // Position after which the next search page starts.
+import com.example.task_service.dto.TaskCursor;   // Position after which the next page starts.
+import com.example.task_service.dto.TaskSearchHit; // Task + relevance score.
+import com.example.task_service.dto.TagCount;     // One tag facet entry (tag + count).
+import com.example.task_service.dto.TagFilter;    // Optional any-of / all-of tag condition.
+import com.example.task_service.enums.TaskStatus; // Enum for task status (PENDING, ASSIGNED, DONE).
+import com.example.task_service.taskModel.Task;   // Task entity mapped to MongoDB.
+import com.mongodb.bulk.BulkWriteError;           // One failed operation of a bulk write.
+import com.mongodb.bulk.BulkWriteResult;          // Matched count of a bulk write.
+import lombok.RequiredArgsConstructor;            // Lombok → generates constructor for final fields.
+import org.bson.Document;                         // Raw BSON document (aggregation results).
+import org.bson.types.ObjectId;                   // Task ids are stored as ObjectId in MongoDB.
+import org.springframework.data.domain.Sort;      // Sort order applied by MongoDB.
+import org.springframework.data.util.Pair;        // (filter, update) of one bulk operation.
+import org.springframework.data.mongodb.BulkOperationException;     // Thrown when some bulk operations fail.
+import org.springframework.data.mongodb.core.BulkOperations;        // Batches many writes into one request.
+import org.springframework.data.mongodb.core.FindAndModifyOptions;  // Options for findAndModify (return new document).
+import org.springframework.data.mongodb.core.MongoTemplate;         // Low-level MongoDB operations.
+import org.springframework.data.mongodb.core.aggregation.Aggregation;         // Aggregation pipeline builder.
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation; // One pipeline stage.
+import org.springframework.data.mongodb.core.query.Criteria;        // Builds MongoDB filter documents.
+import org.springframework.data.mongodb.core.query.Query;           // MongoDB query (filter + sort + limit).
+import org.springframework.data.mongodb.core.query.TextCriteria;    // $text search criteria.
+import org.springframework.data.mongodb.core.query.Update;          // $set / $inc modifications.
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+
+// TaskRepositoryCustomImpl → Implementation of TaskRepositoryCustom using MongoTemplate.
+// The "Impl" suffix lets Spring Data detect it and plug it into TaskRepository.
+@RequiredArgsConstructor
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    // ================================
+    // Export Cursor Batch Size
+    // ================================
+    private static final int EXPORT_BATCH_SIZE = 500; // Documents fetched per cursor round trip.
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final MongoTemplate mongoTemplate; // Provides dynamic query support.
+
+    // ================================
+    // Find Page (keyset pagination)
+    // ================================
+    @Override
+    public List<Task> findPage(String assignedUserId, Collection<TaskStatus> statuses, TagFilter tagFilter,
+                               String sortField, TaskCursor after, int limit) {
+        // Step 1: Equality filters first → they match the leading keys of the compound indexes.
+        Criteria criteria = filterCriteria(assignedUserId, statuses, tagFilter);
+
+        // Step 2: Seek past the previous page instead of skipping documents.
+        if (after != null) {
+            criteria = criteria.orOperator(afterCriteria(sortField, after));
+        }
+
+        // Step 3: Order by (sortField, _id) → unique, index-backed order.
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, sortField, "id"))
+                .limit(limit);
+
+        return mongoTemplate.find(query, Task.class);
+    }
+
+    // ================================
+    // Tag Facets
+    // ================================
+    @Override
+    public List<TagCount> tagFacets(String assignedUserId, Collection<TaskStatus> statuses, TagFilter tagFilter,
+                                    int limit) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                // Step 1: Same filter as the listing → served by the status / assignee / tags indexes.
+                Aggregation.match(filterCriteria(assignedUserId, statuses, tagFilter)),
+                // Step 2: Only the tags array travels through the rest of the pipeline.
+                Aggregation.project("tags").andExclude("_id"),
+                // Step 3: One document per (task, tag), then count per tag.
+                Aggregation.unwind("tags"),
+                Aggregation.group("tags").count().as("count"),
+                // Step 4: Most frequent tags first, ties broken by tag name for a stable order.
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "count").and(Sort.by(Sort.Direction.ASC, "_id"))),
+                Aggregation.limit(limit));
+
+        return mongoTemplate.aggregate(aggregation, "Tasks", Document.class)
+                .getMappedResults().stream()
+                .map(document -> new TagCount(document.getString("_id"), document.get("count", Number.class).longValue()))
+                .toList();
+    }
+
+    // ================================
+    // Full-Text Search (keyset pagination)
+    // ================================
+    @Override
+    public List<TaskSearchHit> search(String text, String assignedUserId, Collection<TaskStatus> statuses,
+                                      SearchCursor after, int limit) {
+        List<AggregationOperation> pipeline = new ArrayList<>();
+
+        // Step 1: $text must be the first stage → resolved through the text index.
+        pipeline.add(Aggregation.match(TextCriteria.forDefaultLanguage().matching(text)));
+
+        // Step 2: Assignee / status filters on the matched documents.
+        pipeline.add(Aggregation.match(equalityCriteria(assignedUserId, statuses)));
+
+        // Step 3: Expose the weighted relevance score as a regular field.
+        pipeline.add(context -> new Document("$addFields",
+                new Document("score", new Document("$meta", "textScore"))));
+
+        // Step 4: Seek past the previous page (score desc, _id asc).
+        if (after != null) {
+            ObjectId lastId = new ObjectId(after.id());
+            pipeline.add(Aggregation.match(new Criteria().orOperator(
+                    Criteria.where("score").lt(after.score()),
+                    Criteria.where("score").is(after.score()).and("_id").gt(lastId))));
+        }
+
+        // Step 5: Sort by score, then limit. $sort + $limit are coalesced into a top-k sort, which keeps only `limit`
+        // documents in memory; every $text match (after the filters above) is still scored and passes through the
+        // sort, so cost grows with the number of matches, not with `limit`.
+        pipeline.add(Aggregation.sort(Sort.by(Sort.Direction.DESC, "score").and(Sort.by(Sort.Direction.ASC, "_id"))));
+        pipeline.add(Aggregation.limit(limit));
+
+        return mongoTemplate.aggregate(Aggregation.newAggregation(pipeline), "Tasks", Document.class)
+                .getMappedResults().stream()
+                .map(document -> new TaskSearchHit(
+                        mongoTemplate.getConverter().read(Task.class, document),
+                        document.getDouble("score")))
+                .toList();
+    }
+
+    // ================================
+    // Stream Tasks (export)
+    // ================================
+    @Override
+    public Stream<Task> streamTasks(String assignedUserId, Collection<TaskStatus> statuses,
+                                    LocalDateTime createdFrom, LocalDateTime createdTo) {
+        // Same leading equality filters as findPage() → createdAt range is served by the (..., status, createdAt) indexes.
+        Criteria criteria = equalityCriteria(assignedUserId, statuses);
+
+        if (createdFrom != null || createdTo != null) {
+            Criteria createdAt = criteria.and("createdAt");
+            if (createdFrom != null) {
+                createdAt = createdAt.gte(createdFrom);
+            }
+            if (createdTo != null) {
+                createdAt = createdAt.lt(createdTo);
+            }
+            criteria = createdAt;
+        }
+
+        Query query = new Query(criteria).cursorBatchSize(EXPORT_BATCH_SIZE);
+        return mongoTemplate.stream(query, Task.class);
+    }
+
+    // ================================
+    // Find and Update (single round trip)
+    // ================================
+    @Override
+    public Task findAndUpdate(String id, Long expectedVersion, Update update) {
+        // Match by id (and version when the caller supplied one).
+        Criteria criteria = Criteria.where("id").is(id);
+        if (expectedVersion != null) {
+            criteria = criteria.and("version").is(expectedVersion);
+        }
+
+        // $set only the changed fields + $inc version, then return the document as it was before the write.
+        return mongoTemplate.findAndModify(
+                new Query(criteria),
+                update.inc("version", 1),
+                FindAndModifyOptions.options().returnNew(false),
+                Task.class);
+    }
+
+    // ================================
+    // Find and Remove (single round trip)
+    // ================================
+    @Override
+    public Task findAndRemove(String id) {
+        return mongoTemplate.findAndRemove(new Query(Criteria.where("id").is(id)), Task.class);
+    }
+
+    // ================================
+    // Find States
+    // ================================
+    @Override
+    public List<Task> findStates(Collection<String> ids) {
+        List<ObjectId> objectIds = ids.stream()
+                .filter(id -> id != null && ObjectId.isValid(id))
+                .map(ObjectId::new)
+                .toList();
+
+        Query query = new Query(Criteria.where("id").in(objectIds));
+        query.fields().include("id", "status", "assignedUserId");
+        return mongoTemplate.find(query, Task.class);
+    }
+
+    // ================================
+    // Count by Field
+    // ================================
+    @Override
+    public Map<String, Long> countBy(String field) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where(field).ne(null)),
+                Aggregation.group(field).count().as("count"));
+
+        Map<String, Long> counts = new HashMap<>();
+        mongoTemplate.aggregate(aggregation, "Tasks", Document.class).getMappedResults()
+                .forEach(document -> counts.put(String.valueOf(document.get("_id")),
+                        document.get("count", Number.class).longValue()));
+        return counts;
+    }
+
+    // ================================
+    // Bulk Insert
+    // ================================
+    @Override
+    public Map<Integer, String> bulkInsert(List<Task> tasks) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class)
+                    .insert(tasks)
+                    .execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            // Unordered → the remaining inserts were still applied; report only the failed indexes.
+            return errorsByIndex(e, index -> index);
+        }
+    }
+
+    // ================================
+    // Bulk Assign
+    // ================================
+    @Override
+    public BulkUpdateResult bulkAssign(List<TaskAssignment> assignments, Map<String, Task> currentStates) {
+        LocalDateTime now = LocalDateTime.now();
+        // Repeated task ids → only the last assignment of each task is written (it decides the final state).
+        Map<String, TaskAssignment> latest = new HashMap<>();
+        assignments.forEach(assignment -> latest.put(assignment.taskId(), assignment));
+        return bulkUpdate(assignments, TaskAssignment::taskId, currentStates.keySet(), assignment -> {
+            if (latest.get(assignment.taskId()) != assignment) {
+                return null;
+            }
+            // Only applies while the task still has the status and assignee that were read.
+            Task current = currentStates.get(assignment.taskId());
+            return Pair.of(
+                    new Query(Criteria.where("id").is(assignment.taskId())
+                            .and("status").is(current.getStatus())
+                            .and("assignedUserId").is(current.getAssignedUserId())),
+                    new Update()
+                            .set("assignedUserId", assignment.userId())
+                            .set("status", TaskStatus.ASSIGNED)
+                            .set("updatedAt", now)
+                            .inc("version", 1));
+        }, (assignment, state) -> state.getStatus() == TaskStatus.ASSIGNED
+                && Objects.equals(assignment.userId(), state.getAssignedUserId()));
+    }
+
+    // ================================
+    // Bulk Complete
+    // ================================
+    @Override
+    public BulkUpdateResult bulkComplete(List<String> taskIds, Map<String, TaskStatus> currentStatuses) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> queued = new HashSet<>();
+        return bulkUpdate(taskIds, taskId -> taskId, currentStatuses.keySet(), taskId -> {
+            // Already DONE or repeated in this batch → nothing to write (no version bump, no updatedAt).
+            TaskStatus current = currentStatuses.get(taskId);
+            if (current == TaskStatus.DONE || !queued.add(taskId)) {
+                return null;
+            }
+            // Only applies while the task still has the status that was read (→ never DONE).
+            return Pair.of(
+                    new Query(Criteria.where("id").is(taskId).and("status").is(current)),
+                    new Update()
+                            .set("status", TaskStatus.DONE)
+                            .set("updatedAt", now)
+                            .inc("version", 1));
+        }, (taskId, state) -> state.getStatus() == TaskStatus.DONE);
+    }
+
+    // ================================
+    // Find and Update (unless DONE)
+    // ================================
+    @Override
+    public Task findAndUpdateUnlessDone(String id, Update update) {
+        // $ne also matches a null/missing status → only DONE tasks are left alone.
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("id").is(id).and("status").ne(TaskStatus.DONE)),
+                update.inc("version", 1),
+                FindAndModifyOptions.options().returnNew(false),
+                Task.class);
+    }
+
+    // ================================
+    // Bulk Update Helper
+    // ================================
+    // One updateOne per item, all in one unordered bulk write.
+    // - Items whose task id is not in existingIds are reported as "Task not found" and not written.
+    // - operationOf → (filter, update) of one item, or null when the item needs no write.
+    // - applied → whether a task re-read after the write is in the state the item's update produces.
+    // - Write errors are mapped back to request indexes. When fewer updates matched than were sent, the
+    //   written tasks are re-read once and the items whose task is not in the expected state are reported
+    //   as unmatched.
+    private <T> BulkUpdateResult bulkUpdate(List<T> items, Function<T, String> taskIdOf, Set<String> existingIds,
+                                            Function<T, Pair<Query, Update>> operationOf,
+                                            BiPredicate<T, Task> applied) {
+        Map<Integer, String> failures = new HashMap<>();
+
+        // Step 1: Queue one updateOne per known task; remember which request index each operation came from.
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        List<Integer> operationIndexes = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            T item = items.get(i);
+            String taskId = taskIdOf.apply(item);
+            if (!existingIds.contains(taskId)) {
+                failures.put(i, "Task not found with id: " + taskId);
+                continue;
+            }
+            Pair<Query, Update> operation = operationOf.apply(item);
+            if (operation == null) {
+                continue;
+            }
+            bulk.updateOne(operation.getFirst(), operation.getSecond());
+            operationIndexes.add(i);
+        }
+
+        // Step 2: Execute everything in one bulk write.
+        if (operationIndexes.isEmpty()) {
+            return new BulkUpdateResult(failures, Set.of(), true);
+        }
+        BulkWriteResult result;
+        int errors = 0;
+        try {
+            result = bulk.execute();
+        } catch (BulkOperationException e) {
+            failures.putAll(errorsByIndex(e, operationIndexes::get));
+            result = e.getResult();
+            errors = e.getErrors().size();
+        }
+        long missed = operationIndexes.size() - errors - result.getMatchedCount();
+        if (missed <= 0) {
+            return new BulkUpdateResult(failures, Set.of(), true);
+        }
+
+        // Step 3: Some filters matched nothing → re-read the written tasks (one projected $in query) to find them.
+        List<Integer> written = operationIndexes.stream().filter(index -> !failures.containsKey(index)).toList();
+        Map<String, Task> states = new HashMap<>();
+        findStates(written.stream().map(index -> taskIdOf.apply(items.get(index))).toList())
+                .forEach(task -> states.put(task.getId(), task));
+        Set<Integer> unmatched = new HashSet<>();
+        for (int index : written) {
+            T item = items.get(index);
+            Task state = states.get(taskIdOf.apply(item));
+            if (state == null || !applied.test(item, state)) {
+                unmatched.add(index);
+            }
+        }
+        return new BulkUpdateResult(failures, unmatched, unmatched.size() >= missed);
+    }
+
+    // Maps the errors of a bulk write back to request indexes.
+    private Map<Integer, String> errorsByIndex(BulkOperationException e,
+                                               IntUnaryOperator toRequestIndex) {
+        Map<Integer, String> failures = new HashMap<>();
+        for (BulkWriteError error : e.getErrors()) {
+            failures.put(toRequestIndex.applyAsInt(error.getIndex()), error.getMessage());
+        }
+        return failures;
+    }
+
+    // ================================
+    // Equality Filters
+    // ================================
+    // Optional assignee + status $in → leading keys of every Task compound index.
+    private Criteria equalityCriteria(String assignedUserId, Collection<TaskStatus> statuses) {
+        Criteria criteria = new Criteria();
+        if (assignedUserId != null) {
+            criteria = criteria.and("assignedUserId").is(assignedUserId);
+        }
+        return criteria.and("status").in(statuses);
+    }
+
+    // Equality filters + optional tag condition ($in = any of the tags, $all = every tag).
+    private Criteria filterCriteria(String assignedUserId, Collection<TaskStatus> statuses, TagFilter tagFilter) {
+        Criteria criteria = equalityCriteria(assignedUserId, statuses);
+        if (tagFilter == null) {
+            return criteria;
+        }
+        return tagFilter.matchAll()
+                ? criteria.and("tags").all(tagFilter.tags())
+                : criteria.and("tags").in(tagFilter.tags());
+    }
+
+    // ================================
+    // Keyset Condition
+    // ================================
+    // Matches tasks that come after (sortValue, id) in ascending (sortField, _id) order.
+    // MongoDB sorts null/missing values before any date, which the null branch mirrors.
+    // Package-private and static → covered by unit tests without a database.
+    static Criteria[] afterCriteria(String sortField, TaskCursor after) {
+        ObjectId lastId = new ObjectId(after.id());
+
+        if (after.sortValue() == null) {
+            return new Criteria[]{
+                    Criteria.where(sortField).is(null).and("id").gt(lastId),
+                    Criteria.where(sortField).ne(null)
+            };
+        }
+
+        return new Criteria[]{
+                Criteria.where(sortField).gt(after.sortValue()),
+                Criteria.where(sortField).is(after.sortValue()).and("id").gt(lastId)
+        };
+    }
+}
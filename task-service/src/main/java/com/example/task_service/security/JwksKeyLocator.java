@@ -0,0 +1,111 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.security;
+
+import com.example.task_service.service.UserServiceClient; // Feign client → GET /.well-known/jwks.json on USER-SERVICE.
+import io.jsonwebtoken.JwsHeader;                     // Signed token header (carries the "kid").
+import io.jsonwebtoken.LocatorAdapter;                // Locator base class with a JWS-specific hook.
+import lombok.extern.slf4j.Slf4j;                     // Lombok → logging support.
+import org.springframework.beans.factory.annotation.Value; // Injects configuration values.
+import org.springframework.stereotype.Component;      // Marks this class as a Spring-managed bean.
+import tools.jackson.databind.JsonNode;               // JWKS document as a JSON tree.
+import tools.jackson.databind.json.JsonMapper;        // Parses the JWKS document.
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+// JwksKeyLocator → Supplies the public key for a token's "kid" from USER-SERVICE's JWKS.
+// Purpose:
+// - USER-SERVICE signs with RS256 and rotates keys; it publishes the public keys at /.well-known/jwks.json.
+// - The key set is fetched once and cached → verification is local and needs no shared secret.
+// - Refetched when older than `jwt.jwks.cache-ttl`, or when a token names an unknown kid (new key after a
+//   rotation), but at most once per `jwt.jwks.min-refresh-interval` → random kids cannot flood USER-SERVICE.
+// - A failed fetch keeps the previous key set (tokens signed with known keys keep working).
+@Component
+@Slf4j
+public class JwksKeyLocator extends LocatorAdapter<Key> {
+
+    // ================================
+    // Dependencies / Configuration
+    // ================================
+    private final UserServiceClient userServiceClient;
+    private final JsonMapper jsonMapper;
+    private final Duration cacheTtl;           // Maximum age of the cached key set.
+    private final Duration minRefreshInterval; // Minimum time between two fetches.
+
+    // ================================
+    // State
+    // ================================
+    private volatile Map<String, PublicKey> keys = Map.of(); // kid → public key.
+    private volatile Instant fetchedAt = Instant.EPOCH;      // Last successful fetch.
+    private volatile Instant attemptedAt = Instant.EPOCH;    // Last fetch attempt.
+
+    public JwksKeyLocator(UserServiceClient userServiceClient,
+                          JsonMapper jsonMapper,
+                          @Value("${jwt.jwks.cache-ttl:10m}") Duration cacheTtl,
+                          @Value("${jwt.jwks.min-refresh-interval:30s}") Duration minRefreshInterval) {
+        this.userServiceClient = userServiceClient;
+        this.jsonMapper = jsonMapper;
+        this.cacheTtl = cacheTtl;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    // ================================
+    // Locate Key
+    // ================================
+    // null → the parser rejects the token (unknown kid or no kid at all).
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            return null;
+        }
+        Instant now = Instant.now();
+        PublicKey key = keys.get(kid);
+        if (key == null || now.isAfter(fetchedAt.plus(cacheTtl))) {
+            refresh(now);
+            key = keys.get(kid);
+        }
+        return key;
+    }
+
+    // ================================
+    // Fetch Key Set
+    // ================================
+    private synchronized void refresh(Instant now) {
+        // Another thread refreshed while this one waited, or the last attempt was too recent.
+        if (now.isBefore(attemptedAt.plus(minRefreshInterval))) {
+            return;
+        }
+        attemptedAt = now;
+        try {
+            JsonNode jwks = jsonMapper.readTree(userServiceClient.getJwks());
+            Map<String, PublicKey> loaded = new HashMap<>();
+            for (JsonNode jwk : jwks.path("keys")) {
+                if ("RSA".equals(jwk.path("kty").asString()) && jwk.hasNonNull("kid")) {
+                    loaded.put(jwk.get("kid").asString(), rsaKey(jwk));
+                }
+            }
+            keys = Map.copyOf(loaded);
+            fetchedAt = now;
+            log.info("Loaded {} JWT verification keys from USER-SERVICE", loaded.size());
+        } catch (RuntimeException | GeneralSecurityException e) {
+            log.warn("Could not refresh JWKS, keeping {} cached keys: {}", keys.size(), e.getMessage());
+        }
+    }
+
+    // n / e → Base64url, unsigned big-endian.
+    private PublicKey rsaKey(JsonNode jwk) throws GeneralSecurityException {
+        BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asString()));
+        BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asString()));
+        return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+    }
+}
@@ -0,0 +1,145 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.security;
+
+import com.example.task_service.dto.UserDTO;          // DTO representing user details (from USER-SERVICE).
+import io.jsonwebtoken.Claims;                        // Represents the payload (claims) inside JWT.
+import io.jsonwebtoken.JwtException;                  // Invalid signature, expired or malformed token.
+import io.jsonwebtoken.JwtParser;                     // Thread-safe, reusable JWT parser.
+import io.jsonwebtoken.Jwts;                          // Utility class for parsing JWT tokens.
+import jakarta.servlet.FilterChain;                   // Represents the chain of filters in a request.
+import jakarta.servlet.ServletException;              // Exception for servlet errors.
+import jakarta.servlet.http.HttpServletRequest;       // Represents incoming HTTP request.
+import jakarta.servlet.http.HttpServletResponse;      // Represents outgoing HTTP response.
+import lombok.extern.slf4j.Slf4j;                     // Lombok → logging support.
+import org.springframework.beans.factory.annotation.Value; // Injects the shared service token.
+import org.springframework.stereotype.Component;      // Registers the filter as a bean (and servlet filter).
+import org.springframework.web.filter.OncePerRequestFilter; // Ensures filter runs once per request.
+
+import java.io.IOException;                           // Exception for I/O errors.
+import java.nio.charset.StandardCharsets;             // Token bytes for the constant-time comparison.
+import java.security.MessageDigest;                   // Constant-time comparison of the service token.
+import java.util.regex.Pattern;                       // Paths that accept the service token.
+
+// JwtAuthenticationFilter → Verifies the caller's JWT locally instead of asking USER-SERVICE on every request.
+// Purpose:
+// - Checks the RS256 signature and expiry of "Authorization: Bearer <jwt>" with the public key named by
+//   the token's "kid" header (JwksKeyLocator → cached JWKS of USER-SERVICE).
+// - Reads the email claim and resolves the full user (id, role, ...) through UserProfileResolver,
+//   which serves repeated requests from a TTL cache and only calls USER-SERVICE on a miss.
+// - Stores the user as request attribute USER_ATTRIBUTE → controllers use @RequestAttribute.
+// - Service-to-service calls (TASK-SUBMISSION-SERVICE completing tasks) send "X-Service-Token" instead of a JWT;
+//   a token equal to `task.auth.service-token` sets SERVICE_ATTRIBUTE. Only PUT on the completion endpoints
+//   accepts it; a service token on any other request → 403.
+// - Requests without any credential → 401, except the public paths (GET /tasks, /actuator/**, /error).
+// - Invalid or expired tokens → 401 Unauthorized.
+@Component
+@Slf4j
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    // ================================
+    // Constants
+    // ================================
+    public static final String USER_ATTRIBUTE = "authenticatedUser"; // Request attribute holding the UserDTO.
+    public static final String SERVICE_ATTRIBUTE = "authenticatedService"; // Request attribute set for service calls.
+    public static final String SERVICE_TOKEN_HEADER = "X-Service-Token";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // ================================
+    // Dependencies
+    // ================================
+    private final JwtParser jwtParser;                   // Built once; verifies the RS256 signature + expiry.
+    private final UserProfileResolver userProfileResolver; // email → UserDTO (cached).
+    private final byte[] serviceToken;                   // Shared secret of internal callers; empty → none accepted.
+
+    public JwtAuthenticationFilter(JwksKeyLocator jwksKeyLocator,
+                                   UserProfileResolver userProfileResolver,
+                                   @Value("${task.auth.service-token:}") String serviceToken) {
+        this.jwtParser = Jwts.parser()
+                .keyLocator(jwksKeyLocator)
+                .build();
+        this.userProfileResolver = userProfileResolver;
+        this.serviceToken = serviceToken.getBytes(StandardCharsets.UTF_8);
+        if (serviceToken.isEmpty()) {
+            log.warn("task.auth.service-token (TASK_SERVICE_TOKEN) is not set → task completion by other services is rejected");
+        }
+    }
+
+    // ================================
+    // Public Paths
+    // ================================
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals("/tasks") || path.equals("/error") || path.startsWith("/actuator");
+    }
+
+    // ================================
+    // Service Token Paths
+    // ================================
+    // PUT /api/tasks/bulk/complete and PUT /api/tasks/{id}/complete ("bulk" fills the {id} segment)
+    // → the only endpoints internal callers use.
+    private static final Pattern SERVICE_PATHS = Pattern.compile("/api/tasks/[^/]+/complete");
+
+    private boolean acceptsServiceToken(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return "PUT".equals(request.getMethod()) && SERVICE_PATHS.matcher(path).matches();
+    }
+
+    // ================================
+    // Core Filter Logic
+    // ================================
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        // Step 1: Service credential → checked against the configured token; no user is resolved.
+        // Only the completion endpoints accept it; anywhere else it would skip every user-based check.
+        String service = request.getHeader(SERVICE_TOKEN_HEADER);
+        if (service != null) {
+            if (!acceptsServiceToken(request)) {
+                log.warn("Rejected service token for {} {}", request.getMethod(), request.getRequestURI());
+                response.sendError(HttpServletResponse.SC_FORBIDDEN, "Service token not accepted for this endpoint");
+                return;
+            }
+            if (serviceToken.length == 0
+                    || !MessageDigest.isEqual(serviceToken, service.getBytes(StandardCharsets.UTF_8))) {
+                log.warn("Rejected invalid service token for {} {}", request.getMethod(), request.getRequestURI());
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid service token");
+                return;
+            }
+            request.setAttribute(SERVICE_ATTRIBUTE, Boolean.TRUE);
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Step 2: No bearer token → rejected.
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Missing token");
+            return;
+        }
+
+        // Step 3: Verify signature + expiry locally and read the email claim.
+        String email;
+        try {
+            Claims claims = jwtParser.parseSignedClaims(header.substring(BEARER_PREFIX.length())).getPayload();
+            email = claims.get("email", String.class);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Rejected invalid JWT: {}", e.getMessage());
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid token");
+            return;
+        }
+        if (email == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Token has no email claim");
+            return;
+        }
+
+        // Step 4: Resolve the user (TTL cache, USER-SERVICE only on a miss).
+        UserDTO user = userProfileResolver.resolve(email, header);
+        request.setAttribute(USER_ATTRIBUTE, user);
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,76 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.security;
+
+import com.example.task_service.config.CacheConfig;      // Cache names.
+import com.example.task_service.dto.UserDTO;            // DTO representing user details (from USER-SERVICE).
+import com.example.task_service.service.UserServiceClient; // Feign client → USER-SERVICE.
+import com.github.benmanes.caffeine.cache.Cache;        // Native Caffeine cache behind the Spring cache.
+import io.micrometer.core.instrument.Counter;           // Monotonic counter metric.
+import io.micrometer.core.instrument.Gauge;             // Sampled value metric (hit ratio).
+import io.micrometer.core.instrument.MeterRegistry;     // Registry the metrics are published to (actuator).
+import org.springframework.cache.CacheManager;          // Owns the userProfiles cache (size + TTL from CacheConfig).
+import org.springframework.cache.caffeine.CaffeineCache; // Spring wrapper around the Caffeine cache.
+import org.springframework.stereotype.Component;        // Marks this class as a Spring-managed bean.
+
+// UserProfileResolver → Maps the email of a verified JWT to the user's profile.
+// Purpose:
+// - The token only carries the email; task endpoints need the user id and role.
+// - Results are cached per email (the userProfiles Caffeine cache of CacheConfig, with TTL) → USER-SERVICE
+//   is only called on a miss, and a refreshed token of the same user still hits.
+// - cache.get(key, loader) → Caffeine runs the loader once per email; concurrent misses wait for that result.
+//   Failed or null lookups are not cached.
+// - Profile changes (e.g. role) become visible once the entry expires (task.auth.user-cache.ttl).
+// - Metrics: cache.* for cache "userProfiles" (bound by actuator), user.profile.cache.hit.ratio,
+//   user.profile.remote.calls and user.profile.cache.coalesced (misses that joined an in-flight lookup).
+@Component
+public class UserProfileResolver {
+
+    // ================================
+    // Dependencies / State
+    // ================================
+    private final UserServiceClient userServiceClient; // Called on a cache miss.
+    private final Cache<Object, Object> cache;         // email → profile.
+    private final Counter remoteCalls;                 // Calls actually sent to USER-SERVICE.
+    private final Counter coalesced;                   // Misses answered by another caller's lookup.
+
+    public UserProfileResolver(UserServiceClient userServiceClient,
+                               CacheManager cacheManager,
+                               MeterRegistry meterRegistry) {
+        this.userServiceClient = userServiceClient;
+        this.cache = ((CaffeineCache) cacheManager.getCache(CacheConfig.USER_PROFILES_CACHE)).getNativeCache();
+
+        Gauge.builder("user.profile.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of profile lookups answered from the email cache")
+                .register(meterRegistry);
+        this.remoteCalls = Counter.builder("user.profile.remote.calls")
+                .description("Profile lookups sent to USER-SERVICE")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("user.profile.cache.coalesced")
+                .description("Profile lookups that missed and waited for a concurrent USER-SERVICE call")
+                .register(meterRegistry);
+    }
+
+    // ================================
+    // Resolve User
+    // ================================
+    // email → cache key (the same user with a fresh token still hits).
+    // jwt → forwarded to USER-SERVICE on a miss (it identifies the user there).
+    // Exceptions of the USER-SERVICE call (e.g. FeignException) reach every waiting caller unchanged.
+    public UserDTO resolve(String email, String jwt) {
+        // Quiet lookup → does not touch the hit/miss statistics.
+        boolean miss = cache.policy().getIfPresentQuietly(email) == null;
+        boolean[] loaded = {false};
+        try {
+            return (UserDTO) cache.get(email, key -> {
+                loaded[0] = true;
+                remoteCalls.increment();
+                return userServiceClient.getUserProfile(jwt);
+            });
+        } finally {
+            // Missed, but another caller's loader produced the result (or the error) → coalesced.
+            if (miss && !loaded[0]) {
+                coalesced.increment();
+            }
+        }
+    }
+}
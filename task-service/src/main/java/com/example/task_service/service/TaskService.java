@@ -1,10 +1,17 @@
 // Package declaration → groups related classes together.
 package com.example.task_service.service;
 
+import com.example.task_service.dto.BulkItemResult; // Per-item outcome of a bulk request.
+import com.example.task_service.dto.TaskAssignment; // One (taskId, userId) pair of a bulk assignment.
+import com.example.task_service.dto.TaskPage;     // One page of tasks + cursor for the next page.
+import com.example.task_service.dto.TagCount;     // One tag facet entry (tag + count).
+import com.example.task_service.dto.TagFilter;    // Optional any-of / all-of tag condition.
 import com.example.task_service.enums.TaskStatus; // Enum for task status (PENDING, ASSIGNED, DONE).
 import com.example.task_service.taskModel.Task;  // Task entity mapped to MongoDB.
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 // TaskService → Interface that defines the contract for task-related operations.
 // Interfaces only declare methods (no implementation).
@@ -20,6 +27,15 @@ public interface TaskService {
     // - Throws Exception if creation fails (e.g., invalid role).
     Task create(Task task, String requestRole) throws Exception;
 
+    // ================================
+    // Create Tasks (bulk)
+    // ================================
+    // Purpose:
+    // - Create many tasks with one bulk write.
+    // - requestRole is checked once for the whole batch.
+    // - Returns one result per task (same order as the input).
+    List<BulkItemResult> createTasks(List<Task> tasks, String requestRole) throws Exception;
+
     // ================================
     // Get Task by ID
     // ================================
@@ -38,6 +54,34 @@ public interface TaskService {
     //   - sortByCreatedAt → sort tasks by creation time.
     List<Task> getAllTasks(TaskStatus taskStatus, String sortByDeadline, String sortByCreatedAt);
 
+    // ================================
+    // Get All Tasks (keyset pagination)
+    // ================================
+    // Purpose:
+    // - Same filters and sorting as getAllTasks(), one page at a time.
+    // - limit → page size (defaults and upper bound applied by the implementation).
+    // - after → cursor returned with the previous page (null = first page).
+    // - tagFilter → optional tag condition (null = any tags).
+    TaskPage getAllTasksPage(TaskStatus taskStatus, TagFilter tagFilter, String sortByDeadline, String sortByCreatedAt,
+                             Integer limit, String after);
+
+    // ================================
+    // Tag Facets
+    // ================================
+    // Purpose:
+    // - Tag counts for the current filter (status, assignee, tags), most frequent first.
+    // - limit → maximum number of tags returned (defaults and upper bound applied by the implementation).
+    List<TagCount> tagFacets(TaskStatus taskStatus, String assignedUserId, TagFilter tagFilter, Integer limit);
+
+    // ================================
+    // Search Tasks (full-text)
+    // ================================
+    // Purpose:
+    // - Full-text search over title, description and tags, ordered by relevance.
+    // - taskStatus / assignedUserId → optional filters.
+    // - limit / after → same meaning as in getAllTasksPage() (cursor format differs).
+    TaskPage searchTasks(String text, TaskStatus taskStatus, String assignedUserId, Integer limit, String after);
+
     // ================================
     // Update Task
     // ================================
@@ -66,6 +110,14 @@ public interface TaskService {
     // - Throws Exception if task not found or assignment fails.
     Task assignedToUser(String id, String userId) throws Exception;
 
+    // ================================
+    // Assign Tasks to Users (bulk)
+    // ================================
+    // Purpose:
+    // - Assign many tasks with one bulk write.
+    // - Returns one result per assignment (same order as the input).
+    List<BulkItemResult> assignTasks(List<TaskAssignment> assignments);
+
     // ================================
     // Get Tasks Assigned to User
     // ================================
@@ -74,6 +126,15 @@ public interface TaskService {
     // - Optional filters: taskStatus, sortByDeadline, sortByCreatedAt.
     List<Task> assignedUsersTask(String id, TaskStatus taskStatus, String sortByDeadline, String sortByCreatedAt);
 
+    // ================================
+    // Get Tasks Assigned to User (keyset pagination)
+    // ================================
+    // Purpose:
+    // - Same filters and sorting as assignedUsersTask(), one page at a time.
+    // - tagFilter / limit / after → same meaning as in getAllTasksPage().
+    TaskPage assignedUsersTaskPage(String id, TaskStatus taskStatus, TagFilter tagFilter, String sortByDeadline,
+                                   String sortByCreatedAt, Integer limit, String after);
+
     // ================================
     // Complete Task
     // ================================
@@ -82,4 +143,24 @@ public interface TaskService {
     // - taskId → ID of the task to complete.
     // - Throws Exception if task not found or already completed.
     Task completeTask(String taskId) throws Exception;
-}
\ No newline at end of file
+
+    // ================================
+    // Complete Tasks (bulk)
+    // ================================
+    // Purpose:
+    // - Mark many tasks as completed with one bulk write (used by TASK-SUBMISSION-SERVICE).
+    // - Idempotent → completing an already completed task succeeds again and writes nothing.
+    // - Returns one result per task id (same order as the input).
+    List<BulkItemResult> completeTasks(List<String> taskIds);
+
+    // ================================
+    // Export Tasks
+    // ================================
+    // Purpose:
+    // - Stream tasks matching the optional filters for export (NDJSON).
+    // - taskStatus / assignedUserId → optional filters.
+    // - createdFrom / createdTo → optional createdAt window.
+    // - The caller must close the returned Stream (it holds an open MongoDB cursor).
+    Stream<Task> exportTasks(TaskStatus taskStatus, String assignedUserId,
+                             LocalDateTime createdFrom, LocalDateTime createdTo);
+}
@@ -1,16 +1,43 @@
 // Package declaration → groups related classes together.
 package com.example.task_service.service;
 
+import com.example.task_service.config.CacheConfig;      // Cache names.
+import com.example.task_service.dto.BulkItemResult;     // Per-item outcome of a bulk request.
+import com.example.task_service.dto.BulkUpdateResult;   // Failures + unmatched items of a conditional bulk write.
+import com.example.task_service.dto.TaskAssignment;     // One (taskId, userId) pair of a bulk assignment.
+import com.example.task_service.dto.TaskCursor;         // Keyset pagination cursor.
+import com.example.task_service.dto.SearchCursor;       // Keyset cursor for search results.
+import com.example.task_service.dto.TaskPage;           // One page of tasks + cursor for the next page.
+import com.example.task_service.dto.TaskSearchHit;      // Task + relevance score.
+import com.example.task_service.dto.TagCount;           // One tag facet entry (tag + count).
+import com.example.task_service.dto.TagFilter;          // Optional any-of / all-of tag condition.
 import com.example.task_service.enums.TaskStatus;        // Enum for task status (PENDING, ASSIGNED, DONE).
+import com.example.task_service.exception.TaskConflictException; // Version mismatch on update (→ 409).
+import com.example.task_service.exception.TaskVersionRequiredException; // Update without a version (→ 428).
+import com.example.task_service.exception.TaskNotFoundException; // Unknown task id on write (→ 404).
 import com.example.task_service.repository.TaskRepository; // Repository for accessing Task collection in MongoDB.
 import com.example.task_service.taskModel.Task;         // Task entity mapped to MongoDB.
 import lombok.RequiredArgsConstructor;                  // Lombok → generates constructor for final fields.
+import org.bson.types.ObjectId;                         // Ids are generated up front for bulk inserts.
+import org.springframework.cache.annotation.CacheEvict; // Evicts cached tasks on writes.
+import org.springframework.cache.annotation.Cacheable;  // Read-through cache for getTaskById / tagFacets.
+import org.springframework.cache.annotation.Caching;    // Groups several cache evictions on one method.
+import org.springframework.data.domain.Sort;            // Sort order pushed down to MongoDB.
+import org.springframework.data.mongodb.core.query.Update; // Partial ($set) updates.
 import org.springframework.stereotype.Service;          // Marks this class as a Spring-managed service bean.
 
 import java.time.LocalDateTime;                         // Used for timestamps (createdAt, deadline).
-import java.util.Comparator;                            // Used for sorting tasks.
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;                     // Used for filtering and sorting with streams.
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 // @Service → Marks this class as a service component.
 // @RequiredArgsConstructor → Lombok generates constructor for final fields (dependency injection).
@@ -18,119 +45,297 @@ import java.util.stream.Collectors;                     // Used for filtering an
 @RequiredArgsConstructor
 public class TaskServiceImplementation implements TaskService {
 
+    // ================================
+    // Pagination Limits
+    // ================================
+    private static final int DEFAULT_PAGE_SIZE = 50; // Used when "after" is given without "limit".
+    private static final int MAX_PAGE_SIZE = 500;    // Upper bound for "limit".
+    private static final int DEFAULT_FACET_SIZE = 20; // Tags returned by tagFacets() without "limit".
+    private static final int MAX_FACET_SIZE = 200;    // Upper bound for the facet "limit".
+
     // ================================
     // Dependency Injection
     // ================================
     private final TaskRepository taskRepository; // Provides MongoDB access for tasks.
+    private final TaskStatsService taskStatsService; // Keeps the task counters in sync with every write.
 
     // ================================
     // Create Task
     // ================================
+    // New tags change the facet counts → cached facets are dropped.
     @Override
+    @CacheEvict(cacheNames = CacheConfig.TAG_FACETS_CACHE, allEntries = true)
     public Task create(Task task, String requestRole) throws Exception {
         // Only admins can create tasks.
         if (!requestRole.equals("ROLE_ADMIN")) {
             throw new Exception("Only Admins can create tasks");
         }
 
+        // Always a new document: client-supplied id / version are ignored (a version would turn the save
+        // into a versioned update of a missing document, an existing id into a duplicate key).
+        task.setId(null);
+        task.setVersion(null);
+
         // Set default status and creation timestamp.
         task.setStatus(TaskStatus.PENDING);
         task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(task.getCreatedAt());
 
-        // Save task to MongoDB.
-        return taskRepository.save(task);
+        // Save task to MongoDB, then count it.
+        Task saved = taskRepository.save(task);
+        taskStatsService.recordCreated(List.of(saved));
+        return saved;
+    }
+
+    // ================================
+    // Create Tasks (bulk)
+    // ================================
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TAG_FACETS_CACHE, allEntries = true)
+    public List<BulkItemResult> createTasks(List<Task> tasks, String requestRole) throws Exception {
+        // Role is checked once for the whole batch.
+        if (!requestRole.equals("ROLE_ADMIN")) {
+            throw new Exception("Only Admins can create tasks");
+        }
+
+        // Same defaults as create(); ids are generated here so every result can report its task id.
+        LocalDateTime now = LocalDateTime.now();
+        for (Task task : tasks) {
+            task.setId(new ObjectId().toHexString());
+            task.setStatus(TaskStatus.PENDING);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            task.setVersion(0L);
+        }
+
+        Map<Integer, String> failures = taskRepository.bulkInsert(tasks);
+
+        List<BulkItemResult> results = new ArrayList<>(tasks.size());
+        List<Task> inserted = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            String id = tasks.get(i).getId();
+            if (failures.containsKey(i)) {
+                results.add(BulkItemResult.failed(i, id, failures.get(i)));
+            } else {
+                results.add(BulkItemResult.ok(i, id));
+                inserted.add(tasks.get(i));
+            }
+        }
+
+        // One counter update for the whole batch.
+        taskStatsService.recordCreated(inserted);
+        return results;
     }
 
     // ================================
     // Get Task by ID
     // ================================
+    // Read-through cache: hits are served from memory, misses go to MongoDB.
+    // Missing tasks (null) are not cached.
     @Override
+    @Cacheable(cacheNames = CacheConfig.TASKS_CACHE, key = "#id", unless = "#result == null")
     public Task getTaskById(String id) throws Exception {
         // Fetch task by ID, return null if not found.
         return taskRepository.findById(id).orElse(null);
     }
 
     // ================================
-    // Get All Tasks (with optional filtering)
+    // Get All Tasks (with optional filtering and sorting)
     // ================================
     @Override
     public List<Task> getAllTasks(TaskStatus taskStatus, String sortByDeadline, String sortByCreatedAt) {
-        // Fetch all tasks.
-        List<Task> allTasks = taskRepository.findAll();
+        // Filter and sort inside MongoDB using the status compound indexes.
+        return taskRepository.findByStatusIn(resolveStatuses(taskStatus), resolveSort(sortByDeadline, sortByCreatedAt));
+    }
 
-        // Filter by status if provided.
-        List<Task> filteredTasks = allTasks.stream()
-                .filter(task -> taskStatus == null || task.getStatus().name().equalsIgnoreCase(taskStatus.toString()))
-                .toList();
+    // ================================
+    // Get All Tasks (keyset pagination)
+    // ================================
+    @Override
+    public TaskPage getAllTasksPage(TaskStatus taskStatus, TagFilter tagFilter, String sortByDeadline,
+                                    String sortByCreatedAt, Integer limit, String after) {
+        return findPage(null, taskStatus, tagFilter, sortByDeadline, sortByCreatedAt, limit, after);
+    }
 
-        return filteredTasks;
+    // ================================
+    // Tag Facets
+    // ================================
+    // Cached per filter (default key = all arguments) → repeated sidebar requests skip the aggregation.
+    // Entries are evicted when tags change (create, update of tags, delete) and expire after a short TTL,
+    // which also bounds staleness caused by status / assignee changes.
+    @Override
+    @Cacheable(cacheNames = CacheConfig.TAG_FACETS_CACHE)
+    public List<TagCount> tagFacets(TaskStatus taskStatus, String assignedUserId, TagFilter tagFilter, Integer limit) {
+        int size = limit == null ? DEFAULT_FACET_SIZE : Math.clamp(limit, 1, MAX_FACET_SIZE);
+        return taskRepository.tagFacets(assignedUserId, resolveStatuses(taskStatus), tagFilter, size);
     }
 
     // ================================
-    // Update Task
+    // Search Tasks (full-text)
     // ================================
     @Override
-    public Task updateTask(String id, Task updateTask, String userId) throws Exception {
-        // Fetch existing task.
-        Task existingTasks = getTaskById(id);
+    public TaskPage searchTasks(String text, TaskStatus taskStatus, String assignedUserId, Integer limit, String after) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        SearchCursor cursor = after == null || after.isEmpty() ? null : SearchCursor.decode(after);
 
-        // Update only non-null fields.
-        if (updateTask.getTitle() != null) {
-            existingTasks.setTitle(updateTask.getTitle());
-        }
-        if (updateTask.getImageUrl() != null) {
-            existingTasks.setImageUrl(updateTask.getImageUrl());
+        // Same limit + 1 trick as findPage() to detect a next page.
+        List<TaskSearchHit> hits = taskRepository.search(text, assignedUserId, resolveStatuses(taskStatus),
+                cursor, pageSize + 1);
+
+        List<TaskSearchHit> page = hits.size() <= pageSize ? hits : hits.subList(0, pageSize);
+        List<Task> tasks = page.stream().map(TaskSearchHit::task).toList();
+        if (hits.size() <= pageSize) {
+            return new TaskPage(tasks, null);
         }
-        if (updateTask.getDescription() != null) {
-            existingTasks.setDescription(updateTask.getDescription());
+        TaskSearchHit last = page.getLast();
+        return new TaskPage(tasks, new SearchCursor(last.score(), last.task().getId()).encode());
+    }
+
+    // ================================
+    // Update Task
+    // ================================
+    // Single round trip: only the non-null fields are $set atomically (no read-modify-save).
+    // The version is required (428 without it) and the update is only applied while it still matches
+    // → a concurrent writer's change is never overwritten.
+    // Facets are only evicted when the request replaces the tags.
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TAG_FACETS_CACHE, allEntries = true,
+                    condition = "#updateTask.tags != null && !#updateTask.tags.isEmpty()")
+    })
+    public Task updateTask(String id, Task updateTask, String userId) throws Exception {
+        if (updateTask.getVersion() == null) {
+            throw new TaskVersionRequiredException("Updating task " + id + " requires If-Match or a version");
         }
-        if (updateTask.getStatus() != null) {
-            existingTasks.setStatus(updateTask.getStatus());
+
+        // Step 1: Collect only the fields that were sent.
+        Update update = new Update();
+        PATCH_FIELDS.forEach(field -> field.setIfSent(updateTask, update));
+
+        // Nothing to change → return the current task without bumping its version.
+        if (update.getUpdateObject().isEmpty()) {
+            return getTaskById(id);
         }
-        if (updateTask.getDeadline() != null) {
-            existingTasks.setDeadline(updateTask.getDeadline());
+        LocalDateTime now = LocalDateTime.now();
+        update.set("updatedAt", now);
+
+        // Step 2: Apply the update; the previous document is returned.
+        Task task = taskRepository.findAndUpdate(id, updateTask.getVersion(), update);
+
+        // Step 3: Nothing matched → either the task is gone (null → 404) or the version is stale (409).
+        if (task == null) {
+            if (taskRepository.existsById(id)) {
+                throw new TaskConflictException("Task " + id + " was modified concurrently, expected version "
+                        + updateTask.getVersion());
+            }
+            return null;
         }
 
-        // Save updated task.
-        return taskRepository.save(existingTasks);
+        // Step 4: Count the status change, then apply the same fields in memory → updated task.
+        taskStatsService.recordChanged(task, updateTask.getStatus() != null ? updateTask.getStatus() : task.getStatus(),
+                task.getAssignedUserId());
+        PATCH_FIELDS.forEach(field -> field.copyIfSent(updateTask, task));
+        return withNextVersion(task, now);
     }
 
     // ================================
     // Delete Task
     // ================================
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.TAG_FACETS_CACHE, allEntries = true)
+    })
     public void deleteTask(String id) throws Exception {
-        // Ensure task exists before deleting.
-        getTaskById(id);
-        taskRepository.deleteById(id);
+        // Delete and get the removed document in one round trip (nothing to do if it did not exist).
+        Task deleted = taskRepository.findAndRemove(id);
+        if (deleted != null) {
+            taskStatsService.recordDeleted(deleted);
+        }
     }
 
     // ================================
     // Assign Task to User
     // ================================
+    // Single atomic $set of assignee + status (no prior read).
     @Override
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#id")
     public Task assignedToUser(String id, String userId) throws Exception {
-        // Fetch task by ID.
-        Task task = getTaskById(id);
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set("assignedUserId", userId)
+                .set("status", TaskStatus.ASSIGNED)
+                .set("updatedAt", now);
+
+        Task task = taskRepository.findAndUpdate(id, null, update);
+        if (task == null) {
+            throw new TaskNotFoundException("Task not found with id: " + id);
+        }
 
-        // Assign to user and update status.
+        // Previous state → counter deltas; then the same $set in memory.
+        taskStatsService.recordChanged(task, TaskStatus.ASSIGNED, userId);
         task.setAssignedUserId(userId);
         task.setStatus(TaskStatus.ASSIGNED);
+        return withNextVersion(task, now);
+    }
+
+    // ================================
+    // Assign Tasks to Users (bulk)
+    // ================================
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public List<BulkItemResult> assignTasks(List<TaskAssignment> assignments) {
+        // Step 1: One projected $in query → which tasks exist and their current status / assignee.
+        Map<String, Task> previous = taskRepository.findStates(assignments.stream().map(TaskAssignment::taskId).toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // Step 2: One conditional bulk write → only tasks that still have the status / assignee read above.
+        BulkUpdateResult outcome = taskRepository.bulkAssign(assignments, previous);
+        Map<Integer, String> failures = outcome.failures();
+
+        // Step 3: Updates that matched nothing → the task changed between step 1 and step 2.
+        // Reported as failures (never silently overwritten) → the caller can re-read and retry.
+        Set<String> conflicting = new HashSet<>();
+        outcome.unmatched().forEach(index -> conflicting.add(assignments.get(index).taskId()));
+
+        // Step 4: Per-item results + counter deltas for the assignments that were written (last one per task).
+        Map<String, Integer> lastIndexes = new HashMap<>();
+        for (int i = 0; i < assignments.size(); i++) {
+            lastIndexes.put(assignments.get(i).taskId(), i);
+        }
+        List<BulkItemResult> results = new ArrayList<>(assignments.size());
+        for (int i = 0; i < assignments.size(); i++) {
+            TaskAssignment assignment = assignments.get(i);
+            if (failures.containsKey(i)) {
+                results.add(BulkItemResult.failed(i, assignment.taskId(), failures.get(i)));
+                continue;
+            }
+            if (conflicting.contains(assignment.taskId())) {
+                results.add(BulkItemResult.failed(i, assignment.taskId(),
+                        "Task was modified concurrently: " + assignment.taskId()));
+                continue;
+            }
+            results.add(BulkItemResult.ok(i, assignment.taskId()));
+            if (outcome.exact() && lastIndexes.get(assignment.taskId()) == i) {
+                taskStatsService.recordChanged(previous.get(assignment.taskId()), TaskStatus.ASSIGNED, assignment.userId());
+            }
+        }
 
-        return taskRepository.save(task);
+        // Step 5: Not every unmatched update could be attributed to a task → recount instead of guessing.
+        if (!outcome.exact()) {
+            taskStatsService.reconcile();
+        }
+        return results;
     }
 
     // ================================
     // Get Tasks Assigned to User (basic filter)
     // ================================
     public List<Task> assignedUsersTask(String userId, TaskStatus taskStatus) {
-        // Fetch tasks assigned to user.
-        List<Task> allTasks = taskRepository.findByAssignedUserId(userId);
-
-        // Filter by status if provided.
-        return allTasks.stream()
-                .filter(task -> taskStatus == null || task.getStatus() == taskStatus)
-                .toList();
+        // Filter by assignee and status inside MongoDB.
+        return taskRepository.findByAssignedUserIdAndStatusIn(userId, resolveStatuses(taskStatus), Sort.unsorted());
     }
 
     // ================================
@@ -138,35 +343,193 @@ public class TaskServiceImplementation implements TaskService {
     // ================================
     @Override
     public List<Task> assignedUsersTask(String userId, TaskStatus taskStatus, String sortByDeadline, String sortByCreatedAt) {
-        // Fetch tasks assigned to user.
-        List<Task> allTasks = taskRepository.findByAssignedUserId(userId);
-
-        // Filter by status if provided.
-        List<Task> filteredTasks = allTasks.stream()
-                .filter(task -> taskStatus == null || task.getStatus() == taskStatus)
-                .collect(Collectors.toList());
-
-        // Sort by deadline or createdAt if requested.
-        if (sortByDeadline != null && !sortByDeadline.isEmpty()) {
-            filteredTasks.sort(Comparator.comparing(Task::getDeadline, Comparator.nullsLast(Comparator.naturalOrder())));
-        } else if (sortByCreatedAt != null && !sortByCreatedAt.isEmpty()) {
-            filteredTasks.sort(Comparator.comparing(Task::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder())));
-        }
+        // Filter and sort inside MongoDB using the assignee compound indexes.
+        return taskRepository.findByAssignedUserIdAndStatusIn(userId, resolveStatuses(taskStatus),
+                resolveSort(sortByDeadline, sortByCreatedAt));
+    }
 
-        return filteredTasks;
+    // ================================
+    // Get Tasks Assigned to User (keyset pagination)
+    // ================================
+    @Override
+    public TaskPage assignedUsersTaskPage(String userId, TaskStatus taskStatus, TagFilter tagFilter,
+                                          String sortByDeadline, String sortByCreatedAt, Integer limit, String after) {
+        return findPage(userId, taskStatus, tagFilter, sortByDeadline, sortByCreatedAt, limit, after);
     }
 
     // ================================
     // Complete Task
     // ================================
+    // Single atomic $set of the status (no prior read).
     @Override
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, key = "#taskId")
     public Task completeTask(String taskId) throws Exception {
-        // Fetch task by ID.
-        Task task = getTaskById(taskId);
+        LocalDateTime now = LocalDateTime.now();
+        Update update = new Update()
+                .set("status", TaskStatus.DONE)
+                .set("updatedAt", now);
 
-        // Mark as DONE.
+        Task task = taskRepository.findAndUpdate(taskId, null, update);
+        if (task == null) {
+            throw new TaskNotFoundException("Task not found with id: " + taskId);
+        }
+
+        taskStatsService.recordChanged(task, TaskStatus.DONE, task.getAssignedUserId());
         task.setStatus(TaskStatus.DONE);
+        return withNextVersion(task, now);
+    }
+
+    // ================================
+    // Complete Tasks (bulk)
+    // ================================
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TASKS_CACHE, allEntries = true)
+    public List<BulkItemResult> completeTasks(List<String> taskIds) {
+        // Step 1: One projected $in query → which tasks exist and their current status (null allowed).
+        Map<String, TaskStatus> currentStatuses = new HashMap<>();
+        taskRepository.findStates(taskIds).forEach(task -> currentStatuses.put(task.getId(), task.getStatus()));
+
+        // Step 2: One conditional bulk write → only tasks that are not DONE and still have the status read above.
+        BulkUpdateResult outcome = taskRepository.bulkComplete(taskIds, currentStatuses);
+        Map<Integer, String> failures = outcome.failures();
+
+        // Step 3: Updates that matched nothing → the task changed between step 1 and step 2 (e.g. PENDING → ASSIGNED).
+        // Re-apply them one by one, guarded by status != DONE, so the completion is never lost.
+        Set<String> retried = new HashSet<>();
+        Map<String, String> retryFailures = new HashMap<>();
+        for (int index : outcome.unmatched()) {
+            String taskId = taskIds.get(index);
+            if (!retried.add(taskId)) {
+                continue;
+            }
+            Task before = taskRepository.findAndUpdateUnlessDone(taskId, new Update()
+                    .set("status", TaskStatus.DONE)
+                    .set("updatedAt", LocalDateTime.now()));
+            if (before != null) {
+                taskStatsService.recordChanged(before, TaskStatus.DONE, before.getAssignedUserId());
+            } else if (!taskRepository.existsById(taskId)) {
+                // Deleted in the meantime (an already DONE task needs nothing).
+                retryFailures.put(taskId, "Task not found with id: " + taskId);
+            }
+        }
+
+        // Step 4: Per-item results; counter deltas only for tasks the bulk write moved to DONE.
+        List<BulkItemResult> results = new ArrayList<>(taskIds.size());
+        List<TaskStatus> previousStatuses = new ArrayList<>();
+        Set<String> counted = new HashSet<>(retried);
+        for (int i = 0; i < taskIds.size(); i++) {
+            String taskId = taskIds.get(i);
+            String failure = failures.containsKey(i) ? failures.get(i) : retryFailures.get(taskId);
+            if (failure != null) {
+                results.add(BulkItemResult.failed(i, taskId, failure));
+                continue;
+            }
+            results.add(BulkItemResult.ok(i, taskId));
+            TaskStatus current = currentStatuses.get(taskId);
+            if (current != TaskStatus.DONE && counted.add(taskId)) {
+                previousStatuses.add(current);
+            }
+        }
+
+        // Step 5: Not every unmatched update could be attributed to a task (a concurrent write already
+        // completed it and recorded its own delta) → recount instead of guessing.
+        if (outcome.exact()) {
+            taskStatsService.recordStatusChanged(previousStatuses, TaskStatus.DONE);
+        } else {
+            taskStatsService.reconcile();
+        }
+        return results;
+    }
+
+    // ================================
+    // Export Tasks
+    // ================================
+    @Override
+    public Stream<Task> exportTasks(TaskStatus taskStatus, String assignedUserId,
+                                    LocalDateTime createdFrom, LocalDateTime createdTo) {
+        // Backed by a MongoDB cursor → tasks are read batch by batch, never all at once.
+        return taskRepository.streamTasks(assignedUserId, resolveStatuses(taskStatus), createdFrom, createdTo);
+    }
+
+    // ================================
+    // Write Helpers
+    // ================================
+    // Fields updateTask() may change. One list drives both the $set and the in-memory copy,
+    // so the stored and the returned task cannot drift apart. null (or empty tags) → not sent → unchanged.
+    private static final List<PatchField<?>> PATCH_FIELDS = List.of(
+            new PatchField<>("title", Task::getTitle, Task::setTitle),
+            new PatchField<>("imageUrl", Task::getImageUrl, Task::setImageUrl),
+            new PatchField<>("description", Task::getDescription, Task::setDescription),
+            new PatchField<>("status", Task::getStatus, Task::setStatus),
+            new PatchField<>("deadline", Task::getDeadline, Task::setDeadline),
+            new PatchField<>("tags", patch -> patch.getTags() == null || patch.getTags().isEmpty() ? null : patch.getTags(),
+                    Task::setTags));
+
+    private record PatchField<V>(String name, Function<Task, V> read, BiConsumer<Task, V> write) {
+
+        void setIfSent(Task patch, Update update) {
+            V value = read.apply(patch);
+            if (value != null) {
+                update.set(name, value);
+            }
+        }
+
+        void copyIfSent(Task patch, Task target) {
+            V value = read.apply(patch);
+            if (value != null) {
+                write.accept(target, value);
+            }
+        }
+    }
+
+    // findAndUpdate() returns the previous document and $inc-s the version → mirror that in memory,
+    // together with the updatedAt value written in the same update.
+    private Task withNextVersion(Task task, LocalDateTime updatedAt) {
+        task.setVersion(task.getVersion() == null ? 1L : task.getVersion() + 1);
+        task.setUpdatedAt(updatedAt);
+        return task;
+    }
 
-        return taskRepository.save(task);
+    // ================================
+    // Query Helpers
+    // ================================
+    private static final List<TaskStatus> ANY_STATUS =
+            Stream.concat(Arrays.stream(TaskStatus.values()), Stream.of((TaskStatus) null)).toList();
+
+    // Converts the optional status filter into the $in list used by the repository.
+    // No status → every status plus null, which also matches tasks stored without a status:
+    // same result as no filter, but the query still uses the (status, ...) indexes.
+    private List<TaskStatus> resolveStatuses(TaskStatus taskStatus) {
+        return taskStatus == null ? ANY_STATUS : List.of(taskStatus);
+    }
+
+    // Fetches one keyset page; reads one extra task to know whether a next page exists.
+    // Pages without an explicit sort are ordered by createdAt so they stay index-backed.
+    private TaskPage findPage(String userId, TaskStatus taskStatus, TagFilter tagFilter, String sortByDeadline,
+                              String sortByCreatedAt, Integer limit, String after) {
+        String sortField = sortByDeadline != null && !sortByDeadline.isEmpty() ? "deadline" : "createdAt";
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        TaskCursor cursor = after == null || after.isEmpty() ? null : TaskCursor.decode(after, sortField);
+
+        List<Task> tasks = taskRepository.findPage(userId, resolveStatuses(taskStatus), tagFilter, sortField, cursor,
+                pageSize + 1);
+
+        if (tasks.size() <= pageSize) {
+            return new TaskPage(tasks, null);
+        }
+        List<Task> page = tasks.subList(0, pageSize);
+        return new TaskPage(page, TaskCursor.of(page.getLast(), sortField).encode());
+    }
+
+    // Converts the sortByDeadline / sortByCreatedAt flags into a MongoDB sort.
+    // Deadline takes precedence when both are provided (same as before).
+    private Sort resolveSort(String sortByDeadline, String sortByCreatedAt) {
+        if (sortByDeadline != null && !sortByDeadline.isEmpty()) {
+            return Sort.by(Sort.Direction.ASC, "deadline");
+        }
+        if (sortByCreatedAt != null && !sortByCreatedAt.isEmpty()) {
+            return Sort.by(Sort.Direction.ASC, "createdAt");
+        }
+        return Sort.unsorted();
     }
 }
\ No newline at end of file
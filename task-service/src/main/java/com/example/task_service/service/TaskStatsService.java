@@ -0,0 +1,67 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.service;
+
+import com.example.task_service.dto.TaskStats;    // Response of the statistics endpoint.
+import com.example.task_service.enums.TaskStatus; // Enum for task status (PENDING, ASSIGNED, DONE).
+import com.example.task_service.taskModel.Task;   // Task entity mapped to MongoDB.
+
+import java.util.Collection;
+import java.util.OptionalLong;
+
+// TaskStatsService → Maintains the pre-aggregated task counters and serves the statistics endpoint.
+// Task writes report their effect here; the counters are updated with one atomic $inc per write.
+public interface TaskStatsService {
+
+    // ================================
+    // Record Created Tasks
+    // ================================
+    // Purpose:
+    // - Count newly inserted tasks under their status / assignee.
+    void recordCreated(Collection<Task> tasks);
+
+    // ================================
+    // Record Status / Assignee Change
+    // ================================
+    // Purpose:
+    // - before → task state prior to the write (status, assignedUserId).
+    // - newStatus / newAssignee → state after the write.
+    // - The revision is incremented even when neither changed (every task write is a change).
+    void recordChanged(Task before, TaskStatus newStatus, String newAssignee);
+
+    // ================================
+    // Record Status Changes (bulk)
+    // ================================
+    // Purpose:
+    // - previousStatuses → status of every task moved to `newStatus` by one bulk write (assignees unchanged).
+    // - All deltas are applied with a single $inc.
+    void recordStatusChanged(Collection<TaskStatus> previousStatuses, TaskStatus newStatus);
+
+    // ================================
+    // Record Deleted Task
+    // ================================
+    void recordDeleted(Task before);
+
+    // ================================
+    // Get Stats
+    // ================================
+    // Purpose:
+    // - Counts by status and assignee (from the counters document) + overdue count (indexed count query).
+    TaskStats getStats();
+
+    // ================================
+    // Current Revision
+    // ================================
+    // Purpose:
+    // - Revision of the counters document; changes whenever a task is created, changed or deleted.
+    // - Used as a collection-level change counter (ETag of the task listings).
+    // - Empty when a task write could not bump the revision and no later bump has succeeded yet
+    //   → the revision does not reflect every write, so no ETag / 304 may be based on it.
+    OptionalLong currentRevision();
+
+    // ================================
+    // Reconcile
+    // ================================
+    // Purpose:
+    // - Recompute the counters from the Tasks collection and overwrite the stored values (fixes drift).
+    void reconcile();
+}
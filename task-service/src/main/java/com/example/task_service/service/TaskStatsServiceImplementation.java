@@ -0,0 +1,209 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.service;
+
+import com.example.task_service.dto.TaskStats;          // Response of the statistics endpoint.
+import com.example.task_service.enums.TaskStatus;        // Enum for task status (PENDING, ASSIGNED, DONE).
+import com.example.task_service.repository.TaskCountersRepository; // Counters document access.
+import com.example.task_service.repository.TaskRepository;         // Tasks collection access (overdue count, reconciliation).
+import com.example.task_service.taskModel.Task;         // Task entity mapped to MongoDB.
+import com.example.task_service.taskModel.TaskCounters; // Counters document mapped to MongoDB.
+import lombok.RequiredArgsConstructor;                  // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;                       // Lombok → logging support.
+import org.springframework.scheduling.annotation.Scheduled; // Runs reconcile() periodically.
+import org.springframework.stereotype.Service;          // Marks this class as a Spring-managed service bean.
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+// @Service → Marks this class as a service component.
+// @RequiredArgsConstructor → Lombok generates constructor for final fields (dependency injection).
+// @Slf4j → Enables logging.
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsServiceImplementation implements TaskStatsService {
+
+    // ================================
+    // Overdue Statuses
+    // ================================
+    // Only open tasks can be overdue.
+    private static final List<TaskStatus> OPEN_STATUSES = List.of(TaskStatus.PENDING, TaskStatus.ASSIGNED);
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final TaskCountersRepository taskCountersRepository; // Counters document.
+    private final TaskRepository taskRepository;                 // Tasks collection.
+
+    // ================================
+    // Revision Health
+    // ================================
+    // failedBumps  → task writes on this instance whose revision bump failed.
+    // coveredBumps → how many of those are covered by a later successful bump (the revision moved after them).
+    // failedBumps > coveredBumps → the revision misses a write, currentRevision() must not be used as ETag.
+    private final AtomicLong failedBumps = new AtomicLong();
+    private final AtomicLong coveredBumps = new AtomicLong();
+
+    // ================================
+    // Record Created Tasks
+    // ================================
+    @Override
+    public void recordCreated(Collection<Task> tasks) {
+        Map<String, Long> statusDeltas = new HashMap<>();
+        Map<String, Long> assigneeDeltas = new HashMap<>();
+        for (Task task : tasks) {
+            add(statusDeltas, task.getStatus() == null ? null : task.getStatus().name(), 1);
+            add(assigneeDeltas, task.getAssignedUserId(), 1);
+        }
+        apply(statusDeltas, assigneeDeltas);
+    }
+
+    // ================================
+    // Record Status / Assignee Change
+    // ================================
+    @Override
+    public void recordChanged(Task before, TaskStatus newStatus, String newAssignee) {
+        Map<String, Long> statusDeltas = new HashMap<>();
+        Map<String, Long> assigneeDeltas = new HashMap<>();
+
+        if (before.getStatus() != newStatus) {
+            add(statusDeltas, before.getStatus() == null ? null : before.getStatus().name(), -1);
+            add(statusDeltas, newStatus == null ? null : newStatus.name(), 1);
+        }
+        if (!Objects.equals(before.getAssignedUserId(), newAssignee)) {
+            add(assigneeDeltas, before.getAssignedUserId(), -1);
+            add(assigneeDeltas, newAssignee, 1);
+        }
+        apply(statusDeltas, assigneeDeltas);
+    }
+
+    // ================================
+    // Record Status Changes (bulk)
+    // ================================
+    @Override
+    public void recordStatusChanged(Collection<TaskStatus> previousStatuses, TaskStatus newStatus) {
+        Map<String, Long> statusDeltas = new HashMap<>();
+        for (TaskStatus previous : previousStatuses) {
+            if (previous != newStatus) {
+                add(statusDeltas, previous == null ? null : previous.name(), -1);
+                add(statusDeltas, newStatus == null ? null : newStatus.name(), 1);
+            }
+        }
+        apply(statusDeltas, new HashMap<>());
+    }
+
+    // ================================
+    // Record Deleted Task
+    // ================================
+    @Override
+    public void recordDeleted(Task before) {
+        Map<String, Long> statusDeltas = new HashMap<>();
+        Map<String, Long> assigneeDeltas = new HashMap<>();
+        add(statusDeltas, before.getStatus() == null ? null : before.getStatus().name(), -1);
+        add(assigneeDeltas, before.getAssignedUserId(), -1);
+        apply(statusDeltas, assigneeDeltas);
+    }
+
+    // ================================
+    // Get Stats
+    // ================================
+    @Override
+    public TaskStats getStats() {
+        TaskCounters counters = taskCountersRepository.findById(TaskCounters.GLOBAL_ID).orElseGet(TaskCounters::new);
+
+        // Every status is always present (0 when no task has it).
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, counters.getByStatus().getOrDefault(status.name(), 0L));
+        }
+
+        // Users whose count dropped to 0 are left out.
+        Map<String, Long> byAssignee = new HashMap<>();
+        counters.getByAssignee().forEach((userId, count) -> {
+            if (count > 0) {
+                byAssignee.put(userId, count);
+            }
+        });
+
+        // Overdue depends on the current time → counted on demand from the status_deadline_id index.
+        long overdue = taskRepository.countByStatusInAndDeadlineBefore(OPEN_STATUSES, LocalDateTime.now());
+
+        return new TaskStats(byStatus, byAssignee, overdue, counters.getRevision(), counters.getReconciledAt());
+    }
+
+    // ================================
+    // Current Revision
+    // ================================
+    // A missed bump is repaired with one extra $inc before the revision is handed out again;
+    // while that fails too, no revision (→ no ETag, no 304) is returned.
+    // Other replicas keep their ETags until the revision moves again (this repair, the next write or reconcile()).
+    @Override
+    public OptionalLong currentRevision() {
+        long failed = failedBumps.get();
+        if (failed > coveredBumps.get()) {
+            try {
+                taskCountersRepository.increment(Map.of(), Map.of());
+                coveredBumps.accumulateAndGet(failed, Math::max);
+            } catch (RuntimeException e) {
+                log.warn("Task counters revision is behind, serving task listings without ETag: {}", e.getMessage());
+                return OptionalLong.empty();
+            }
+        }
+        return OptionalLong.of(taskCountersRepository.findById(TaskCounters.GLOBAL_ID)
+                .map(TaskCounters::getRevision)
+                .orElse(0L));
+    }
+
+    // ================================
+    // Reconcile (scheduled)
+    // ================================
+    // Counter updates are not in the same transaction as the task writes, so a crash between the two
+    // (or a write made outside this service) leaves the counters off. Recomputing them periodically
+    // bounds that drift. Writes that land between the aggregation and the overwrite are corrected by the next run.
+    @Override
+    @Scheduled(initialDelayString = "${task.stats.reconcile-initial-delay:30s}",
+               fixedDelayString = "${task.stats.reconcile-interval:10m}")
+    public void reconcile() {
+        long failed = failedBumps.get();
+        Map<String, Long> byStatus = taskRepository.countBy("status");
+        Map<String, Long> byAssignee = taskRepository.countBy("assignedUserId");
+        taskCountersRepository.replaceCounts(byStatus, byAssignee);
+        coveredBumps.accumulateAndGet(failed, Math::max);
+        log.info("Reconciled task counters: {} statuses, {} assignees", byStatus.size(), byAssignee.size());
+    }
+
+    // ================================
+    // Helpers
+    // ================================
+    // Adds `delta` to `key` (null keys → unassigned / no status → not counted).
+    private void add(Map<String, Long> deltas, String key, long delta) {
+        if (key != null) {
+            deltas.merge(key, delta, Long::sum);
+        }
+    }
+
+    // Applies the deltas with one $inc (the revision is always incremented, even without deltas).
+    // The task write already succeeded at this point, so a failure here does not fail the request:
+    // reconcile() repairs the counters, and the failure is recorded so that no ETag is derived from
+    // the stale revision until a later bump has succeeded (see currentRevision()).
+    // A successful bump covers every failure recorded before it started.
+    private void apply(Map<String, Long> statusDeltas, Map<String, Long> assigneeDeltas) {
+        statusDeltas.values().removeIf(delta -> delta == 0);
+        assigneeDeltas.values().removeIf(delta -> delta == 0);
+        long failed = failedBumps.get();
+        try {
+            taskCountersRepository.increment(statusDeltas, assigneeDeltas);
+            coveredBumps.accumulateAndGet(failed, Math::max);
+        } catch (RuntimeException e) {
+            failedBumps.incrementAndGet();
+            log.warn("Failed to update task counters, they will be fixed by the next reconciliation: {}", e.getMessage());
+        }
+    }
+}
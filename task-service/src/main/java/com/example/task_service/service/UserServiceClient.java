@@ -4,8 +4,12 @@ package com.example.task_service.service;
 import com.example.task_service.dto.UserDTO;          // Data Transfer Object (DTO) representing user details.
 import org.springframework.cloud.openfeign.FeignClient; // Feign → declarative REST client for inter-service communication.
 import org.springframework.web.bind.annotation.GetMapping; // Maps HTTP GET requests.
+import org.springframework.web.bind.annotation.PostMapping; // Maps HTTP POST requests.
+import org.springframework.web.bind.annotation.RequestBody; // Sends the id list as JSON body.
 import org.springframework.web.bind.annotation.RequestHeader; // Binds request headers (like Authorization JWT).
 
+import java.util.List;
+
 // @FeignClient(name = "USER-SERVICE")
 // Purpose:
 // - Declares this interface as a Feign client.
@@ -27,4 +31,28 @@ public interface UserServiceClient {
     //   → fetches logged-in user's profile from USER-SERVICE.
     @GetMapping("api/users/profile")
     public UserDTO getUserProfile(@RequestHeader("Authorization") String jwt);
+
+    // ================================
+    // Find Users by IDs (via USER-SERVICE, batch)
+    // ================================
+    // Purpose:
+    // - Calls the USER-SERVICE endpoint: POST /api/users/batch
+    // - Resolves many users with one request (one $in query on USER-SERVICE)
+    //   instead of one GET /api/users/{userId} per row.
+    // - Unknown ids are omitted; at most 500 ids per call.
+    //
+    // Example:
+    //   userServiceClient.findUsersByIds(List.of(id1, id2), "Bearer <jwt_token>");
+    @PostMapping("api/users/batch")
+    public List<UserDTO> findUsersByIds(@RequestBody List<String> userIds,
+                                        @RequestHeader("Authorization") String jwt);
+
+    // ================================
+    // Get JWKS (via USER-SERVICE)
+    // ================================
+    // Purpose:
+    // - Calls the USER-SERVICE endpoint: GET /.well-known/jwks.json (no authentication).
+    // - Returns the raw JSON Web Key Set; JwksKeyLocator parses and caches it.
+    @GetMapping(".well-known/jwks.json")
+    public String getJwks();
 }
\ No newline at end of file
@@ -7,6 +7,10 @@ import lombok.AllArgsConstructor;                       // Lombok → generates
 import lombok.Data;                                     // Lombok → generates getters, setters, equals, hashCode, toString.
 import lombok.NoArgsConstructor;                        // Lombok → generates default no-argument constructor.
 import org.springframework.data.annotation.Id;          // Marks field as primary key in MongoDB.
+import org.springframework.data.annotation.Version;     // Optimistic locking version field.
+import org.springframework.data.mongodb.core.index.CompoundIndex;   // Declares a compound index on the collection.
+import org.springframework.data.mongodb.core.index.CompoundIndexes; // Groups several compound index declarations.
+import org.springframework.data.mongodb.core.index.TextIndexed;     // Includes a field in the collection's text index.
 import org.springframework.data.mongodb.core.mapping.Document; // Maps class to MongoDB collection.
 
 import java.time.LocalDateTime;                         // Represents date/time fields.
@@ -17,8 +21,21 @@ import java.util.List;                                  // Stores tags for tasks
 // @Document(collection = "Tasks") → Maps this class to MongoDB collection named "Tasks".
 // @NoArgsConstructor → Default constructor.
 // @AllArgsConstructor → Constructor with all fields.
+// @CompoundIndexes → Indexes backing the status/assignee filters and deadline/createdAt sorting.
+// - Equality fields (assignedUserId, status) come first, then the sort field,
+//   so MongoDB can filter and return documents in order without an in-memory SORT stage.
+// - _id is the last key → keyset pagination on (sort field, _id) is served by the index too.
+// - tags_status_createdAt_id is multikey (one entry per tag) → serves tag $in / $all filters.
+// - Created at startup by TaskIndexInitializer.
 @Data
 @Document(collection = "Tasks")
+@CompoundIndexes({
+        @CompoundIndex(name = "status_deadline_id", def = "{'status': 1, 'deadline': 1, '_id': 1}"),
+        @CompoundIndex(name = "status_createdAt_id", def = "{'status': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "assignedUserId_status_deadline_id", def = "{'assignedUserId': 1, 'status': 1, 'deadline': 1, '_id': 1}"),
+        @CompoundIndex(name = "assignedUserId_status_createdAt_id", def = "{'assignedUserId': 1, 'status': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "tags_status_createdAt_id", def = "{'tags': 1, 'status': 1, 'createdAt': 1, '_id': 1}")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
@@ -32,7 +49,11 @@ public class Task {
     // ================================
     // Task Details
     // ================================
+    // @TextIndexed → title, description and tags form one weighted text index (search endpoint).
+    // A match in the title counts 10x, a tag 5x, the description 1x towards the relevance score.
+    @TextIndexed(weight = 10)
     private String title;          // Title of the task (short description).
+    @TextIndexed
     private String description;    // Detailed description of the task.
     private String imageUrl;       // Optional image URL related to the task.
     private String assignedUserId; // ID of the user assigned to this task.
@@ -48,9 +69,19 @@ public class Task {
     // ================================
     private LocalDateTime deadline;   // Deadline for task completion.
     private LocalDateTime createdAt;  // Timestamp when task was created.
+    private LocalDateTime updatedAt;  // Timestamp of the last write (Last-Modified on GET /api/tasks/{id}).
 
     // ================================
     // Tags
     // ================================
+    @TextIndexed(weight = 5)
     private List<String> tags = new ArrayList<>(); // Tags for categorizing tasks (e.g., "urgent", "backend").
+
+    // ================================
+    // Version (optimistic locking)
+    // ================================
+    // Incremented on every write. Clients must send it back on update (If-Match ETag or "version", else 428);
+    // the update is then only applied if nobody changed the task in between (otherwise 409 Conflict).
+    @Version
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+// Package declaration → groups related classes together.
+package com.example.task_service.taskModel;
+
+import lombok.AllArgsConstructor;                       // Lombok → generates constructor with all fields.
+import lombok.Data;                                     // Lombok → generates getters, setters, equals, hashCode, toString.
+import lombok.NoArgsConstructor;                        // Lombok → generates default no-argument constructor.
+import org.springframework.data.annotation.Id;          // Marks field as primary key in MongoDB.
+import org.springframework.data.mongodb.core.mapping.Document; // Maps class to MongoDB collection.
+
+import java.time.LocalDateTime;                         // Time of the last reconciliation.
+import java.util.HashMap;
+import java.util.Map;
+
+// TaskCounters → Single document holding pre-aggregated task counts (statistics endpoint).
+// Purpose:
+// - Every task write applies its delta with one atomic $inc (e.g. byStatus.PENDING -1, byStatus.ASSIGNED +1),
+//   so reading the statistics never scans the Tasks collection.
+// - revision → incremented on every change; lets clients detect that the task list changed.
+// - A periodic reconciliation job recomputes the counts from Tasks to fix any drift.
+@Data
+@Document(collection = "TaskCounters")
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCounters {
+
+    // ================================
+    // Primary Key
+    // ================================
+    public static final String GLOBAL_ID = "global"; // Id of the only counters document.
+
+    @Id
+    private String id;
+
+    // ================================
+    // Counts
+    // ================================
+    private Map<String, Long> byStatus = new HashMap<>();   // TaskStatus name → number of tasks.
+    private Map<String, Long> byAssignee = new HashMap<>(); // Assigned user id → number of tasks.
+
+    // ================================
+    // Bookkeeping
+    // ================================
+    private long revision;                // Incremented on every counter change.
+    private LocalDateTime reconciledAt;   // Last time the counts were recomputed from Tasks.
+}
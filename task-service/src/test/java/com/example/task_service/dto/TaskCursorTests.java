@@ -0,0 +1,89 @@
+package com.example.task_service.dto;
+
+import com.example.task_service.exception.InvalidCursorException;
+import com.example.task_service.taskModel.Task;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskCursorTests {
+
+	private static final String ID = new ObjectId().toHexString();
+
+	@Test
+	void roundTripKeepsSortFieldValueAndId() {
+		TaskCursor cursor = new TaskCursor("deadline", LocalDateTime.of(2025, 1, 31, 10, 0, 15, 123_000_000), ID);
+
+		assertThat(TaskCursor.decode(cursor.encode(), "deadline")).isEqualTo(cursor);
+	}
+
+	@Test
+	void roundTripKeepsNullSortValue() {
+		TaskCursor cursor = new TaskCursor("deadline", null, ID);
+
+		assertThat(TaskCursor.decode(cursor.encode(), "deadline")).isEqualTo(cursor);
+	}
+
+	@Test
+	void encodedCursorIsUrlSafe() {
+		String encoded = new TaskCursor("createdAt", LocalDateTime.of(2025, 3, 1, 8, 30), ID).encode();
+
+		assertThat(encoded).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void ofReadsTheValueOfTheSortField() {
+		Task task = new Task();
+		task.setId(ID);
+		task.setDeadline(LocalDateTime.of(2025, 5, 1, 12, 0));
+		task.setCreatedAt(LocalDateTime.of(2025, 4, 1, 12, 0));
+
+		assertThat(TaskCursor.of(task, "deadline").sortValue()).isEqualTo(task.getDeadline());
+		assertThat(TaskCursor.of(task, "createdAt").sortValue()).isEqualTo(task.getCreatedAt());
+	}
+
+	@Test
+	void rejectsCursorOfAnotherSortField() {
+		String encoded = new TaskCursor("deadline", null, ID).encode();
+
+		assertThatThrownBy(() -> TaskCursor.decode(encoded, "createdAt"))
+				.isInstanceOf(InvalidCursorException.class)
+				.hasMessageContaining("different sort order");
+	}
+
+	@Test
+	void rejectsInvalidBase64() {
+		assertThatThrownBy(() -> TaskCursor.decode("not base64!", "deadline"))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void rejectsWrongNumberOfParts() {
+		assertThatThrownBy(() -> TaskCursor.decode(encode("deadline|" + ID), "deadline"))
+				.isInstanceOf(InvalidCursorException.class);
+		assertThatThrownBy(() -> TaskCursor.decode(encode("deadline||" + ID + "|extra"), "deadline"))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void rejectsInvalidObjectId() {
+		assertThatThrownBy(() -> TaskCursor.decode(encode("deadline||not-an-object-id"), "deadline"))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void rejectsInvalidSortValue() {
+		assertThatThrownBy(() -> TaskCursor.decode(encode("deadline|31.01.2025|" + ID), "deadline"))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.task_service.repository;
+
+import com.example.task_service.dto.TaskCursor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskKeysetCriteriaTests {
+
+	private static final ObjectId ID = new ObjectId();
+
+	@Test
+	void afterNonNullValueContinuesWithLaterValuesOrSameValueAndLaterId() {
+		LocalDateTime deadline = LocalDateTime.of(2025, 1, 31, 10, 0);
+
+		List<Document> branches = branches(new TaskCursor("deadline", deadline, ID.toHexString()));
+
+		assertThat(branches).containsExactly(
+				new Document("deadline", new Document("$gt", deadline)),
+				new Document("deadline", deadline).append("id", new Document("$gt", ID)));
+	}
+
+	@Test
+	void afterNullValueContinuesWithRemainingNullsThenEveryDatedTask() {
+		// Ascending order puts null/missing deadlines first → after the last null come the dated tasks.
+		List<Document> branches = branches(new TaskCursor("deadline", null, ID.toHexString()));
+
+		assertThat(branches).containsExactly(
+				new Document("deadline", null).append("id", new Document("$gt", ID)),
+				new Document("deadline", new Document("$ne", null)));
+	}
+
+	@Test
+	void usesTheSortFieldOfTheCursor() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 3, 1, 8, 30);
+
+		List<Document> branches = branches(new TaskCursor("createdAt", createdAt, ID.toHexString()));
+
+		assertThat(branches).allSatisfy(branch -> assertThat(branch).containsKey("createdAt"));
+	}
+
+	private static List<Document> branches(TaskCursor cursor) {
+		return Arrays.stream(TaskRepositoryCustomImpl.afterCriteria(cursor.sortField(), cursor))
+				.map(Criteria::getCriteriaObject)
+				.toList();
+	}
+}
@@ -0,0 +1,150 @@
+package com.example.task_service.repository;
+
+import com.example.task_service.dto.BulkUpdateResult;
+import com.example.task_service.dto.TaskAssignment;
+import com.example.task_service.enums.TaskStatus;
+import com.example.task_service.taskModel.Task;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Conditional bulk writes: filters on the state that was read, and items whose filter matched nothing
+// (the task changed in between) are found by re-reading the tasks.
+class TaskRepositoryBulkUpdateTests {
+
+	private static final String FIRST = new ObjectId().toHexString();
+	private static final String SECOND = new ObjectId().toHexString();
+
+	private MongoTemplate mongoTemplate;
+	private BulkOperations bulk;
+	private TaskRepositoryCustomImpl repository;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		bulk = mock(BulkOperations.class);
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class)).thenReturn(bulk);
+		repository = new TaskRepositoryCustomImpl(mongoTemplate);
+	}
+
+	@Test
+	void completeOnlyMatchesTheStatusThatWasRead() {
+		when(bulk.execute()).thenReturn(matched(1));
+
+		BulkUpdateResult result = repository.bulkComplete(List.of(FIRST), Map.of(FIRST, TaskStatus.PENDING));
+
+		ArgumentCaptor<Query> filter = ArgumentCaptor.forClass(Query.class);
+		verify(bulk).updateOne(filter.capture(), any(Update.class));
+		assertThat(filter.getValue().getQueryObject())
+				.isEqualTo(new Document("id", FIRST).append("status", TaskStatus.PENDING));
+		assertThat(result.unmatched()).isEmpty();
+		assertThat(result.exact()).isTrue();
+		verify(mongoTemplate, never()).find(any(Query.class), eq(Task.class));
+	}
+
+	@Test
+	void completeReportsTheTaskWhoseStatusChangedBeforeTheWrite() {
+		// Read as PENDING, assigned concurrently → the first update matches nothing.
+		when(bulk.execute()).thenReturn(matched(1));
+		when(mongoTemplate.find(any(Query.class), eq(Task.class)))
+				.thenReturn(List.of(state(FIRST, TaskStatus.ASSIGNED), state(SECOND, TaskStatus.DONE)));
+
+		BulkUpdateResult result = repository.bulkComplete(List.of(FIRST, SECOND),
+				Map.of(FIRST, TaskStatus.PENDING, SECOND, TaskStatus.PENDING));
+
+		assertThat(result.failures()).isEmpty();
+		assertThat(result.unmatched()).containsExactly(0);
+		assertThat(result.exact()).isTrue();
+	}
+
+	@Test
+	void completeIsNotExactWhenAConcurrentWriteAlreadyCompletedTheTask() {
+		// Nothing matched, yet the re-read finds the task DONE → completed by someone else.
+		when(bulk.execute()).thenReturn(matched(0));
+		when(mongoTemplate.find(any(Query.class), eq(Task.class)))
+				.thenReturn(List.of(state(FIRST, TaskStatus.DONE)));
+
+		BulkUpdateResult result = repository.bulkComplete(List.of(FIRST), Map.of(FIRST, TaskStatus.PENDING));
+
+		assertThat(result.unmatched()).isEmpty();
+		assertThat(result.exact()).isFalse();
+	}
+
+	@Test
+	void assignOnlyMatchesTheStatusAndAssigneeThatWereRead() {
+		when(bulk.execute()).thenReturn(matched(1));
+
+		BulkUpdateResult result = repository.bulkAssign(List.of(new TaskAssignment(FIRST, "user-2")),
+				Map.of(FIRST, state(FIRST, TaskStatus.ASSIGNED, "user-1")));
+
+		ArgumentCaptor<Query> filter = ArgumentCaptor.forClass(Query.class);
+		verify(bulk).updateOne(filter.capture(), any(Update.class));
+		assertThat(filter.getValue().getQueryObject()).isEqualTo(new Document("id", FIRST)
+				.append("status", TaskStatus.ASSIGNED)
+				.append("assignedUserId", "user-1"));
+		assertThat(result.unmatched()).isEmpty();
+	}
+
+	@Test
+	void assignReportsTheTaskReassignedBeforeTheWrite() {
+		// Read as assigned to user-1, reassigned to user-3 concurrently → the update matches nothing.
+		when(bulk.execute()).thenReturn(matched(0));
+		when(mongoTemplate.find(any(Query.class), eq(Task.class)))
+				.thenReturn(List.of(state(FIRST, TaskStatus.ASSIGNED, "user-3")));
+
+		BulkUpdateResult result = repository.bulkAssign(List.of(new TaskAssignment(FIRST, "user-2")),
+				Map.of(FIRST, state(FIRST, TaskStatus.ASSIGNED, "user-1")));
+
+		assertThat(result.unmatched()).containsExactly(0);
+		assertThat(result.exact()).isTrue();
+	}
+
+	@Test
+	void assignWritesOnlyTheLastAssignmentOfARepeatedTask() {
+		when(bulk.execute()).thenReturn(matched(1));
+
+		BulkUpdateResult result = repository.bulkAssign(
+				List.of(new TaskAssignment(FIRST, "user-1"), new TaskAssignment(FIRST, "user-2")),
+				Map.of(FIRST, state(FIRST, TaskStatus.PENDING, null)));
+
+		ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+		verify(bulk).updateOne(any(Query.class), update.capture());
+		assertThat(update.getValue().getUpdateObject().get("$set", Document.class).getString("assignedUserId"))
+				.isEqualTo("user-2");
+		assertThat(result.failures()).isEmpty();
+	}
+
+	private static BulkWriteResult matched(int count) {
+		return BulkWriteResult.acknowledged(0, count, 0, count, List.of(), List.of());
+	}
+
+	private static Task state(String id, TaskStatus status) {
+		return state(id, status, null);
+	}
+
+	private static Task state(String id, TaskStatus status, String assignee) {
+		Task task = new Task();
+		task.setId(id);
+		task.setStatus(status);
+		task.setAssignedUserId(assignee);
+		return task;
+	}
+}
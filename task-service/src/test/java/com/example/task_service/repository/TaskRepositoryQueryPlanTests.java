@@ -0,0 +1,121 @@
+package com.example.task_service.repository;
+
+import com.example.task_service.config.TaskIndexInitializer;
+import com.example.task_service.enums.TaskStatus;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.mongodb.test.autoconfigure.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+class TaskRepositoryQueryPlanTests {
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private MongoMappingContext mongoMappingContext;
+
+	@BeforeEach
+	void createIndexes() {
+		new TaskIndexInitializer(mongoTemplate, mongoMappingContext).createIndexes();
+	}
+
+	@Test
+	void statusFilterSortedByDeadlineUsesIndex() {
+		List<String> stages = winningPlanStages(
+				new Document("status", new Document("$in", List.of(TaskStatus.PENDING.name()))),
+				new Document("deadline", 1));
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+	}
+
+	@Test
+	void anyStatusSortedByCreatedAtMergesIndexRanges() {
+		List<String> stages = winningPlanStages(
+				new Document("status", new Document("$in", allStatuses())),
+				new Document("createdAt", 1));
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+	}
+
+	@Test
+	void assigneeAndStatusSortedByDeadlineUsesIndex() {
+		List<String> stages = winningPlanStages(
+				new Document("assignedUserId", "user-1")
+						.append("status", new Document("$in", allStatuses())),
+				new Document("deadline", 1));
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+	}
+
+	@Test
+	void keysetPageSortedByCreatedAtAndIdUsesIndex() {
+		Date lastCreatedAt = new Date();
+		ObjectId lastId = new ObjectId();
+		List<String> stages = winningPlanStages(
+				new Document("status", new Document("$in", List.of(TaskStatus.ASSIGNED.name())))
+						.append("$or", List.of(
+								new Document("createdAt", new Document("$gt", lastCreatedAt)),
+								new Document("createdAt", lastCreatedAt).append("_id", new Document("$gt", lastId)))),
+				new Document("createdAt", 1).append("_id", 1));
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+	}
+
+	@Test
+	void allOfTagsSortedByCreatedAtUsesMultikeyIndex() {
+		List<String> stages = winningPlanStages(
+				new Document("tags", new Document("$all", List.of("backend", "urgent")))
+						.append("status", new Document("$in", List.of(TaskStatus.PENDING.name()))),
+				new Document("createdAt", 1).append("_id", 1));
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("COLLSCAN");
+	}
+
+	@Test
+	void textSearchWithStatusFilterUsesTextIndex() {
+		List<String> stages = winningPlanStages(
+				new Document("$text", new Document("$search", "backend"))
+						.append("status", new Document("$in", allStatuses())),
+				new Document());
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("COLLSCAN");
+	}
+
+	// Same $in list as an unfiltered listing: every status plus null (tasks without a status).
+	private List<String> allStatuses() {
+		return Stream.concat(Arrays.stream(TaskStatus.values()).map(Enum::name), Stream.of((String) null)).toList();
+	}
+
+	private List<String> winningPlanStages(Document filter, Document sort) {
+		Document explain = mongoTemplate.getCollection("Tasks").find(filter).sort(sort).explain();
+		Document queryPlanner = explain.get("queryPlanner", Document.class);
+		List<String> stages = new ArrayList<>();
+		collectStages(queryPlanner.get("winningPlan"), stages);
+		return stages;
+	}
+
+	private void collectStages(Object node, List<String> stages) {
+		if (node instanceof Document document) {
+			if (document.get("stage") instanceof String stage) {
+				stages.add(stage);
+			}
+			document.values().forEach(value -> collectStages(value, stages));
+		} else if (node instanceof List<?> list) {
+			list.forEach(value -> collectStages(value, stages));
+		}
+	}
+}
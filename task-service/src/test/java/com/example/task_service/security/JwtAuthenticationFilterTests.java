@@ -0,0 +1,70 @@
+package com.example.task_service.security;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// The service token only authenticates PUT on the completion endpoints.
+class JwtAuthenticationFilterTests {
+
+	private static final String SERVICE_TOKEN = "service-token";
+
+	private FilterChain chain;
+	private JwtAuthenticationFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		chain = mock(FilterChain.class);
+		filter = new JwtAuthenticationFilter(mock(JwksKeyLocator.class), mock(UserProfileResolver.class), SERVICE_TOKEN);
+	}
+
+	@Test
+	void serviceTokenCompletesTasks() throws Exception {
+		for (String path : new String[]{"/api/tasks/bulk/complete", "/api/tasks/task-1/complete"}) {
+			MockHttpServletRequest request = serviceRequest("PUT", path);
+			MockHttpServletResponse response = new MockHttpServletResponse();
+
+			filter.doFilter(request, response, mock(FilterChain.class));
+
+			assertThat(response.getStatus()).isEqualTo(200);
+			assertThat(request.getAttribute(JwtAuthenticationFilter.SERVICE_ATTRIBUTE)).isEqualTo(Boolean.TRUE);
+		}
+	}
+
+	@Test
+	void serviceTokenCannotDeleteTasks() throws Exception {
+		MockHttpServletRequest request = serviceRequest("DELETE", "/api/tasks/task-1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, chain);
+
+		assertThat(response.getStatus()).isEqualTo(403);
+		assertThat(request.getAttribute(JwtAuthenticationFilter.SERVICE_ATTRIBUTE)).isNull();
+		verify(chain, never()).doFilter(any(), any());
+	}
+
+	@Test
+	void serviceTokenIsRejectedOnOtherTaskWrites() throws Exception {
+		MockHttpServletRequest request = serviceRequest("PUT", "/api/tasks/task-1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(request, response, chain);
+
+		assertThat(response.getStatus()).isEqualTo(403);
+		verify(chain, never()).doFilter(any(), any());
+	}
+
+	private static MockHttpServletRequest serviceRequest(String method, String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+		request.addHeader(JwtAuthenticationFilter.SERVICE_TOKEN_HEADER, SERVICE_TOKEN);
+		return request;
+	}
+}
@@ -0,0 +1,111 @@
+package com.example.task_service.security;
+
+import com.example.task_service.config.CacheConfig;
+import com.example.task_service.dto.UserDTO;
+import com.example.task_service.service.UserServiceClient;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// One USER-SERVICE call per email: concurrent misses join the in-flight lookup and are counted as coalesced.
+class UserProfileResolverTests {
+
+	private static final String EMAIL = "jane@example.com";
+	private static final String JWT = "Bearer token-a";
+	private static final UserDTO USER = new UserDTO("user-1", "Jane Doe", EMAIL, "ROLE_CUSTOMER", "123");
+
+	private UserServiceClient userServiceClient;
+	private SimpleMeterRegistry meterRegistry;
+	private UserProfileResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+		userServiceClient = mock(UserServiceClient.class);
+		meterRegistry = new SimpleMeterRegistry();
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.registerCustomCache(CacheConfig.USER_PROFILES_CACHE,
+				Caffeine.newBuilder().maximumSize(100).recordStats().build());
+		resolver = new UserProfileResolver(userServiceClient, cacheManager, meterRegistry);
+	}
+
+	@Test
+	void concurrentMissesShareOneRemoteCall() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(userServiceClient.getUserProfile(JWT)).thenAnswer(invocation -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return USER;
+		});
+
+		int callers = 4;
+		AtomicReferenceArray<UserDTO> profiles = new AtomicReferenceArray<>(callers);
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < callers; i++) {
+			int caller = i;
+			threads.add(new Thread(() -> profiles.set(caller, resolver.resolve(EMAIL, JWT))));
+		}
+
+		// The first caller runs the loader; the others start while it is in flight and wait for it.
+		threads.get(0).start();
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+		for (Thread thread : threads.subList(1, callers)) {
+			thread.start();
+			awaitWaiting(thread);
+		}
+		release.countDown();
+		for (Thread thread : threads) {
+			thread.join(5_000);
+		}
+
+		for (int i = 0; i < callers; i++) {
+			assertThat(profiles.get(i)).isEqualTo(USER);
+		}
+		verify(userServiceClient, times(1)).getUserProfile(JWT);
+		assertThat(counter("user.profile.remote.calls")).isEqualTo(1);
+		assertThat(counter("user.profile.cache.coalesced")).isEqualTo(callers - 1);
+	}
+
+	@Test
+	void hitsAreNotCountedAsCoalesced() {
+		when(userServiceClient.getUserProfile(JWT)).thenReturn(USER);
+
+		resolver.resolve(EMAIL, JWT);
+		resolver.resolve(EMAIL, JWT);
+
+		assertThat(counter("user.profile.remote.calls")).isEqualTo(1);
+		assertThat(counter("user.profile.cache.coalesced")).isZero();
+		assertThat(meterRegistry.get("user.profile.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+	}
+
+	private double counter(String name) {
+		return meterRegistry.get(name).counter().count();
+	}
+
+	// Blocked on the entry the first caller is computing.
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline) {
+			Thread.State state = thread.getState();
+			if (state == Thread.State.BLOCKED || state == Thread.State.WAITING) {
+				return;
+			}
+			Thread.sleep(5);
+		}
+		throw new AssertionError("Caller did not start waiting: " + thread.getState());
+	}
+}
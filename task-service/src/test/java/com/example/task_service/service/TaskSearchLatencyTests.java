@@ -0,0 +1,168 @@
+package com.example.task_service.service;
+
+import com.example.task_service.config.TaskIndexInitializer;
+import com.example.task_service.dto.TaskPage;
+import com.example.task_service.enums.TaskStatus;
+import com.example.task_service.repository.TaskRepository;
+import com.mongodb.client.MongoCollection;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.mongodb.test.autoconfigure.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+// Latency of the GET /api/tasks/search path (TaskService.searchTasks → $text aggregation) on a synthetic dataset.
+// Opt-in: seeds ~1M tasks into the configured database, so it only runs with -Dbenchmark.search=true, e.g.
+//   mvn test -Dtest=TaskSearchLatencyTests -Dbenchmark.search=true [-Dbenchmark.search.tasks=1000000]
+//       [-Dbenchmark.search.samples=200]
+// Reports p50 / p99 per scenario (no filter, status, assignee, status + assignee) on stdout.
+// An existing "Tasks" collection with exactly the requested size is reused instead of being seeded again.
+@DataMongoTest
+@EnabledIfSystemProperty(named = "benchmark.search", matches = "true")
+class TaskSearchLatencyTests {
+
+	private static final int TASKS = Integer.getInteger("benchmark.search.tasks", 1_000_000);
+	private static final int SAMPLES = Integer.getInteger("benchmark.search.samples", 200);
+	private static final int WARMUP = 20;
+	private static final int USERS = 1_000;
+	private static final int INSERT_BATCH = 10_000;
+
+	// Skewed word choice below → the first words are common, the last ones rare (like real task vocabularies).
+	private static final List<String> WORDS = List.of(
+			"fix", "api", "backend", "frontend", "bug", "update", "test", "deploy", "database", "login",
+			"report", "review", "refactor", "cache", "search", "docs", "release", "migration", "payment", "email",
+			"invoice", "export", "import", "dashboard", "profile", "session", "webhook", "queue", "scheduler", "audit",
+			"billing", "onboarding", "analytics", "localization", "accessibility", "encryption", "throttling",
+			"sharding", "failover", "telemetry");
+	private static final List<String> QUERIES = List.of("backend", "payment", "webhook", "telemetry", "cache release");
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private MongoMappingContext mongoMappingContext;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	private TaskService taskService;
+
+	@BeforeEach
+	void seed() {
+		MongoCollection<Document> tasks = mongoTemplate.getCollection("Tasks");
+		if (tasks.countDocuments() != TASKS) {
+			tasks.drop();
+			insertTasks(tasks);
+		}
+		new TaskIndexInitializer(mongoTemplate, mongoMappingContext).createIndexes();
+		taskService = new TaskServiceImplementation(taskRepository, mock(TaskStatsService.class));
+	}
+
+	@Test
+	void reportSearchLatency() {
+		System.out.printf("Search latency over %,d tasks, %d samples per scenario (default page size)%n", TASKS, SAMPLES);
+		System.out.printf("%-20s %10s %10s %10s%n", "scenario", "p50 ms", "p99 ms", "max ms");
+
+		List<Long> all = new ArrayList<>();
+		all.addAll(measure("no filter", null, null));
+		all.addAll(measure("status", TaskStatus.PENDING, null));
+		all.addAll(measure("assignee", null, "user-7"));
+		all.addAll(measure("status + assignee", TaskStatus.ASSIGNED, "user-7"));
+
+		assertThat(all).hasSize(4 * SAMPLES);
+	}
+
+	// Runs WARMUP + SAMPLES searches (queries in rotation) and prints the latency percentiles.
+	private List<Long> measure(String scenario, TaskStatus status, String assignee) {
+		for (int i = 0; i < WARMUP; i++) {
+			search(i, status, assignee);
+		}
+
+		long[] nanos = new long[SAMPLES];
+		boolean anyResult = false;
+		for (int i = 0; i < SAMPLES; i++) {
+			long start = System.nanoTime();
+			TaskPage page = search(i, status, assignee);
+			nanos[i] = System.nanoTime() - start;
+			anyResult |= !page.tasks().isEmpty();
+		}
+		assertThat(anyResult).as("%s returned no results", scenario).isTrue();
+
+		Arrays.sort(nanos);
+		System.out.printf("%-20s %10.1f %10.1f %10.1f%n", scenario,
+				millis(percentile(nanos, 0.50)), millis(percentile(nanos, 0.99)), millis(nanos[nanos.length - 1]));
+		return Arrays.stream(nanos).boxed().toList();
+	}
+
+	private TaskPage search(int i, TaskStatus status, String assignee) {
+		return taskService.searchTasks(QUERIES.get(i % QUERIES.size()), status, assignee, null, null);
+	}
+
+	// Nearest-rank percentile of sorted values.
+	private static long percentile(long[] sorted, double p) {
+		return sorted[Math.max(0, (int) Math.ceil(p * sorted.length) - 1)];
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	// ================================
+	// Synthetic Dataset
+	// ================================
+	// Raw documents in the mapped shape of Task (status as its name, dates as BSON dates), inserted in batches.
+	private void insertTasks(MongoCollection<Document> tasks) {
+		Random random = new Random(42);
+		TaskStatus[] statuses = TaskStatus.values();
+		Instant now = Instant.now();
+		List<Document> batch = new ArrayList<>(INSERT_BATCH);
+		for (int i = 0; i < TASKS; i++) {
+			TaskStatus status = statuses[random.nextInt(statuses.length)];
+			Date createdAt = Date.from(now.minus(Duration.ofMinutes(random.nextInt(525_600))));
+			batch.add(new Document("_id", new ObjectId())
+					.append("title", words(random, 3))
+					.append("description", words(random, 12))
+					.append("tags", List.of(word(random), word(random)))
+					.append("status", status.name())
+					.append("assignedUserId", status == TaskStatus.PENDING ? null : "user-" + random.nextInt(USERS))
+					.append("createdAt", createdAt)
+					.append("updatedAt", createdAt)
+					.append("deadline", Date.from(createdAt.toInstant().plus(Duration.ofDays(1 + random.nextInt(60)))))
+					.append("version", 0L));
+			if (batch.size() == INSERT_BATCH) {
+				tasks.insertMany(batch);
+				batch.clear();
+			}
+		}
+		if (!batch.isEmpty()) {
+			tasks.insertMany(batch);
+		}
+	}
+
+	private static String words(Random random, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			text.append(i == 0 ? "" : " ").append(word(random));
+		}
+		return text.toString();
+	}
+
+	private static String word(Random random) {
+		return WORDS.get(random.nextInt(random.nextInt(WORDS.size()) + 1));
+	}
+}
@@ -0,0 +1,152 @@
+package com.example.task_service.service;
+
+import com.example.task_service.dto.BulkItemResult;
+import com.example.task_service.dto.BulkUpdateResult;
+import com.example.task_service.dto.TaskAssignment;
+import com.example.task_service.enums.TaskStatus;
+import com.example.task_service.exception.TaskVersionRequiredException;
+import com.example.task_service.repository.TaskRepository;
+import com.example.task_service.taskModel.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Bulk completion / assignment when a task changes between the state read (findStates) and the bulk write,
+// and the fields the service resets or checks on single-task writes.
+class TaskServiceImplementationTests {
+
+	private static final String TASK_ID = "task-1";
+
+	private TaskRepository taskRepository;
+	private TaskStatsService taskStatsService;
+	private TaskServiceImplementation service;
+
+	@BeforeEach
+	void setUp() {
+		taskRepository = mock(TaskRepository.class);
+		taskStatsService = mock(TaskStatsService.class);
+		service = new TaskServiceImplementation(taskRepository, taskStatsService);
+	}
+
+	@Test
+	void completionOfATaskAssignedConcurrentlyIsReappliedNotLost() {
+		// Read as PENDING; assigned before the bulk write → its conditional update matched nothing.
+		when(taskRepository.findStates(List.of(TASK_ID))).thenReturn(List.of(task(TaskStatus.PENDING, null)));
+		when(taskRepository.bulkComplete(eq(List.of(TASK_ID)), anyMap()))
+				.thenReturn(new BulkUpdateResult(Map.of(), Set.of(0), true));
+		Task assigned = task(TaskStatus.ASSIGNED, "user-1");
+		when(taskRepository.findAndUpdateUnlessDone(eq(TASK_ID), any(Update.class))).thenReturn(assigned);
+
+		List<BulkItemResult> results = service.completeTasks(List.of(TASK_ID));
+
+		assertThat(results).containsExactly(BulkItemResult.ok(0, TASK_ID));
+		// Delta from the state the retry actually replaced, not the stale PENDING read.
+		verify(taskStatsService).recordChanged(assigned, TaskStatus.DONE, "user-1");
+		verify(taskStatsService).recordStatusChanged(List.of(), TaskStatus.DONE);
+		verify(taskStatsService, never()).reconcile();
+	}
+
+	@Test
+	void completionOfATaskDeletedConcurrentlyIsReportedAsFailed() {
+		when(taskRepository.findStates(List.of(TASK_ID))).thenReturn(List.of(task(TaskStatus.PENDING, null)));
+		when(taskRepository.bulkComplete(eq(List.of(TASK_ID)), anyMap()))
+				.thenReturn(new BulkUpdateResult(Map.of(), Set.of(0), true));
+		when(taskRepository.existsById(TASK_ID)).thenReturn(false);
+
+		List<BulkItemResult> results = service.completeTasks(List.of(TASK_ID));
+
+		assertThat(results).containsExactly(BulkItemResult.failed(0, TASK_ID, "Task not found with id: " + TASK_ID));
+		verify(taskStatsService).recordStatusChanged(List.of(), TaskStatus.DONE);
+	}
+
+	@Test
+	void unattributedUnmatchedUpdatesTriggerAReconcile() {
+		when(taskRepository.findStates(List.of(TASK_ID))).thenReturn(List.of(task(TaskStatus.PENDING, null)));
+		when(taskRepository.bulkComplete(eq(List.of(TASK_ID)), anyMap()))
+				.thenReturn(new BulkUpdateResult(Map.of(), Set.of(), false));
+
+		List<BulkItemResult> results = service.completeTasks(List.of(TASK_ID));
+
+		assertThat(results).containsExactly(BulkItemResult.ok(0, TASK_ID));
+		verify(taskStatsService).reconcile();
+		verify(taskRepository, never()).findAndUpdateUnlessDone(any(), any());
+	}
+
+	@Test
+	void assignmentOfATaskReassignedConcurrentlyIsReportedAsFailed() {
+		Task read = task(TaskStatus.ASSIGNED, "user-1");
+		List<TaskAssignment> assignments = List.of(new TaskAssignment(TASK_ID, "user-2"));
+		when(taskRepository.findStates(List.of(TASK_ID))).thenReturn(List.of(read));
+		when(taskRepository.bulkAssign(assignments, Map.of(TASK_ID, read)))
+				.thenReturn(new BulkUpdateResult(Map.of(), Set.of(0), true));
+
+		List<BulkItemResult> results = service.assignTasks(assignments);
+
+		assertThat(results).containsExactly(
+				BulkItemResult.failed(0, TASK_ID, "Task was modified concurrently: " + TASK_ID));
+		verify(taskStatsService, never()).recordChanged(any(), any(), any());
+		verify(taskStatsService, never()).reconcile();
+	}
+
+	@Test
+	void assignmentRecordsOneDeltaPerWrittenTask() {
+		Task read = task(TaskStatus.PENDING, null);
+		List<TaskAssignment> assignments = List.of(new TaskAssignment(TASK_ID, "user-1"), new TaskAssignment(TASK_ID, "user-2"));
+		when(taskRepository.findStates(List.of(TASK_ID, TASK_ID))).thenReturn(List.of(read));
+		when(taskRepository.bulkAssign(assignments, Map.of(TASK_ID, read)))
+				.thenReturn(new BulkUpdateResult(Map.of(), Set.of(), true));
+
+		List<BulkItemResult> results = service.assignTasks(assignments);
+
+		assertThat(results).containsExactly(BulkItemResult.ok(0, TASK_ID), BulkItemResult.ok(1, TASK_ID));
+		verify(taskStatsService).recordChanged(read, TaskStatus.ASSIGNED, "user-2");
+	}
+
+	@Test
+	void createIgnoresAClientSuppliedIdAndVersion() throws Exception {
+		Task posted = task(null, null);
+		posted.setVersion(3L);
+		when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		service.create(posted, "ROLE_ADMIN");
+
+		ArgumentCaptor<Task> saved = ArgumentCaptor.forClass(Task.class);
+		verify(taskRepository).save(saved.capture());
+		assertThat(saved.getValue().getId()).isNull();
+		assertThat(saved.getValue().getVersion()).isNull();
+		assertThat(saved.getValue().getStatus()).isEqualTo(TaskStatus.PENDING);
+	}
+
+	@Test
+	void updateWithoutAVersionIsRejectedBeforeAnyWrite() {
+		Task update = new Task();
+		update.setTitle("New title");
+
+		assertThatThrownBy(() -> service.updateTask(TASK_ID, update, "user-1"))
+				.isInstanceOf(TaskVersionRequiredException.class);
+		verify(taskRepository, never()).findAndUpdate(any(), any(), any());
+	}
+
+	private static Task task(TaskStatus status, String assignee) {
+		Task task = new Task();
+		task.setId(TASK_ID);
+		task.setStatus(status);
+		task.setAssignedUserId(assignee);
+		return task;
+	}
+}
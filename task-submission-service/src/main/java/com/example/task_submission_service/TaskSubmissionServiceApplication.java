@@ -4,6 +4,7 @@ package com.example.task_submission_service;
 import org.springframework.boot.SpringApplication;          // Utility class to bootstrap and launch Spring Boot application.
 import org.springframework.boot.autoconfigure.SpringBootApplication; // Enables auto-configuration, component scanning, and configuration support.
 import org.springframework.cloud.openfeign.EnableFeignClients; // Enables Feign Client support for inter-service communication.
+import org.springframework.scheduling.annotation.EnableScheduling; // Enables @Scheduled methods (outbox dispatcher).
 
 // @SpringBootApplication → Combines three key annotations:
 // 1. @Configuration → Marks this class as a source of bean definitions.
@@ -13,8 +14,11 @@ import org.springframework.cloud.openfeign.EnableFeignClients; // Enables Feign
 // @EnableFeignClients → Enables Feign Client functionality.
 // - Allows this microservice to call other microservices (like USER-SERVICE and TASK-SERVICE) declaratively.
 // - Feign automatically generates REST client implementations based on interfaces.
+//
+// @EnableScheduling → Runs OutboxDispatcher.dispatch() periodically.
 @SpringBootApplication
 @EnableFeignClients
+@EnableScheduling
 public class TaskSubmissionServiceApplication {
 
     // ================================
@@ -0,0 +1,34 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.config;
+
+import org.springframework.context.annotation.Bean;          // Declares a Spring-managed bean.
+import org.springframework.context.annotation.Configuration; // Marks this class as a source of bean definitions.
+import org.springframework.data.mongodb.MongoDatabaseFactory;      // Connection factory the transactions are bound to.
+import org.springframework.data.mongodb.MongoTransactionManager;   // Maps @Transactional onto MongoDB multi-document transactions.
+import org.springframework.transaction.support.TransactionTemplate; // Programmatic transactions (retried on write conflicts).
+
+// MongoTransactionConfig → Enables @Transactional for MongoDB.
+// Purpose:
+// - A review writes the submission, its revision counter and the outbox event atomically (transactional outbox).
+// - Multi-document transactions require a replica set (MongoDB Atlas clusters are replica sets).
+@Configuration
+public class MongoTransactionConfig {
+
+    // ================================
+    // Transaction Manager
+    // ================================
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory mongoDatabaseFactory) {
+        return new MongoTransactionManager(mongoDatabaseFactory);
+    }
+
+    // ================================
+    // Transaction Template
+    // ================================
+    // Used where a transaction must be re-run after a write conflict (bulk review), which @Transactional cannot do
+    // from inside the transactional method.
+    @Bean
+    public TransactionTemplate transactionTemplate(MongoTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
+}
@@ -0,0 +1,53 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.config;
+
+import com.example.task_submission_service.submissionModel.OutboxEvent;    // Outbox entity (due-events + TTL indexes).
+import com.example.task_submission_service.submissionModel.TaskSubmission; // Entity whose index annotations are resolved.
+import lombok.RequiredArgsConstructor;                  // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;                       // Lombok → logging support.
+import org.springframework.boot.context.event.ApplicationReadyEvent; // Published once the application has started.
+import org.springframework.context.event.EventListener; // Marks a method as an application event listener.
+import org.springframework.data.mongodb.core.MongoTemplate; // Low-level MongoDB operations (index management).
+import org.springframework.data.mongodb.core.index.IndexOperations; // Index operations for a single collection.
+import org.springframework.data.mongodb.core.index.IndexResolver;   // Resolves @Indexed/@CompoundIndex annotations.
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver; // Default annotation-based resolver.
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext; // Mapping metadata for MongoDB entities.
+import org.springframework.stereotype.Component;        // Marks this class as a Spring-managed bean.
+
+// SubmissionIndexInitializer → Creates the indexes declared on TaskSubmission and OutboxEvent when the service starts.
+// Purpose:
+// - Spring Data does not auto-create indexes by default.
+// - Without these indexes, listing a task's or a user's submissions scans the whole taskSubmission collection,
+//   and every outbox poll scans the whole outboxEvent collection.
+// - Indexes cannot be created inside a transaction → they must exist before the first review writes an event.
+// - createIndex() is idempotent → existing indexes are left untouched.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SubmissionIndexInitializer {
+
+    // ================================
+    // Dependencies (Injected via Constructor)
+    // ================================
+    private final MongoTemplate mongoTemplate;             // Used to access index operations.
+    private final MongoMappingContext mongoMappingContext; // Used to resolve the index annotations.
+
+    // ================================
+    // Create Indexes at Startup
+    // ================================
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        createIndexes(TaskSubmission.class);
+        createIndexes(OutboxEvent.class);
+    }
+
+    private void createIndexes(Class<?> entityType) {
+        IndexOperations indexOps = mongoTemplate.indexOps(entityType);
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+
+        resolver.resolveIndexFor(entityType).forEach(index -> {
+            String name = indexOps.createIndex(index);
+            log.info("Ensured index {} on {} collection", name, mongoTemplate.getCollectionName(entityType));
+        });
+    }
+}
@@ -1,30 +1,48 @@
 // Package declaration → groups related classes together.
 package com.example.task_submission_service.controller;
 
+import com.example.task_submission_service.dto.BulkItemResult;       // Per-item outcome of a bulk request.
+import com.example.task_submission_service.dto.SubmissionFilter;     // Optional status / task / user / time filters.
+import com.example.task_submission_service.dto.SubmissionPage;       // One page of submissions + cursor for the next page.
+import com.example.task_submission_service.dto.SubmissionReview;     // One (submissionId, status) pair of a bulk review.
 import com.example.task_submission_service.dto.UserDTO;              // DTO representing user details (from USER-SERVICE).
+import com.example.task_submission_service.enums.SubmissionStatus;   // Enum for submission status (status filter).
 import com.example.task_submission_service.service.SubmissionService; // Service interface for submission operations.
-import com.example.task_submission_service.service.UserServiceClient; // Feign client to call USER-SERVICE for user profile.
+import com.example.task_submission_service.service.UserProfileCache; // Token-keyed profile lookups (reviewer role check).
 import com.example.task_submission_service.submissionModel.TaskSubmission; // TaskSubmission entity mapped to MongoDB.
 import lombok.RequiredArgsConstructor;   // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;        // Lombok → logging support.
+import org.springframework.format.annotation.DateTimeFormat; // Parses ISO date-time request parameters.
 import org.springframework.http.HttpStatus;               // HTTP status codes.
 import org.springframework.http.ResponseEntity;           // Represents HTTP responses.
 import org.springframework.web.bind.annotation.*;         // REST controller + mapping annotations.
+import org.springframework.web.context.request.WebRequest; // Evaluates If-None-Match (conditional GET).
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 // @RestController → Marks this class as a REST controller (returns JSON responses).
 // @RequestMapping("/api/submissions") → Base URL for submission-related endpoints.
 // @RequiredArgsConstructor → Lombok generates constructor for final fields (dependency injection).
+// @Slf4j → Enables logging with log.info(), log.warn(), log.error().
 @RestController
 @RequestMapping("/api/submissions")
 @RequiredArgsConstructor
+@Slf4j
 public class SubController {
 
+    // ================================
+    // Constants
+    // ================================
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor"; // Cursor of the next page (absent on the last page).
+    private static final int MAX_BULK_ITEMS = 1000; // Maximum number of reviews accepted by one bulk request.
+
     // ================================
     // Dependencies (Injected via Constructor)
     // ================================
     private final SubmissionService submissionService;   // Provides submission-related operations.
-    private final UserServiceClient userServiceClient;   // Feign client to call USER-SERVICE for user profile.
+    private final UserProfileCache userProfileCache;     // Resolves the reviewer from the JWT.
 
     // ================================
     // Submit Task (POST /api/submissions)
@@ -33,52 +51,157 @@ public class SubController {
     public ResponseEntity<TaskSubmission> submitTask(@RequestParam String taskId,
                                                      @RequestParam String githubLink,
                                                      @RequestHeader("Authorization") String jwt) throws Exception {
-        // Step 1: Fetch user profile from USER-SERVICE using JWT.
-        UserDTO user = userServiceClient.getUserProfile(jwt);
-
-        // Step 2: Submit task via SubmissionService.
-        TaskSubmission submission = submissionService.submitTask(taskId, githubLink, user.id(), jwt);
+        // Step 1: Submit task via SubmissionService (user profile and task are looked up in parallel).
+        TaskSubmission submission = submissionService.submitTask(taskId, githubLink, jwt);
 
-        // Step 3: Return created submission with HTTP 201 Created.
+        // Step 2: Return created submission with HTTP 201 Created.
         return new ResponseEntity<>(submission, HttpStatus.CREATED);
     }
 
     // ================================
-    // Get All Submissions (GET /api/submissions)
+    // Get Submissions (GET /api/submissions)
     // ================================
+    // Always paginated (keyset, oldest first) → the review queue loads in constant time as history grows.
+    // Optional filters: status, taskId, userId, submittedFrom (inclusive) / submittedTo (exclusive), ISO date-time.
+    // - e.g. ?status=PENDING&limit=20 → next 20 submissions waiting for review.
+    // - limit → page size; after → value of X-Next-Cursor from the previous page.
     @GetMapping
-    public ResponseEntity<List<TaskSubmission>> getAllSubmissions() {
-        // Fetch all submissions.
-        List<TaskSubmission> submissions = submissionService.getAllTaskSubmissions();
-        return ResponseEntity.ok(submissions);
+    public ResponseEntity<List<TaskSubmission>> getAllSubmissions(@RequestParam(required = false) SubmissionStatus status,
+                                                                  @RequestParam(required = false) String taskId,
+                                                                  @RequestParam(required = false) String userId,
+                                                                  @RequestParam(required = false)
+                                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime submittedFrom,
+                                                                  @RequestParam(required = false)
+                                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime submittedTo,
+                                                                  @RequestParam(required = false) Integer limit,
+                                                                  @RequestParam(required = false) String after) {
+        SubmissionFilter filter = new SubmissionFilter(status, taskId, userId, submittedFrom, submittedTo);
+        return pageResponse(submissionService.getSubmissionsPage(filter, limit, after), null);
     }
 
     // ================================
     // Get Submission by ID (GET /api/submissions/{id})
     // ================================
+    // Conditional GET: ETag from the submission's version (bumped atomically on every write) + Last-Modified
+    // from the last write time; Spring answers 304 (without serializing the body) when If-None-Match still matches.
     @GetMapping("/{id}")
     public ResponseEntity<TaskSubmission> getSubmissionById(@PathVariable String id) throws Exception {
         // Fetch submission by ID.
-        return ResponseEntity.ok(submissionService.getTaskSubmissionById(id));
+        TaskSubmission submission = submissionService.getTaskSubmissionById(id);
+
+        long version = submission.getVersion() == null ? 0 : submission.getVersion();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag("\"" + submission.getId() + "-" + version + "\"");
+        LocalDateTime lastModified = submission.getUpdatedAt() != null
+                ? submission.getUpdatedAt() : submission.getSubmissionTime();
+        if (lastModified != null) {
+            response.lastModified(lastModified.atZone(ZoneId.systemDefault()).toInstant());
+        }
+        return response.body(submission);
     }
 
     // ================================
     // Get Submissions by Task ID (GET /api/submissions/task/{taskId})
     // ================================
+    // Conditional GET: the ETag is the task's submission revision (bumped on every submit / review).
+    // The revision is read before the submissions → 304 without querying or serializing them.
+    // Pagination (optional):
+    // - limit → page size; after → value of X-Next-Cursor from the previous page.
+    // - Without limit/after the full list is returned (newest first).
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<List<TaskSubmission>> getSubmissionByTaskId(@PathVariable String taskId) throws Exception {
+    public ResponseEntity<List<TaskSubmission>> getSubmissionByTaskId(WebRequest request,
+                                                                      @PathVariable String taskId,
+                                                                      @RequestParam(required = false) Integer limit,
+                                                                      @RequestParam(required = false) String after) throws Exception {
+        String eTag = "\"" + taskId + "-" + submissionService.getTaskSubmissionRevision(taskId) + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         // Fetch submissions for a specific task.
-        return ResponseEntity.ok(submissionService.getTaskSubmissionByTaskId(taskId));
+        if (limit == null && after == null) {
+            return ResponseEntity.ok().eTag(eTag).body(submissionService.getTaskSubmissionByTaskId(taskId));
+        }
+        return pageResponse(submissionService.getTaskSubmissionsPage(taskId, limit, after), eTag);
+    }
+
+    // ================================
+    // Get Submission History of a User (GET /api/submissions/user/{userId})
+    // ================================
+    // Always paginated (keyset, newest first) → limit / after as for GET /api/submissions/task/{taskId}.
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<TaskSubmission>> getSubmissionsByUserId(@PathVariable String userId,
+                                                                       @RequestParam(required = false) Integer limit,
+                                                                       @RequestParam(required = false) String after) {
+        return pageResponse(submissionService.getUserSubmissionsPage(userId, limit, after), null);
+    }
+
+    // ================================
+    // Accept or Decline Submissions in Bulk (PUT /api/submissions/bulk)
+    // ================================
+    // Purpose:
+    // - Apply up to MAX_BULK_ITEMS reviews with one bulk write; accepted tasks reach TASK-SERVICE through the outbox,
+    //   whose dispatcher completes them with one PUT /api/tasks/bulk/complete per batch.
+    // - Body: [ { "submissionId": "...", "status": "ACCEPTED" }, ... ]
+    // - Returns one BulkItemResult per review (index, submission id, success/error).
+    // - Admins only: acceptances are delivered with TASK-SERVICE's service token.
+    @PutMapping("/bulk")
+    public ResponseEntity<List<BulkItemResult>> reviewSubmissions(@RequestBody List<SubmissionReview> reviews,
+                                                                  @RequestHeader("Authorization") String jwt) {
+        if (reviews.isEmpty() || reviews.size() > MAX_BULK_ITEMS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Step 1: Role is checked once for the whole batch.
+        if (!isAdmin(jwt)) {
+            log.warn("Unauthorized bulk submission review attempted");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Step 2: Apply all reviews with one bulk write.
+        return ResponseEntity.ok(submissionService.reviewSubmissions(reviews));
     }
 
     // ================================
     // Accept or Decline Submission (PUT /api/submissions/{id}?status=ACCEPTED/REJECTED)
     // ================================
+    // Admins only, same as the bulk review (an acceptance completes the task through the outbox).
     @PutMapping("/{id}")
     public ResponseEntity<TaskSubmission> acceptOrDeclineSubmission(@PathVariable String id,
-                                                                    @RequestParam String status) throws Exception {
-        // Update submission status (ACCEPTED or REJECTED).
+                                                                    @RequestParam String status,
+                                                                    @RequestHeader("Authorization") String jwt) throws Exception {
+        // Step 1: Only admins can review submissions.
+        if (!isAdmin(jwt)) {
+            log.warn("Unauthorized review of submission {} attempted", id);
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Step 2: Update submission status (ACCEPTED or REJECTED).
         TaskSubmission submission = submissionService.acceptDeclineTaskSubmission(id, status);
         return ResponseEntity.ok(submission);
     }
+
+    // ================================
+    // Role Check
+    // ================================
+    // Caller resolved through the token cache (USER-SERVICE on a miss) → must have ROLE_ADMIN.
+    private boolean isAdmin(String jwt) {
+        UserDTO user = userProfileCache.getUserProfile(jwt);
+        return user != null && "ROLE_ADMIN".equals(user.role());
+    }
+
+    // ================================
+    // Pagination Helper
+    // ================================
+    // Returns the page as a JSON array and exposes the next cursor (and ETag, if any) as response headers.
+    private ResponseEntity<List<TaskSubmission>> pageResponse(SubmissionPage page, String eTag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        return response.body(page.submissions());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.dto;
+
+// BulkItemResult → Outcome of one item of a bulk request.
+// Purpose:
+// - Returned by PUT /api/submissions/bulk, and by TASK-SERVICE for PUT /api/tasks/bulk/complete (same JSON shape).
+// - index → position of the item in the request body.
+// - id → submission id (or task id for the TASK-SERVICE response).
+// - success / error → result of the item (error is null on success).
+public record BulkItemResult(
+        int index,
+        String id,
+        boolean success,
+        String error
+) {
+
+    // ================================
+    // Factory Methods
+    // ================================
+    public static BulkItemResult ok(int index, String id) {
+        return new BulkItemResult(index, id, true, null);
+    }
+
+    public static BulkItemResult failed(int index, String id, String error) {
+        return new BulkItemResult(index, id, false, error);
+    }
+}
@@ -0,0 +1,58 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.dto;
+
+import com.example.task_submission_service.exception.InvalidCursorException; // Thrown for malformed cursors (→ 400).
+import com.example.task_submission_service.submissionModel.TaskSubmission;   // Submission the cursor points at.
+import org.bson.types.ObjectId;                                              // Used to validate the _id part of the cursor.
+
+import java.nio.charset.StandardCharsets;                         // Charset for encoding the cursor.
+import java.time.LocalDateTime;                                   // Type of the sort field (submissionTime).
+import java.time.format.DateTimeParseException;                   // Thrown for malformed sort values.
+import java.util.Base64;                                          // URL-safe encoding of the cursor.
+
+// SubmissionCursor → Position of the last submission of a page, used for keyset (cursor) pagination.
+// Purpose:
+// - Pages are ordered newest first by (submissionTime, _id); the next page starts strictly after this pair.
+// - MongoDB seeks directly into the (taskId | userId, submissionTime, _id) index → deep pages cost the same as the first.
+// - Sent to clients as an opaque, URL-safe string (X-Next-Cursor header / "after" parameter).
+public record SubmissionCursor(
+        LocalDateTime submissionTime, // submissionTime of the last submission (may be null).
+        String id                     // _id of the last submission (tiebreaker for equal times).
+) {
+
+    // ================================
+    // Create Cursor from Submission
+    // ================================
+    public static SubmissionCursor of(TaskSubmission submission) {
+        return new SubmissionCursor(submission.getSubmissionTime(), submission.getId());
+    }
+
+    // ================================
+    // Encode Cursor
+    // ================================
+    // Format (before Base64): submissionTime|id  → e.g. "2025-01-31T10:00|65f0..."
+    public String encode() {
+        String raw = (submissionTime == null ? "" : submissionTime) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ================================
+    // Decode Cursor
+    // ================================
+    // Throws InvalidCursorException if the cursor is malformed.
+    public static SubmissionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+
+            if (parts.length != 2 || !ObjectId.isValid(parts[1])) {
+                throw new InvalidCursorException("Malformed cursor");
+            }
+
+            LocalDateTime time = parts[0].isEmpty() ? null : LocalDateTime.parse(parts[0]);
+            return new SubmissionCursor(time, parts[1]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.dto;
+
+import com.example.task_submission_service.enums.SubmissionStatus; // Enum for submission status (PENDING, ACCEPTED, REJECTED).
+
+import java.time.LocalDateTime;
+
+// SubmissionFilter → Optional filters of the submission listing (GET /api/submissions).
+// Purpose:
+// - Every field is optional (null = no restriction); all of them are pushed into the MongoDB query.
+// - submittedFrom is inclusive, submittedTo exclusive → adjacent windows never overlap.
+public record SubmissionFilter(
+        SubmissionStatus status,      // e.g. PENDING for the review queue.
+        String taskId,                // Submissions of one task.
+        String userId,                // Submissions of one user.
+        LocalDateTime submittedFrom,  // submissionTime >= submittedFrom.
+        LocalDateTime submittedTo     // submissionTime < submittedTo.
+) { }
@@ -0,0 +1,15 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.dto;
+
+import com.example.task_submission_service.submissionModel.TaskSubmission; // TaskSubmission entity mapped to MongoDB.
+
+import java.util.List;
+
+// SubmissionPage → One page of submissions returned by keyset pagination.
+// Purpose:
+// - submissions → the submissions of this page (newest first).
+// - nextCursor → opaque cursor for the next page, or null when this is the last page.
+public record SubmissionPage(
+        List<TaskSubmission> submissions,
+        String nextCursor
+) { }
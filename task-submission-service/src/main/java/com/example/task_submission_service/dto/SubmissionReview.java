@@ -0,0 +1,10 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.dto;
+
+// SubmissionReview → One entry of a bulk review request.
+// Example JSON:
+//   { "submissionId": "65f0c1...", "status": "ACCEPTED" }
+public record SubmissionReview(
+        String submissionId, // ID of the reviewed submission.
+        String status        // New status ("ACCEPTED" or "REJECTED", case-insensitive).
+) { }
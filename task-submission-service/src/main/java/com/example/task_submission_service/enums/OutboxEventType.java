@@ -0,0 +1,13 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.enums;
+
+// OutboxEventType → Kind of change recorded in the outbox.
+// Purpose:
+// - Tells OutboxDispatcher which remote call delivers the event.
+public enum OutboxEventType {
+
+    // ================================
+    // Enum Constants
+    // ================================
+    TASK_COMPLETED // A submission was accepted → TASK-SERVICE marks the task as DONE.
+}
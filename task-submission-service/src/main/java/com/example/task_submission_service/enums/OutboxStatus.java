@@ -0,0 +1,16 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.enums;
+
+// OutboxStatus → Delivery state of an outbox event.
+// Purpose:
+// - PENDING events are picked up by OutboxDispatcher (again after a failed attempt, once the backoff has passed).
+// - SENT and FAILED are final.
+public enum OutboxStatus {
+
+    // ================================
+    // Enum Constants
+    // ================================
+    PENDING, // Waiting for (re)delivery.
+    SENT,    // Delivered; removed by the TTL index after the retention period.
+    FAILED   // Gave up (permanent error or max attempts reached) → needs manual attention.
+}
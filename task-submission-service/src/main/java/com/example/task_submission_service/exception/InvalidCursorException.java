@@ -0,0 +1,20 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.exception;
+
+import org.springframework.http.HttpStatus;                      // HTTP status codes.
+import org.springframework.web.bind.annotation.ResponseStatus;   // Maps the exception to an HTTP status.
+
+// InvalidCursorException → Thrown when a pagination cursor ("after" parameter) cannot be decoded.
+// @ResponseStatus(HttpStatus.BAD_REQUEST) → Spring answers with 400 instead of 500.
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+
+    // ================================
+    // Constructor
+    // ================================
+    // Example usage:
+    //   throw new InvalidCursorException("Malformed cursor");
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.exception;
+
+import org.springframework.http.HttpStatus;                      // HTTP status codes.
+import org.springframework.web.bind.annotation.ResponseStatus;   // Maps the exception to an HTTP status.
+
+// RemoteLookupTimeoutException → Thrown when USER-SERVICE / TASK-SERVICE did not answer within the
+// shared deadline of the submit lookups.
+// @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT) → Spring answers with 504 instead of 500.
+@ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+public class RemoteLookupTimeoutException extends RuntimeException {
+
+    // ================================
+    // Constructor
+    // ================================
+    // Example usage:
+    //   throw new RemoteLookupTimeoutException("Lookups did not complete within 3s");
+    public RemoteLookupTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.enums.OutboxStatus;        // Delivery state.
+import com.example.task_submission_service.submissionModel.OutboxEvent; // Outbox document mapped to MongoDB.
+import org.springframework.data.mongodb.repository.MongoRepository;   // Spring Data MongoDB repository base interface.
+
+// OutboxEventRepository → Access to the outbox collection.
+// Events are inserted with save(); claiming and state changes go through OutboxEventRepositoryCustom.
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String>, OutboxEventRepositoryCustom {
+
+    // ================================
+    // Count by Status
+    // ================================
+    // Served by the status_nextAttemptAt index (outbox.events.pending / outbox.events.failed gauges).
+    long countByStatus(OutboxStatus status);
+}
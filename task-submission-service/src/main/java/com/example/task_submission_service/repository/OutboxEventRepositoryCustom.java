@@ -0,0 +1,44 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.submissionModel.OutboxEvent; // Outbox document mapped to MongoDB.
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+// OutboxEventRepositoryCustom → Claiming and state changes of outbox events.
+// The implementation lives in OutboxEventRepositoryCustomImpl.
+public interface OutboxEventRepositoryCustom {
+
+    // ================================
+    // Claim Due Events
+    // ================================
+    // Purpose:
+    // - Claim up to `limit` PENDING events whose nextAttemptAt has passed (oldest first) for `claimToken`.
+    // - A claimed event is hidden from other dispatchers until `leaseUntil` (nextAttemptAt is moved forward),
+    //   so several instances can dispatch concurrently; a crashed dispatcher's events become due again.
+    // - attempts is incremented for every claimed event.
+    List<OutboxEvent> claimDue(String claimToken, Instant now, Instant leaseUntil, int limit);
+
+    // ================================
+    // Mark Sent
+    // ================================
+    // Purpose:
+    // - Final state after a successful delivery (only events still owned by `claimToken`), one updateMulti.
+    void markSent(Collection<String> ids, String claimToken, Instant sentAt);
+
+    // ================================
+    // Reschedule
+    // ================================
+    // Purpose:
+    // - Failed attempt → stays PENDING, next attempt not before `nextAttemptAt` (backoff).
+    void reschedule(String id, String claimToken, Instant nextAttemptAt, String error);
+
+    // ================================
+    // Mark Failed
+    // ================================
+    // Purpose:
+    // - Permanent error or max attempts reached → FAILED, never retried automatically.
+    void markFailed(String id, String claimToken, String error);
+}
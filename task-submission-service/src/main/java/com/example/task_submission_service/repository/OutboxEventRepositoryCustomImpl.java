@@ -0,0 +1,101 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.enums.OutboxStatus;        // Delivery state.
+import com.example.task_submission_service.submissionModel.OutboxEvent; // Outbox document mapped to MongoDB.
+import lombok.RequiredArgsConstructor;   // Lombok → generates constructor for final fields.
+import org.springframework.data.domain.Sort;                 // Oldest events first.
+import org.springframework.data.mongodb.core.MongoTemplate;  // Low-level MongoDB operations.
+import org.springframework.data.mongodb.core.query.Criteria; // Builds MongoDB filter documents.
+import org.springframework.data.mongodb.core.query.Query;    // MongoDB query.
+import org.springframework.data.mongodb.core.query.Update;   // $set / $inc modifications.
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+// OutboxEventRepositoryCustomImpl → Implementation of OutboxEventRepositoryCustom using MongoTemplate.
+@RequiredArgsConstructor
+public class OutboxEventRepositoryCustomImpl implements OutboxEventRepositoryCustom {
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final MongoTemplate mongoTemplate; // Provides multi-document updates.
+
+    // ================================
+    // Claim Due Events
+    // ================================
+    // Three round trips per batch, independent of its size:
+    // 1. ids of the oldest due events, 2. one updateMulti that claims those still due, 3. read the claimed events.
+    @Override
+    public List<OutboxEvent> claimDue(String claimToken, Instant now, Instant leaseUntil, int limit) {
+        // Step 1: Candidates → index range scan on (status, nextAttemptAt).
+        Query due = new Query(dueCriteria(now))
+                .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"))
+                .limit(limit);
+        due.fields().include("id");
+        List<String> ids = mongoTemplate.find(due, OutboxEvent.class).stream().map(OutboxEvent::getId).toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Step 2: Claim → the due condition is repeated, so an event claimed meanwhile by another instance is skipped.
+        mongoTemplate.updateMulti(
+                new Query(dueCriteria(now).and("id").in(ids)),
+                new Update().set("claimToken", claimToken).set("nextAttemptAt", leaseUntil).inc("attempts", 1),
+                OutboxEvent.class);
+
+        // Step 3: Exactly the events this run owns.
+        return mongoTemplate.find(
+                new Query(Criteria.where("id").in(ids).and("claimToken").is(claimToken))
+                        .with(Sort.by(Sort.Direction.ASC, "createdAt")),
+                OutboxEvent.class);
+    }
+
+    // ================================
+    // Mark Sent
+    // ================================
+    @Override
+    public void markSent(Collection<String> ids, String claimToken, Instant sentAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        mongoTemplate.updateMulti(new Query(Criteria.where("id").in(ids).and("claimToken").is(claimToken)),
+                new Update().set("status", OutboxStatus.SENT).set("sentAt", sentAt)
+                        .unset("claimToken").unset("lastError"),
+                OutboxEvent.class);
+    }
+
+    // ================================
+    // Reschedule
+    // ================================
+    @Override
+    public void reschedule(String id, String claimToken, Instant nextAttemptAt, String error) {
+        mongoTemplate.updateFirst(owned(id, claimToken),
+                new Update().set("nextAttemptAt", nextAttemptAt).set("lastError", error).unset("claimToken"),
+                OutboxEvent.class);
+    }
+
+    // ================================
+    // Mark Failed
+    // ================================
+    @Override
+    public void markFailed(String id, String claimToken, String error) {
+        mongoTemplate.updateFirst(owned(id, claimToken),
+                new Update().set("status", OutboxStatus.FAILED).set("lastError", error).unset("claimToken"),
+                OutboxEvent.class);
+    }
+
+    // ================================
+    // Helpers
+    // ================================
+    private Criteria dueCriteria(Instant now) {
+        return Criteria.where("status").is(OutboxStatus.PENDING).and("nextAttemptAt").lte(now);
+    }
+
+    // Only the run that claimed the event may change it (its lease may have expired and been re-claimed).
+    private Query owned(String id, String claimToken) {
+        return new Query(Criteria.where("id").is(id).and("claimToken").is(claimToken));
+    }
+}
@@ -4,6 +4,8 @@ package com.example.task_submission_service.repository;
 import com.example.task_submission_service.submissionModel.TaskSubmission; // TaskSubmission entity mapped to MongoDB.
 import org.springframework.data.mongodb.repository.MongoRepository;       // Spring Data MongoDB repository base interface.
 
+import java.util.List;
+
 // SubRepository → Interface for performing CRUD operations on TaskSubmission collection in MongoDB.
 // Extends MongoRepository<TaskSubmission, String>:
 // - TaskSubmission → entity type.
@@ -18,9 +20,12 @@ import org.springframework.data.mongodb.repository.MongoRepository;       // Spr
 // - count()
 //
 // No need to write boilerplate queries — Spring Data generates them automatically.
-public interface SubRepository extends MongoRepository<TaskSubmission, String> {
-    // Currently, no custom query methods are defined.
-    // You can add custom queries here if needed, for example:
-    // List<TaskSubmission> findByUserId(String userId);
-    // List<TaskSubmission> findByTaskId(String taskId);
-}
\ No newline at end of file
+// Keyset pages (findTaskPage / findUserPage) come from SubRepositoryCustom.
+public interface SubRepository extends MongoRepository<TaskSubmission, String>, SubRepositoryCustom {
+
+    // ================================
+    // Find Submissions of a Task
+    // ================================
+    // Newest first → served by the taskId_submissionTime_id index (range scan, no in-memory sort).
+    List<TaskSubmission> findByTaskIdOrderBySubmissionTimeDescIdDesc(String taskId);
+}
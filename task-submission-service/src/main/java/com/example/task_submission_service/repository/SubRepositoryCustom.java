@@ -0,0 +1,67 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.dto.SubmissionCursor;           // Keyset position of the previous page.
+import com.example.task_submission_service.dto.SubmissionFilter;           // Optional status / task / user / time filters.
+import com.example.task_submission_service.enums.SubmissionStatus;         // New status of a bulk review.
+import com.example.task_submission_service.submissionModel.TaskSubmission; // TaskSubmission entity mapped to MongoDB.
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// SubRepositoryCustom → Keyset-paginated submission lookups that derived queries cannot express.
+// The implementation lives in SubRepositoryCustomImpl.
+public interface SubRepositoryCustom {
+
+    // ================================
+    // Find Page of a Task's Submissions
+    // ================================
+    // Purpose:
+    // - Fetch up to `limit` submissions of `taskId`, newest first, starting strictly after `after`.
+    // - after → cursor of the previous page's last submission (null = first page).
+    List<TaskSubmission> findTaskPage(String taskId, SubmissionCursor after, int limit);
+
+    // ================================
+    // Find Page of a User's Submissions
+    // ================================
+    // Purpose:
+    // - Same as findTaskPage(), for the submissions made by `userId` (submission history).
+    List<TaskSubmission> findUserPage(String userId, SubmissionCursor after, int limit);
+
+    // ================================
+    // Find Page of Filtered Submissions
+    // ================================
+    // Purpose:
+    // - Fetch up to `limit` submissions matching `filter`, oldest first, starting strictly after `after`.
+    // - No status filter → every status plus null ($in), so the query still uses the status_submissionTime_id index
+    //   and submissions stored without a status are not dropped.
+    List<TaskSubmission> findPage(SubmissionFilter filter, SubmissionCursor after, int limit);
+
+    // ================================
+    // Find States
+    // ================================
+    // Purpose:
+    // - Fetch id, taskId and status of the given submissions with one $in query (projection only).
+    // - Unknown or malformed ids are simply absent from the result.
+    List<TaskSubmission> findStates(Collection<String> ids);
+
+    // ================================
+    // Find and Set Status
+    // ================================
+    // Purpose:
+    // - Atomically set the status and updatedAt of one submission and $inc its version.
+    // - Returns the document as it was BEFORE the write (previous status), or null when the id is unknown.
+    TaskSubmission findAndSetStatus(String id, SubmissionStatus status, LocalDateTime updatedAt);
+
+    // ================================
+    // Bulk Set Status
+    // ================================
+    // Purpose:
+    // - Set the status (and updatedAt) of many submissions and $inc their version with one unordered bulk write.
+    // - statusById → submission id → new status (ids known to exist, see findStates()).
+    // - Called inside the review transaction: a submission changed concurrently makes MongoDB abort it with a
+    //   write conflict (TransientTransactionError), and the whole review is retried on a fresh snapshot.
+    void bulkSetStatus(Map<String, SubmissionStatus> statusById, LocalDateTime updatedAt);
+}
@@ -0,0 +1,190 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.dto.SubmissionCursor;           // Keyset position of the previous page.
+import com.example.task_submission_service.dto.SubmissionFilter;           // Optional status / task / user / time filters.
+import com.example.task_submission_service.enums.SubmissionStatus;         // Status values ($in filter, bulk review).
+import com.example.task_submission_service.submissionModel.TaskSubmission; // TaskSubmission entity mapped to MongoDB.
+import lombok.RequiredArgsConstructor;   // Lombok → generates constructor for final fields.
+import org.bson.types.ObjectId;          // _id type of the submissions.
+import org.springframework.data.domain.Sort;                 // Sort order of a page.
+import org.springframework.data.mongodb.core.BulkOperations; // Many updates in one round trip.
+import org.springframework.data.mongodb.core.FindAndModifyOptions; // Return the document before the write.
+import org.springframework.data.mongodb.core.MongoTemplate;  // Low-level MongoDB operations.
+import org.springframework.data.mongodb.core.query.Criteria; // Builds MongoDB filter documents.
+import org.springframework.data.mongodb.core.query.Query;    // MongoDB query.
+import org.springframework.data.mongodb.core.query.Update;   // $set / $inc modifications.
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// SubRepositoryCustomImpl → Implementation of SubRepositoryCustom using MongoTemplate.
+@RequiredArgsConstructor
+public class SubRepositoryCustomImpl implements SubRepositoryCustom {
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final MongoTemplate mongoTemplate; // Executes the keyset queries.
+
+    // ================================
+    // Status Helpers
+    // ================================
+    // Every status plus null, which also matches submissions stored without a status:
+    // same result as no filter, but the query still uses the status_submissionTime_id index.
+    private static final List<SubmissionStatus> ANY_STATUS =
+            Stream.concat(Arrays.stream(SubmissionStatus.values()), Stream.of((SubmissionStatus) null)).toList();
+
+    // ================================
+    // Find Page of a Task's Submissions
+    // ================================
+    @Override
+    public List<TaskSubmission> findTaskPage(String taskId, SubmissionCursor after, int limit) {
+        return findPage(Criteria.where("taskId").is(taskId), Sort.Direction.DESC, after, limit);
+    }
+
+    // ================================
+    // Find Page of a User's Submissions
+    // ================================
+    @Override
+    public List<TaskSubmission> findUserPage(String userId, SubmissionCursor after, int limit) {
+        return findPage(Criteria.where("userId").is(userId), Sort.Direction.DESC, after, limit);
+    }
+
+    // ================================
+    // Find Page of Filtered Submissions
+    // ================================
+    @Override
+    public List<TaskSubmission> findPage(SubmissionFilter filter, SubmissionCursor after, int limit) {
+        // Step 1: Status first → leading key of status_submissionTime_id (all statuses when not filtered).
+        Criteria criteria = Criteria.where("status").in(filter.status() == null
+                ? ANY_STATUS
+                : List.of(filter.status()));
+
+        // Step 2: Optional task / user equality filters (the planner may pick their indexes instead).
+        if (filter.taskId() != null) {
+            criteria = criteria.and("taskId").is(filter.taskId());
+        }
+        if (filter.userId() != null) {
+            criteria = criteria.and("userId").is(filter.userId());
+        }
+
+        // Step 3: Time window → bounds of the submissionTime range scan.
+        if (filter.submittedFrom() != null || filter.submittedTo() != null) {
+            Criteria submissionTime = criteria.and("submissionTime");
+            if (filter.submittedFrom() != null) {
+                submissionTime = submissionTime.gte(filter.submittedFrom());
+            }
+            if (filter.submittedTo() != null) {
+                submissionTime = submissionTime.lt(filter.submittedTo());
+            }
+            criteria = submissionTime;
+        }
+
+        return findPage(criteria, Sort.Direction.ASC, after, limit);
+    }
+
+    // ================================
+    // Find States
+    // ================================
+    @Override
+    public List<TaskSubmission> findStates(Collection<String> ids) {
+        List<ObjectId> objectIds = ids.stream()
+                .filter(id -> id != null && ObjectId.isValid(id))
+                .map(ObjectId::new)
+                .toList();
+
+        Query query = new Query(Criteria.where("id").in(objectIds));
+        query.fields().include("id", "taskId", "status");
+        return mongoTemplate.find(query, TaskSubmission.class);
+    }
+
+    // ================================
+    // Find and Set Status
+    // ================================
+    @Override
+    public TaskSubmission findAndSetStatus(String id, SubmissionStatus status, LocalDateTime updatedAt) {
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("id").is(id)),
+                statusUpdate(status, updatedAt),
+                FindAndModifyOptions.options().returnNew(false),
+                TaskSubmission.class);
+    }
+
+    // ================================
+    // Bulk Set Status
+    // ================================
+    @Override
+    public void bulkSetStatus(Map<String, SubmissionStatus> statusById, LocalDateTime updatedAt) {
+        if (statusById.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskSubmission.class);
+        statusById.forEach((id, status) -> bulk.updateOne(
+                new Query(Criteria.where("id").is(id)),
+                statusUpdate(status, updatedAt)));
+        bulk.execute();
+    }
+
+    // $set status + updatedAt, $inc version (a missing version counts as 0).
+    private Update statusUpdate(SubmissionStatus status, LocalDateTime updatedAt) {
+        return new Update().set("status", status).set("updatedAt", updatedAt).inc("version", 1);
+    }
+
+    // ================================
+    // Keyset Page
+    // ================================
+    // direction → DESC = newest first, ASC = oldest first.
+    private List<TaskSubmission> findPage(Criteria criteria, Sort.Direction direction, SubmissionCursor after, int limit) {
+        // Step 1: Seek past the previous page instead of skipping documents.
+        if (after != null) {
+            criteria = criteria.orOperator(afterCriteria(direction, after));
+        }
+
+        // Step 2: Order by (submissionTime, _id) → unique order, served by the compound indexes.
+        Query query = new Query(criteria)
+                .with(Sort.by(direction, "submissionTime", "id"))
+                .limit(limit);
+
+        return mongoTemplate.find(query, TaskSubmission.class);
+    }
+
+    // ================================
+    // Keyset Condition
+    // ================================
+    // Matches submissions that come after (submissionTime, id) in the given (submissionTime, _id) order.
+    // MongoDB sorts null/missing values before every date, which the null branches mirror
+    // (first in ascending order, last in descending order).
+    // Package-private and static → covered by unit tests without a database.
+    static Criteria[] afterCriteria(Sort.Direction direction, SubmissionCursor after) {
+        ObjectId lastId = new ObjectId(after.id());
+
+        if (direction.isAscending()) {
+            if (after.submissionTime() == null) {
+                return new Criteria[]{
+                        Criteria.where("submissionTime").is(null).and("id").gt(lastId),
+                        Criteria.where("submissionTime").ne(null)
+                };
+            }
+            return new Criteria[]{
+                    Criteria.where("submissionTime").gt(after.submissionTime()),
+                    Criteria.where("submissionTime").is(after.submissionTime()).and("id").gt(lastId)
+            };
+        }
+
+        if (after.submissionTime() == null) {
+            return new Criteria[]{
+                    Criteria.where("submissionTime").is(null).and("id").lt(lastId)
+            };
+        }
+        return new Criteria[]{
+                Criteria.where("submissionTime").lt(after.submissionTime()),
+                Criteria.where("submissionTime").is(after.submissionTime()).and("id").lt(lastId),
+                Criteria.where("submissionTime").is(null)
+        };
+    }
+}
@@ -0,0 +1,11 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.submissionModel.SubmissionRevision; // Revision document mapped to MongoDB.
+import org.springframework.data.mongodb.repository.MongoRepository;           // Spring Data MongoDB repository base interface.
+
+// SubmissionRevisionRepository → Access to the per-task submission revisions.
+// Reads go through findById(taskId); writes through the atomic increment() of SubmissionRevisionRepositoryCustom.
+public interface SubmissionRevisionRepository extends MongoRepository<SubmissionRevision, String>,
+        SubmissionRevisionRepositoryCustom {
+}
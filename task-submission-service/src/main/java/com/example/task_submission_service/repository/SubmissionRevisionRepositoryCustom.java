@@ -0,0 +1,23 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.repository;
+
+import java.util.Collection;
+
+// SubmissionRevisionRepositoryCustom → Atomic increment of a task's submission revision.
+// The implementation lives in SubmissionRevisionRepositoryCustomImpl.
+public interface SubmissionRevisionRepositoryCustom {
+
+    // ================================
+    // Increment Revision
+    // ================================
+    // Purpose:
+    // - $inc the revision of `taskId` by one (upsert → the first write creates the counter).
+    void increment(String taskId);
+
+    // ================================
+    // Increment Revisions (bulk)
+    // ================================
+    // Purpose:
+    // - Same as increment(), for several tasks with one unordered bulk write (one upsert per task).
+    void incrementAll(Collection<String> taskIds);
+}
@@ -0,0 +1,48 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.submissionModel.SubmissionRevision; // Revision document mapped to MongoDB.
+import lombok.RequiredArgsConstructor;   // Lombok → generates constructor for final fields.
+import org.springframework.data.mongodb.core.BulkOperations; // Many upserts in one round trip.
+import org.springframework.data.mongodb.core.MongoTemplate;  // Low-level MongoDB operations.
+import org.springframework.data.mongodb.core.query.Criteria; // Builds MongoDB filter documents.
+import org.springframework.data.mongodb.core.query.Query;    // MongoDB query.
+import org.springframework.data.mongodb.core.query.Update;   // $inc modification.
+
+import java.util.Collection;
+
+// SubmissionRevisionRepositoryCustomImpl → Implementation of SubmissionRevisionRepositoryCustom using MongoTemplate.
+@RequiredArgsConstructor
+public class SubmissionRevisionRepositoryCustomImpl implements SubmissionRevisionRepositoryCustom {
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final MongoTemplate mongoTemplate; // Provides atomic update support.
+
+    // ================================
+    // Increment Revision
+    // ================================
+    @Override
+    public void increment(String taskId) {
+        mongoTemplate.upsert(
+                new Query(Criteria.where("taskId").is(taskId)),
+                new Update().inc("revision", 1),
+                SubmissionRevision.class);
+    }
+
+    // ================================
+    // Increment Revisions (bulk)
+    // ================================
+    @Override
+    public void incrementAll(Collection<String> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, SubmissionRevision.class);
+        taskIds.forEach(taskId -> bulk.upsert(
+                new Query(Criteria.where("taskId").is(taskId)),
+                new Update().inc("revision", 1)));
+        bulk.execute();
+    }
+}
@@ -0,0 +1,196 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.service;
+
+import com.example.task_submission_service.dto.BulkItemResult;        // Per-task result of the bulk completion.
+import com.example.task_submission_service.enums.OutboxEventType;     // Selects the receiver of an event.
+import com.example.task_submission_service.enums.OutboxStatus;        // Delivery state (pending / failed gauges).
+import com.example.task_submission_service.repository.OutboxEventRepository; // Outbox collection access.
+import com.example.task_submission_service.submissionModel.OutboxEvent; // Outbox document mapped to MongoDB.
+import io.micrometer.core.instrument.Counter;           // Monotonic counter metric.
+import io.micrometer.core.instrument.Gauge;             // Sampled value metric (backlog size).
+import io.micrometer.core.instrument.MeterRegistry;     // Registry the metrics are published to (actuator).
+import lombok.extern.slf4j.Slf4j;                       // Lombok → logging support.
+import org.springframework.beans.factory.annotation.Value; // Injects configuration values.
+import org.springframework.scheduling.annotation.Scheduled; // Periodic polling of the outbox.
+import org.springframework.stereotype.Component;        // Marks this class as a Spring-managed bean.
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// OutboxDispatcher → Delivers outbox events to TASK-SERVICE in the background.
+// Purpose:
+// - Reviews only write locally (submission + outbox event in one transaction); this dispatcher does the remote call,
+//   so a slow or unavailable TASK-SERVICE never blocks reviewers and no acceptance is lost.
+// - Every poll claims a batch of due events (lease → safe with several instances) and keeps going while batches are full.
+// - A batch is split by event type; TASK_COMPLETED events go out with one PUT /api/tasks/bulk/complete call
+//   → one round trip per batch, not per event. Types without a handler are marked FAILED.
+// - Failed deliveries are retried with exponential backoff + jitter, up to `max-attempts`.
+// - Per-item failures (e.g. task not found) are permanent → the event is marked FAILED at once.
+// - No service token configured → nothing is dispatched (events stay PENDING; warned at startup).
+// - Delivery is at-least-once; TASK-SERVICE skips tasks that are already DONE, so redelivered events are harmless.
+// - Metrics: outbox.events.delivered / retried / failed and the outbox.events.pending / outbox.events.dead gauges.
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    // ================================
+    // Dependencies / Configuration
+    // ================================
+    private final OutboxEventRepository outboxEventRepository;
+    private final TaskServiceClient taskServiceClient; // Receiver of TASK_COMPLETED events.
+    private final int batchSize;           // Events claimed per round.
+    private final int maxAttempts;         // Attempts before an event is marked FAILED.
+    private final Duration lease;          // How long a claimed event is hidden from other dispatchers.
+    private final Duration initialBackoff; // Delay after the first failed attempt (doubled per attempt).
+    private final Duration maxBackoff;     // Upper bound of the delay.
+    private final String serviceToken;     // Authenticates the dispatcher at TASK-SERVICE (X-Service-Token).
+    private final Counter delivered;
+    private final Counter retried;
+    private final Counter failed;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            TaskServiceClient taskServiceClient,
+                            MeterRegistry meterRegistry,
+                            @Value("${submission.outbox.batch-size:50}") int batchSize,
+                            @Value("${submission.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${submission.outbox.lease:30s}") Duration lease,
+                            @Value("${submission.outbox.initial-backoff:1s}") Duration initialBackoff,
+                            @Value("${submission.outbox.max-backoff:5m}") Duration maxBackoff,
+                            @Value("${submission.outbox.service-token:}") String serviceToken) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.taskServiceClient = taskServiceClient;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.serviceToken = serviceToken;
+        if (serviceToken.isEmpty()) {
+            log.warn("submission.outbox.service-token (TASK_SERVICE_TOKEN) is not set → outbox events stay PENDING until it is configured");
+        }
+
+        this.delivered = Counter.builder("outbox.events.delivered")
+                .description("Outbox events delivered to TASK-SERVICE")
+                .register(meterRegistry);
+        this.retried = Counter.builder("outbox.events.retried")
+                .description("Failed outbox deliveries scheduled for another attempt")
+                .register(meterRegistry);
+        this.failed = Counter.builder("outbox.events.failed")
+                .description("Outbox events given up on (permanent error or max attempts)")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.pending", outboxEventRepository, r -> r.countByStatus(OutboxStatus.PENDING))
+                .description("Outbox events waiting for delivery")
+                .register(meterRegistry);
+        Gauge.builder("outbox.events.dead", outboxEventRepository, r -> r.countByStatus(OutboxStatus.FAILED))
+                .description("Outbox events in FAILED state")
+                .register(meterRegistry);
+    }
+
+    // ================================
+    // Dispatch (scheduled)
+    // ================================
+    // Without a service token TASK-SERVICE rejects every call (401) → nothing is claimed, so events keep
+    // their attempts and are delivered once the token is configured.
+    @Scheduled(fixedDelayString = "${submission.outbox.poll-interval:1s}")
+    public void dispatch() {
+        if (serviceToken.isEmpty()) {
+            return;
+        }
+        String claimToken = UUID.randomUUID().toString();
+        List<OutboxEvent> batch;
+        do {
+            Instant now = Instant.now();
+            batch = outboxEventRepository.claimDue(claimToken, now, now.plus(lease), batchSize);
+            if (!batch.isEmpty()) {
+                deliver(batch, claimToken);
+            }
+        } while (batch.size() == batchSize); // Full batch → there may be more due events.
+    }
+
+    // ================================
+    // Deliver One Batch
+    // ================================
+    // Dispatches on the event type → each type is sent to its own receiver.
+    private void deliver(List<OutboxEvent> batch, String claimToken) {
+        Map<OutboxEventType, List<OutboxEvent>> byType = batch.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getType,
+                        () -> new EnumMap<>(OutboxEventType.class), Collectors.toList()));
+
+        byType.forEach((type, events) -> {
+            switch (type) {
+                case TASK_COMPLETED -> deliverTaskCompleted(events, claimToken);
+                default -> events.forEach(event ->
+                        handleFailure(event, claimToken, "No handler for outbox event type " + type, true));
+            }
+        });
+    }
+
+    // ================================
+    // Deliver TASK_COMPLETED Events
+    // ================================
+    // One bulk call for all events; results come back in request order.
+    private void deliverTaskCompleted(List<OutboxEvent> batch, String claimToken) {
+        List<BulkItemResult> results;
+        try {
+            results = taskServiceClient.completeTasks(serviceToken, batch.stream().map(OutboxEvent::getTaskId).toList());
+        } catch (RuntimeException e) {
+            // Whole call failed (TASK-SERVICE down, timeout, 5xx, older version without the endpoint, ...)
+            // → every event of the batch is retried; only item results are treated as permanent.
+            batch.forEach(event -> handleFailure(event, claimToken, describe(e), false));
+            return;
+        }
+
+        List<String> sent = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            BulkItemResult result = results != null && i < results.size() ? results.get(i) : null;
+            if (result != null && result.success()) {
+                sent.add(event.getId());
+            } else if (result != null) {
+                // Item-level failure (e.g. task deleted) → retrying the same request gives the same answer.
+                handleFailure(event, claimToken, result.error(), true);
+            } else {
+                handleFailure(event, claimToken, "No result for event in TASK-SERVICE response", false);
+            }
+        }
+        outboxEventRepository.markSent(sent, claimToken, Instant.now());
+        delivered.increment(sent.size());
+    }
+
+    // ================================
+    // Failure Handling
+    // ================================
+    private void handleFailure(OutboxEvent event, String claimToken, String error, boolean permanent) {
+        if (permanent || event.getAttempts() >= maxAttempts) {
+            outboxEventRepository.markFailed(event.getId(), claimToken, error);
+            failed.increment();
+            log.error("Giving up on outbox event {} ({} for task {}) after {} attempt(s): {}",
+                    event.getId(), event.getType(), event.getTaskId(), event.getAttempts(), error);
+            return;
+        }
+
+        Instant nextAttemptAt = Instant.now().plus(backoff(event.getAttempts()));
+        outboxEventRepository.reschedule(event.getId(), claimToken, nextAttemptAt, error);
+        retried.increment();
+        log.warn("Outbox event {} failed (attempt {}), retrying at {}: {}",
+                event.getId(), event.getAttempts(), nextAttemptAt, error);
+    }
+
+    private String describe(RuntimeException e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    // initialBackoff * 2^(attempts - 1), capped at maxBackoff; half of it is random so instances do not retry in lockstep.
+    private Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(Math.max(attempts - 1, 0), 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+}
@@ -1,6 +1,10 @@
 // Package declaration → groups related classes together.
 package com.example.task_submission_service.service;
 
+import com.example.task_submission_service.dto.BulkItemResult;             // Per-item outcome of a bulk request.
+import com.example.task_submission_service.dto.SubmissionFilter;           // Optional status / task / user / time filters.
+import com.example.task_submission_service.dto.SubmissionPage;             // One page of submissions + cursor for the next page.
+import com.example.task_submission_service.dto.SubmissionReview;           // One (submissionId, status) pair of a bulk review.
 import com.example.task_submission_service.submissionModel.TaskSubmission; // TaskSubmission entity mapped to MongoDB.
 
 import java.util.List;
@@ -15,9 +19,9 @@ public interface SubmissionService {
     // ================================
     // Purpose:
     // - Allows a user to submit a task solution.
-    // - Requires taskId, GitHub link, userId, and JWT for authentication.
+    // - Requires taskId, GitHub link, and JWT (the submitter is resolved from the token).
     // - Throws Exception if submission fails (e.g., invalid JWT, missing task).
-    TaskSubmission submitTask(String taskId, String githubLink, String userId, String jwt) throws Exception;
+    TaskSubmission submitTask(String taskId, String githubLink, String jwt) throws Exception;
 
     // ================================
     // Get Submission by ID
@@ -28,12 +32,14 @@ public interface SubmissionService {
     TaskSubmission getTaskSubmissionById(String submissionId) throws Exception;
 
     // ================================
-    // Get All Submissions
+    // Get Submissions (filtered, keyset pagination)
     // ================================
     // Purpose:
-    // - Fetch all submissions across all tasks.
-    // - Useful for admins to review all submissions.
-    List<TaskSubmission> getAllTaskSubmissions();
+    // - One page of submissions across all tasks, oldest first (e.g. the PENDING review queue).
+    // - filter → optional status / task / user / submission time window, applied in MongoDB.
+    // - limit → page size (default 50, max 500); after → nextCursor of the previous page.
+    // - Throws InvalidCursorException (→ 400) for a malformed cursor.
+    SubmissionPage getSubmissionsPage(SubmissionFilter filter, Integer limit, String after);
 
     // ================================
     // Get Submissions by Task ID
@@ -41,8 +47,34 @@ public interface SubmissionService {
     // Purpose:
     // - Fetch all submissions for a specific task.
     // - Useful for task owners/admins to review submissions for one task.
+    // - Newest first, read through the (taskId, submissionTime) index.
     List<TaskSubmission> getTaskSubmissionByTaskId(String taskId);
 
+    // ================================
+    // Get Submissions by Task ID (keyset pagination)
+    // ================================
+    // Purpose:
+    // - One page of a task's submissions, newest first.
+    // - limit → page size (default 50, max 500); after → nextCursor of the previous page.
+    // - Throws InvalidCursorException (→ 400) for a malformed cursor.
+    SubmissionPage getTaskSubmissionsPage(String taskId, Integer limit, String after);
+
+    // ================================
+    // Get Submissions by User ID (keyset pagination)
+    // ================================
+    // Purpose:
+    // - Submission history of one user, newest first, read through the (userId, submissionTime) index.
+    // - Same limit / after handling as getTaskSubmissionsPage().
+    SubmissionPage getUserSubmissionsPage(String userId, Integer limit, String after);
+
+    // ================================
+    // Get Submission Revision of a Task
+    // ================================
+    // Purpose:
+    // - Change counter of the task's submissions (0 if none was ever written).
+    // - Used as ETag for GET /api/submissions/task/{taskId}.
+    long getTaskSubmissionRevision(String taskId);
+
     // ================================
     // Accept or Decline Submission
     // ================================
@@ -50,6 +82,18 @@ public interface SubmissionService {
     // - Allows admin/reviewer to accept or reject a submission.
     // - id → submission ID.
     // - status → new status ("ACCEPTED" or "REJECTED").
+    // - Accepting records a "task completed" outbox event in the same transaction; TASK-SERVICE is updated asynchronously.
     // - Throws Exception if submission not found or invalid status provided.
     TaskSubmission acceptDeclineTaskSubmission(String id, String status) throws Exception;
+
+    // ================================
+    // Accept or Decline Submissions (bulk)
+    // ================================
+    // Purpose:
+    // - Apply many reviews in one transaction: one $in read, one bulk write of the statuses,
+    //   one bulk revision update and one insert of the "task completed" outbox events.
+    // - Invalid status, unknown submission or a repeated submission id → that item fails, the others are applied.
+    // - A write conflict with a concurrent review → the transaction is retried on the committed state.
+    // - Returns one result per review (same order as the input).
+    List<BulkItemResult> reviewSubmissions(List<SubmissionReview> reviews);
 }
\ No newline at end of file
@@ -1,35 +1,75 @@
 // Package declaration → groups related classes together.
 package com.example.task_submission_service.service;
 
+import com.example.task_submission_service.dto.BulkItemResult;   // Per-item outcome of a bulk request.
+import com.example.task_submission_service.dto.SubmissionCursor; // Keyset position of the previous page.
+import com.example.task_submission_service.dto.SubmissionFilter; // Optional status / task / user / time filters.
+import com.example.task_submission_service.dto.SubmissionPage;   // One page of submissions + cursor for the next page.
+import com.example.task_submission_service.dto.SubmissionReview; // One (submissionId, status) pair of a bulk review.
 import com.example.task_submission_service.dto.TaskDTO;          // DTO representing task details (fetched from TASK-SERVICE).
+import com.example.task_submission_service.dto.UserDTO;          // DTO representing user details (fetched from USER-SERVICE).
+import com.example.task_submission_service.enums.OutboxEventType; // Kind of outbox event (TASK_COMPLETED).
+import com.example.task_submission_service.enums.OutboxStatus;    // Delivery state of an outbox event.
 import com.example.task_submission_service.enums.SubmissionStatus; // Enum for submission status (PENDING, ACCEPTED, REJECTED).
+import com.example.task_submission_service.repository.OutboxEventRepository; // Outbox collection (transactional outbox).
 import com.example.task_submission_service.repository.SubRepository; // Repository for accessing TaskSubmission collection in MongoDB.
+import com.example.task_submission_service.repository.SubmissionRevisionRepository; // Per-task submission change counters.
+import com.example.task_submission_service.submissionModel.OutboxEvent; // Outbox document mapped to MongoDB.
+import com.example.task_submission_service.submissionModel.SubmissionRevision; // Revision document mapped to MongoDB.
 import com.example.task_submission_service.submissionModel.TaskSubmission; // TaskSubmission entity mapped to MongoDB.
+import com.mongodb.MongoException;       // Carries the TransientTransactionError label of a write conflict.
 import lombok.RequiredArgsConstructor;   // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;        // Lombok → logging support.
 import org.springframework.stereotype.Service; // Marks this class as a Spring-managed service bean.
+import org.springframework.transaction.annotation.Transactional; // Runs a method in a MongoDB transaction.
+import org.springframework.transaction.support.TransactionTemplate; // Programmatic transaction (retried bulk review).
 
+import java.time.Instant;                // Outbox event timestamps.
 import java.time.LocalDateTime;          // Used for submission timestamps.
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 // @Service → Marks this class as a service component.
 // @RequiredArgsConstructor → Lombok generates constructor for final fields (dependency injection).
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SubmissionServiceImplementation implements SubmissionService {
 
+    // ================================
+    // Constants
+    // ================================
+    private static final int DEFAULT_PAGE_SIZE = 50; // Used when "limit" is not given.
+    private static final int MAX_PAGE_SIZE = 500;    // Upper bound for "limit".
+    private static final int MAX_TRANSACTION_ATTEMPTS = 3; // Bulk review attempts before a write conflict is surfaced.
+
     // ================================
     // Dependencies (Injected via Constructor)
     // ================================
     private final SubRepository subRepository;     // Provides MongoDB access for submissions.
-    private final TaskServiceClient taskServiceClient; // Feign client to call TASK-SERVICE for task details.
+    private final OutboxEventRepository outboxEventRepository; // Events delivered to TASK-SERVICE by OutboxDispatcher.
+    private final SubmitLookups submitLookups;     // Parallel user + task lookups of the submit path.
+    private final SubmissionRevisionRepository submissionRevisionRepository; // Bumped on every submission write.
+    private final TransactionTemplate transactionTemplate; // Runs (and re-runs) the bulk review transaction.
 
     // ================================
     // Submit Task
     // ================================
+    // The insert and the revision bump commit together → a cached submission list can never keep an ETag
+    // that already covers a new submission, nor miss a bump because the second write failed.
+    // The lookups of step 1 run before the first database write, so they do not extend the transaction.
     @Override
-    public TaskSubmission submitTask(String taskId, String githubLink, String userId, String jwt) throws Exception {
-        // Step 1: Validate task existence by calling TASK-SERVICE via Feign client.
-        TaskDTO task = taskServiceClient.getTaskById(taskId, jwt);
+    @Transactional
+    public TaskSubmission submitTask(String taskId, String githubLink, String jwt) throws Exception {
+        // Step 1: Fetch the submitter (USER-SERVICE) and validate the task (TASK-SERVICE) in parallel.
+        SubmitLookups.Result lookups = submitLookups.lookup(taskId, jwt);
+        UserDTO user = lookups.user();
+        TaskDTO task = lookups.task();
 
         if (task == null) {
             throw new Exception("Task not found with id: " + taskId);
@@ -39,12 +79,15 @@ public class SubmissionServiceImplementation implements SubmissionService {
         TaskSubmission taskSubmission = new TaskSubmission();
         taskSubmission.setTaskId(taskId);
         taskSubmission.setGithubLink(githubLink);
-        taskSubmission.setUserId(userId);
+        taskSubmission.setUserId(user.id());
         taskSubmission.setSubmissionTime(LocalDateTime.now());
+        taskSubmission.setUpdatedAt(taskSubmission.getSubmissionTime());
         taskSubmission.setStatus(SubmissionStatus.PENDING); // Default status.
 
-        // Step 3: Save submission to MongoDB.
-        return subRepository.save(taskSubmission);
+        // Step 3: Save submission to MongoDB and invalidate cached copies of the task's submission list (one transaction).
+        TaskSubmission saved = subRepository.save(taskSubmission);
+        submissionRevisionRepository.increment(taskId);
+        return saved;
     }
 
     // ================================
@@ -58,12 +101,12 @@ public class SubmissionServiceImplementation implements SubmissionService {
     }
 
     // ================================
-    // Get All Submissions
+    // Get Submissions (filtered, keyset pagination)
     // ================================
     @Override
-    public List<TaskSubmission> getAllTaskSubmissions() {
-        // Fetch all submissions from MongoDB.
-        return subRepository.findAll();
+    public SubmissionPage getSubmissionsPage(SubmissionFilter filter, Integer limit, String after) {
+        int pageSize = pageSize(limit);
+        return toPage(subRepository.findPage(filter, decodeCursor(after), pageSize + 1), pageSize);
     }
 
     // ================================
@@ -71,30 +114,195 @@ public class SubmissionServiceImplementation implements SubmissionService {
     // ================================
     @Override
     public List<TaskSubmission> getTaskSubmissionByTaskId(String taskId) {
-        // Fetch all submissions and filter by taskId.
-        return subRepository.findAll().stream()
-                .filter(submission -> submission.getTaskId().equals(taskId))
-                .toList();
+        // Index range scan on (taskId, submissionTime) → only this task's submissions are read.
+        return subRepository.findByTaskIdOrderBySubmissionTimeDescIdDesc(taskId);
+    }
+
+    // ================================
+    // Get Submissions by Task ID (keyset pagination)
+    // ================================
+    @Override
+    public SubmissionPage getTaskSubmissionsPage(String taskId, Integer limit, String after) {
+        int pageSize = pageSize(limit);
+        return toPage(subRepository.findTaskPage(taskId, decodeCursor(after), pageSize + 1), pageSize);
+    }
+
+    // ================================
+    // Get Submissions by User ID (keyset pagination)
+    // ================================
+    @Override
+    public SubmissionPage getUserSubmissionsPage(String userId, Integer limit, String after) {
+        int pageSize = pageSize(limit);
+        return toPage(subRepository.findUserPage(userId, decodeCursor(after), pageSize + 1), pageSize);
+    }
+
+    // ================================
+    // Get Submission Revision of a Task
+    // ================================
+    @Override
+    public long getTaskSubmissionRevision(String taskId) {
+        return submissionRevisionRepository.findById(taskId).map(SubmissionRevision::getRevision).orElse(0L);
     }
 
     // ================================
     // Accept or Decline Submission
     // ================================
+    // Transactional outbox: the status change, the revision bump and the "task completed" event commit together.
+    // TASK-SERVICE is not called here → the reviewer gets the answer as soon as the local transaction commits;
+    // OutboxDispatcher delivers the event afterwards (with retries).
     @Override
+    @Transactional
     public TaskSubmission acceptDeclineTaskSubmission(String id, String status) throws Exception {
-        // Step 1: Fetch submission by ID.
-        TaskSubmission submission = getTaskSubmissionById(id);
-
-        // Step 2: Convert status string to enum (case-insensitive).
+        // Step 1: Convert status string to enum (case-insensitive).
         SubmissionStatus newStatus = SubmissionStatus.valueOf(status.toUpperCase());
+
+        // Step 2: One atomic write ($set status + updatedAt, $inc version) → returns the submission before it.
+        LocalDateTime now = LocalDateTime.now();
+        TaskSubmission submission = subRepository.findAndSetStatus(id, newStatus, now);
+        if (submission == null) {
+            throw new Exception("Submission not found with id: " + id);
+        }
+        SubmissionStatus previousStatus = submission.getStatus();
+
+        // Step 3: Apply the same changes in memory and bump the task's submission revision.
         submission.setStatus(newStatus);
+        submission.setUpdatedAt(now);
+        submission.setVersion((submission.getVersion() == null ? 0 : submission.getVersion()) + 1);
+        submissionRevisionRepository.increment(submission.getTaskId());
 
-        // Step 3: If submission is accepted, mark task as complete in TASK-SERVICE.
-        if (newStatus == SubmissionStatus.ACCEPTED) {
-            taskServiceClient.completeTask(submission.getTaskId());
+        // Step 4: Newly accepted → record that TASK-SERVICE must mark the task as complete.
+        if (newStatus == SubmissionStatus.ACCEPTED && previousStatus != SubmissionStatus.ACCEPTED) {
+            outboxEventRepository.save(taskCompletedEvent(submission));
         }
+        return submission;
+    }
 
-        // Step 4: Save updated submission.
-        return subRepository.save(submission);
+    // ================================
+    // Accept or Decline Submissions (bulk)
+    // ================================
+    // The transaction reads one snapshot, so a submission reviewed concurrently (e.g. PUT /api/submissions/{id})
+    // is not seen by findStates(); MongoDB detects it at the bulk write and aborts with a write conflict
+    // labelled TransientTransactionError. The whole transaction is then run again on a fresh snapshot
+    // (up to MAX_TRANSACTION_ATTEMPTS) → the previous statuses, outbox events and revisions are recomputed
+    // from the committed state instead of failing the whole request with a 500.
+    @Override
+    public List<BulkItemResult> reviewSubmissions(List<SubmissionReview> reviews) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> applyReviews(reviews));
+            } catch (RuntimeException e) {
+                if (attempt >= MAX_TRANSACTION_ATTEMPTS || !isTransientTransactionError(e)) {
+                    throw e;
+                }
+                log.warn("Bulk review of {} submission(s) hit a write conflict (attempt {}), retrying",
+                        reviews.size(), attempt);
+            }
+        }
+    }
+
+    // One attempt of reviewSubmissions(), run inside the transaction.
+    private List<BulkItemResult> applyReviews(List<SubmissionReview> reviews) {
+        // Step 1: One projected $in query → which submissions exist, their task and current status.
+        Map<String, TaskSubmission> previous = subRepository.findStates(
+                        reviews.stream().map(SubmissionReview::submissionId).toList())
+                .stream()
+                .collect(Collectors.toMap(TaskSubmission::getId, Function.identity()));
+
+        // Step 2: Validate every item; collect the status changes that will be written.
+        List<BulkItemResult> results = new ArrayList<>(reviews.size());
+        Map<String, SubmissionStatus> statusById = new LinkedHashMap<>();
+        for (int i = 0; i < reviews.size(); i++) {
+            SubmissionReview review = reviews.get(i);
+            String error = validate(review, previous, statusById);
+            if (error != null) {
+                results.add(BulkItemResult.failed(i, review.submissionId(), error));
+                continue;
+            }
+            statusById.put(review.submissionId(), SubmissionStatus.valueOf(review.status().toUpperCase()));
+            results.add(BulkItemResult.ok(i, review.submissionId()));
+        }
+
+        // Step 3: One bulk write for the statuses, one for the revisions of the affected tasks.
+        subRepository.bulkSetStatus(statusById, LocalDateTime.now());
+        submissionRevisionRepository.incrementAll(statusById.keySet().stream()
+                .map(id -> previous.get(id).getTaskId())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        // Step 4: Newly accepted submissions → "task completed" events, inserted together.
+        List<OutboxEvent> events = new ArrayList<>();
+        statusById.forEach((id, newStatus) -> {
+            TaskSubmission before = previous.get(id);
+            if (newStatus == SubmissionStatus.ACCEPTED && before.getStatus() != SubmissionStatus.ACCEPTED) {
+                events.add(taskCompletedEvent(before));
+            }
+        });
+        if (!events.isEmpty()) {
+            outboxEventRepository.insert(events);
+        }
+        return results;
+    }
+
+    // Write conflicts (and other retryable aborts) carry the TransientTransactionError label on the MongoDB
+    // exception, which Spring wraps in a DataAccessException → walk the cause chain.
+    private static boolean isTransientTransactionError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException
+                    && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Returns the item's error message, or null if the review can be applied.
+    private String validate(SubmissionReview review, Map<String, TaskSubmission> previous,
+                            Map<String, SubmissionStatus> statusById) {
+        if (!previous.containsKey(review.submissionId())) {
+            return "Submission not found with id: " + review.submissionId();
+        }
+        if (statusById.containsKey(review.submissionId())) {
+            return "Submission reviewed more than once in this request: " + review.submissionId();
+        }
+        try {
+            SubmissionStatus.valueOf(String.valueOf(review.status()).toUpperCase());
+            return null;
+        } catch (IllegalArgumentException e) {
+            return "Invalid status: " + review.status();
+        }
+    }
+
+    // ================================
+    // Outbox Helpers
+    // ================================
+    private OutboxEvent taskCompletedEvent(TaskSubmission submission) {
+        Instant now = Instant.now();
+        OutboxEvent event = new OutboxEvent();
+        event.setType(OutboxEventType.TASK_COMPLETED);
+        event.setSubmissionId(submission.getId());
+        event.setTaskId(submission.getTaskId());
+        event.setStatus(OutboxStatus.PENDING);
+        event.setNextAttemptAt(now); // Due immediately.
+        event.setCreatedAt(now);
+        return event;
+    }
+
+    // ================================
+    // Pagination Helpers
+    // ================================
+    private int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+    }
+
+    private SubmissionCursor decodeCursor(String after) {
+        return after == null || after.isEmpty() ? null : SubmissionCursor.decode(after);
+    }
+
+    // The repository is asked for pageSize + 1 submissions → an extra one means a next page exists.
+    private SubmissionPage toPage(List<TaskSubmission> submissions, int pageSize) {
+        if (submissions.size() <= pageSize) {
+            return new SubmissionPage(submissions, null);
+        }
+        List<TaskSubmission> page = submissions.subList(0, pageSize);
+        return new SubmissionPage(page, SubmissionCursor.of(page.getLast()).encode());
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.service;
+
+import com.example.task_submission_service.dto.TaskDTO;  // DTO representing task details (from TASK-SERVICE).
+import com.example.task_submission_service.dto.UserDTO;  // DTO representing user details (from USER-SERVICE).
+import com.example.task_submission_service.exception.RemoteLookupTimeoutException; // Deadline exceeded (→ 504).
+import io.micrometer.context.ContextSnapshot;            // Captured ThreadLocal context (trace/span) of the request.
+import io.micrometer.context.ContextSnapshotFactory;     // Captures the context for the forked subtasks.
+import org.springframework.beans.factory.annotation.Value; // Injects configuration values.
+import org.springframework.stereotype.Component;         // Marks this class as a Spring-managed bean.
+
+import java.time.Duration;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+
+// SubmitLookups → Fetches the submitter's profile and the submitted task in parallel.
+// Purpose:
+// - The two remote calls are independent → submit latency is the slower of the two hops, not their sum.
+// - Structured concurrency (JDK 25 preview, --enable-preview):
+//   1. Both lookups are forked as subtasks of one scope; each runs on its own virtual thread.
+//   2. The scope has one deadline (`submission.lookups.timeout`) shared by both calls.
+//   3. The first failure cancels the other subtask and is rethrown as-is (e.g. FeignException).
+// - The request's tracing context is propagated into the subtasks → both calls stay in the same trace.
+@Component
+public class SubmitLookups {
+
+    // ================================
+    // Dependencies / Configuration
+    // ================================
+    private final UserProfileCache userProfileCache;   // Cached USER-SERVICE profile lookup (per token).
+    private final TaskServiceClient taskServiceClient; // Feign client to call TASK-SERVICE for task details.
+    private final Duration timeout;                    // Deadline shared by both lookups.
+    private final ContextSnapshotFactory contextSnapshotFactory = ContextSnapshotFactory.builder().build();
+
+    public SubmitLookups(UserProfileCache userProfileCache,
+                         TaskServiceClient taskServiceClient,
+                         @Value("${submission.lookups.timeout:3s}") Duration timeout) {
+        this.userProfileCache = userProfileCache;
+        this.taskServiceClient = taskServiceClient;
+        this.timeout = timeout;
+    }
+
+    // ================================
+    // Look Up User and Task
+    // ================================
+    // Returns the caller's profile (from the JWT) and the task; either may be null if the remote service returns no body.
+    // Throws RemoteLookupTimeoutException when the deadline passes before both lookups have finished.
+    public Result lookup(String taskId, String jwt) throws InterruptedException {
+        ContextSnapshot context = contextSnapshotFactory.captureAll();
+
+        try (var scope = StructuredTaskScope.open(Joiner.<Object>awaitAllSuccessfulOrThrow(),
+                config -> config.withName("submit-lookups").withTimeout(timeout))) {
+            // Step 1: Fork both calls → they run concurrently on virtual threads.
+            Subtask<UserDTO> user = scope.fork(context.wrap(() -> userProfileCache.getUserProfile(jwt)));
+            Subtask<TaskDTO> task = scope.fork(context.wrap(() -> taskServiceClient.getTaskById(taskId, jwt)));
+
+            // Step 2: Wait for both; a failure or the deadline cancels whatever is still running.
+            scope.join();
+            return new Result(user.get(), task.get());
+        } catch (StructuredTaskScope.FailedException e) {
+            throw unwrap(e);
+        } catch (StructuredTaskScope.TimeoutException e) {
+            throw new RemoteLookupTimeoutException("Submit lookups did not complete within " + timeout);
+        }
+    }
+
+    // ================================
+    // Helpers
+    // ================================
+    // Rethrows the subtask's own exception so callers see the same errors as with sequential calls.
+    private RuntimeException unwrap(StructuredTaskScope.FailedException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return e;
+    }
+
+    // ================================
+    // Result
+    // ================================
+    public record Result(UserDTO user, TaskDTO task) { }
+}
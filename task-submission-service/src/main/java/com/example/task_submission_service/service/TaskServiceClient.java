@@ -1,13 +1,17 @@
 // Package declaration → groups related classes together.
 package com.example.task_submission_service.service;
 
+import com.example.task_submission_service.dto.BulkItemResult; // Per-item outcome of a bulk request.
 import com.example.task_submission_service.dto.TaskDTO;       // Data Transfer Object (DTO) representing task details.
 import org.springframework.cloud.openfeign.FeignClient;      // Feign → declarative REST client for inter-service communication.
 import org.springframework.web.bind.annotation.GetMapping;   // Maps HTTP GET requests.
 import org.springframework.web.bind.annotation.PathVariable; // Binds path variables in URL.
 import org.springframework.web.bind.annotation.PutMapping;   // Maps HTTP PUT requests.
+import org.springframework.web.bind.annotation.RequestBody;  // Sends the task ids as JSON body.
 import org.springframework.web.bind.annotation.RequestHeader;// Binds request headers (like Authorization JWT).
 
+import java.util.List;
+
 // @FeignClient(name = "TASK-SERVICE")
 // Purpose:
 // - Declares this interface as a Feign client.
@@ -31,16 +35,19 @@ public interface TaskServiceClient {
     TaskDTO getTaskById(@PathVariable String id, @RequestHeader("Authorization") String jwt);
 
     // ================================
-    // Complete Task (via TASK-SERVICE)
+    // Complete Tasks (via TASK-SERVICE, bulk)
     // ================================
     // Purpose:
-    // - Calls TASK-SERVICE endpoint: PUT /api/tasks/{id}/complete
-    // - Marks the task as completed (status = DONE).
-    // - Returns updated TaskDTO.
+    // - Calls TASK-SERVICE endpoint: PUT /api/tasks/bulk/complete
+    // - Marks all given tasks as completed (status = DONE) with one round trip.
+    // - Returns one BulkItemResult per task id (same order); completing a task twice is harmless (idempotent).
+    // - Called by OutboxDispatcher with the task ids of one batch of TASK_COMPLETED events.
+    // - No user token in the background → authenticates with the shared service token (X-Service-Token).
     //
     // Example:
-    //   taskServiceClient.completeTask("task123");
-    //   → marks task with id "task123" as completed in TASK-SERVICE.
-    @PutMapping("/api/tasks/{id}/complete")
-    TaskDTO completeTask(@PathVariable String id);
+    //   taskServiceClient.completeTasks("<service_token>", List.of("task123", "task456"));
+    //   → marks both tasks as completed in TASK-SERVICE.
+    @PutMapping("/api/tasks/bulk/complete")
+    List<BulkItemResult> completeTasks(@RequestHeader("X-Service-Token") String serviceToken,
+                                       @RequestBody List<String> taskIds);
 }
\ No newline at end of file
@@ -0,0 +1,142 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.service;
+
+import com.example.task_submission_service.dto.UserDTO;            // DTO representing user details (from USER-SERVICE).
+import com.github.benmanes.caffeine.cache.Cache;        // Bounded in-process cache.
+import com.github.benmanes.caffeine.cache.Caffeine;     // Cache builder.
+import com.github.benmanes.caffeine.cache.Expiry;       // Per-entry expiry (capped at the token's exp).
+import io.micrometer.core.instrument.Counter;           // Monotonic counter metric.
+import io.micrometer.core.instrument.Gauge;             // Sampled value metric (hit ratio).
+import io.micrometer.core.instrument.MeterRegistry;     // Registry the metrics are published to (actuator).
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics; // Standard cache.* metrics for Caffeine.
+import org.springframework.beans.factory.annotation.Value; // Injects configuration values.
+import org.springframework.stereotype.Component;        // Marks this class as a Spring-managed bean.
+import tools.jackson.databind.JsonNode;                 // JWT payload as a JSON tree.
+import tools.jackson.databind.json.JsonMapper;          // Parses the JWT payload (exp claim).
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+
+// UserProfileCache → Token-keyed cache in front of UserServiceClient.getUserProfile().
+// Purpose:
+// - A client often submits several tasks with the same JWT at once; only one lookup reaches USER-SERVICE.
+// - Key = SHA-256 of the token (the raw token is never kept in memory as a key).
+// - Entry lifetime = min(configured TTL, token exp) → a profile is never served for an expired token.
+// - cache.get(key, loader) → Caffeine runs the loader once per key; concurrent misses wait for that result.
+//   Failed or null lookups are not cached.
+// - Metrics: cache.* (hits, misses, size) for cache "userProfileTokens", user.profile.cache.hit.ratio,
+//   user.profile.remote.calls and user.profile.cache.coalesced (misses that joined an in-flight lookup).
+@Component
+public class UserProfileCache {
+
+    // ================================
+    // Dependencies / State
+    // ================================
+    private final UserServiceClient userServiceClient; // Called on a miss.
+    private final JsonMapper jsonMapper;               // Reads the exp claim.
+    private final Cache<String, CachedProfile> cache;  // token digest → profile.
+    private final Counter remoteCalls;                 // Calls actually sent to USER-SERVICE.
+    private final Counter coalesced;                   // Misses answered by another caller's lookup.
+
+    public UserProfileCache(UserServiceClient userServiceClient,
+                            JsonMapper jsonMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${submission.auth.token-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${submission.auth.token-cache.ttl:5m}") Duration ttl) {
+        this.userServiceClient = userServiceClient;
+        this.jsonMapper = jsonMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String key, CachedProfile value) -> lifetime(ttl, value.expiresAt())))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userProfileTokens");
+        Gauge.builder("user.profile.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of profile lookups answered from the token cache")
+                .register(meterRegistry);
+        this.remoteCalls = Counter.builder("user.profile.remote.calls")
+                .description("Profile lookups sent to USER-SERVICE")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("user.profile.cache.coalesced")
+                .description("Profile lookups that missed and waited for a concurrent USER-SERVICE call")
+                .register(meterRegistry);
+    }
+
+    // ================================
+    // Get User Profile
+    // ================================
+    // Exceptions of the USER-SERVICE call (e.g. FeignException) reach every waiting caller unchanged.
+    public UserDTO getUserProfile(String jwt) {
+        String digest = digest(jwt);
+        // Quiet lookup → does not touch the hit/miss statistics.
+        boolean miss = cache.policy().getIfPresentQuietly(digest) == null;
+        boolean[] loaded = {false};
+        try {
+            CachedProfile cached = cache.get(digest, key -> {
+                loaded[0] = true;
+                remoteCalls.increment();
+                UserDTO user = userServiceClient.getUserProfile(jwt);
+                return user == null ? null : new CachedProfile(user, expiryOf(jwt));
+            });
+            return cached == null ? null : cached.user();
+        } finally {
+            // Missed, but another caller's loader produced the result (or the error) → coalesced.
+            if (miss && !loaded[0]) {
+                coalesced.increment();
+            }
+        }
+    }
+
+    // ================================
+    // Helpers
+    // ================================
+    // min(ttl, time left until the token's exp); an already expired token → 0 (not kept).
+    private static Duration lifetime(Duration ttl, Instant expiresAt) {
+        if (expiresAt == null) {
+            return ttl;
+        }
+        Duration untilExp = Duration.between(Instant.now(), expiresAt);
+        return untilExp.isNegative() ? Duration.ZERO : (untilExp.compareTo(ttl) < 0 ? untilExp : ttl);
+    }
+
+    // SHA-256 of the token (without "Bearer ").
+    private String digest(String jwt) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(stripBearer(jwt).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Reads the exp claim from the payload. The signature is not checked here: the value only
+    // shortens the cache lifetime, and USER-SERVICE rejects invalid tokens on the miss path.
+    private Instant expiryOf(String jwt) {
+        String[] parts = stripBearer(jwt).split("\\.");
+        if (parts.length < 2) {
+            return null;
+        }
+        try {
+            JsonNode payload = jsonMapper.readTree(Base64.getUrlDecoder().decode(parts[1]));
+            JsonNode exp = payload.get("exp");
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private String stripBearer(String jwt) {
+        return jwt != null && jwt.startsWith("Bearer ") ? jwt.substring(7) : String.valueOf(jwt);
+    }
+
+    // ================================
+    // Cache Entry
+    // ================================
+    private record CachedProfile(UserDTO user, Instant expiresAt) { }
+}
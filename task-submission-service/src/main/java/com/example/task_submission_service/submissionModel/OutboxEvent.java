@@ -0,0 +1,60 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.submissionModel;
+
+import com.example.task_submission_service.enums.OutboxEventType; // Kind of change (decides the remote call).
+import com.example.task_submission_service.enums.OutboxStatus;    // Delivery state.
+import lombok.AllArgsConstructor;   // Lombok → generates constructor with all fields.
+import lombok.Data;                 // Lombok → generates getters, setters, equals, hashCode, toString.
+import lombok.NoArgsConstructor;    // Lombok → generates default no-argument constructor.
+import org.springframework.data.annotation.Id;          // Marks field as primary key in MongoDB.
+import org.springframework.data.mongodb.core.index.CompoundIndex; // Declares a compound index on the collection.
+import org.springframework.data.mongodb.core.index.Indexed;       // Declares a single-field (TTL) index.
+import org.springframework.data.mongodb.core.mapping.Document; // Maps class to MongoDB collection.
+
+import java.time.Instant;
+
+// OutboxEvent → A change that still has to be delivered to another service (transactional outbox).
+// Purpose:
+// - Written in the same MongoDB transaction as the submission change → either both exist or neither.
+// - OutboxDispatcher delivers pending events in the background, with retries and backoff.
+// - Delivery is at-least-once. The id is not sent to the receiver; the task id is the idempotency key instead:
+//   TASK-SERVICE only completes tasks that are not DONE yet, so a redelivered event changes nothing.
+// Indexes (created at startup by SubmissionIndexInitializer):
+// - status_nextAttemptAt → the dispatcher's "due events" query is an index range scan.
+// - sentAt (TTL) → delivered events are removed after 7 days.
+@Document(collection = "outboxEvent")
+@CompoundIndex(name = "status_nextAttemptAt", def = "{'status': 1, 'nextAttemptAt': 1}")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutboxEvent {
+
+    // ================================
+    // Primary Key
+    // ================================
+    @Id
+    private String id; // MongoDB ObjectId; identifies the event for claim / markSent / reschedule.
+
+    // ================================
+    // Event Details
+    // ================================
+    private OutboxEventType type; // Kind of change.
+    private String submissionId;  // Submission whose change produced the event.
+    private String taskId;        // Task the event refers to.
+
+    // ================================
+    // Delivery State
+    // ================================
+    private OutboxStatus status = OutboxStatus.PENDING;
+    private int attempts;          // Delivery attempts so far.
+    private Instant nextAttemptAt; // Not delivered before this time (backoff / claim lease).
+    private String claimToken;     // Dispatcher run that currently owns the event.
+    private String lastError;      // Message of the last failed attempt.
+
+    // ================================
+    // Time Fields
+    // ================================
+    private Instant createdAt;
+    @Indexed(name = "sentAt_ttl", expireAfter = "7d")
+    private Instant sentAt;        // Set on delivery; drives the TTL index.
+}
@@ -0,0 +1,30 @@
+// Package declaration → groups related classes together.
+package com.example.task_submission_service.submissionModel;
+
+import lombok.AllArgsConstructor;   // Lombok → generates constructor with all fields.
+import lombok.Data;                 // Lombok → generates getters, setters, equals, hashCode, toString.
+import lombok.NoArgsConstructor;    // Lombok → generates default no-argument constructor.
+import org.springframework.data.annotation.Id;          // Marks field as primary key in MongoDB.
+import org.springframework.data.mongodb.core.mapping.Document; // Maps class to MongoDB collection.
+
+// SubmissionRevision → Change counter of the submissions of one task.
+// Purpose:
+// - Incremented (atomic $inc) whenever a submission of the task is created or reviewed.
+// - GET /api/submissions/task/{taskId} uses it as ETag → polling clients get 304 until something changes.
+@Document(collection = "submissionRevision")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubmissionRevision {
+
+    // ================================
+    // Primary Key
+    // ================================
+    @Id
+    private String taskId; // One counter per task.
+
+    // ================================
+    // Revision
+    // ================================
+    private long revision; // Number of submission writes for this task.
+}
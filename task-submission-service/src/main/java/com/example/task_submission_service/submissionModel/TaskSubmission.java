@@ -6,6 +6,8 @@ import lombok.AllArgsConstructor;   // Lombok → generates constructor with all
 import lombok.Data;                 // Lombok → generates getters, setters, equals, hashCode, toString.
 import lombok.NoArgsConstructor;    // Lombok → generates default no-argument constructor.
 import org.springframework.data.annotation.Id;          // Marks field as primary key in MongoDB.
+import org.springframework.data.mongodb.core.index.CompoundIndex;   // Declares a compound index on the collection.
+import org.springframework.data.mongodb.core.index.CompoundIndexes; // Groups several compound index declarations.
 import org.springframework.data.mongodb.core.mapping.Document; // Maps class to MongoDB collection.
 
 import java.time.LocalDateTime;     // Represents date/time fields.
@@ -14,7 +16,18 @@ import java.time.LocalDateTime;     // Represents date/time fields.
 // @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
 // @AllArgsConstructor → Constructor with all fields.
 // @NoArgsConstructor → Default no-argument constructor.
+// @CompoundIndexes → Indexes backing the per-task, per-user and per-status submission lists.
+// - The equality field (taskId / userId / status) comes first, then submissionTime and _id,
+//   so a list or keyset page is a single index range scan without an in-memory SORT stage.
+// - Indexes can be walked in either direction → they serve both newest-first and oldest-first pages.
+// - status_submissionTime_id → review queue (PENDING, oldest first) and the unfiltered listing.
+// - Created at startup by SubmissionIndexInitializer.
 @Document(collection = "taskSubmission")
+@CompoundIndexes({
+        @CompoundIndex(name = "taskId_submissionTime_id", def = "{'taskId': 1, 'submissionTime': -1, '_id': -1}"),
+        @CompoundIndex(name = "userId_submissionTime_id", def = "{'userId': 1, 'submissionTime': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_submissionTime_id", def = "{'status': 1, 'submissionTime': 1, '_id': 1}")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -51,4 +64,13 @@ public class TaskSubmission {
     // Time Fields
     // ================================
     private LocalDateTime submissionTime; // Timestamp when submission was made.
+    private LocalDateTime updatedAt;      // Timestamp of the last write (Last-Modified on GET /api/submissions/{id}).
+
+    // ================================
+    // Version
+    // ================================
+    // Per-document write counter: 0 on submit, $inc'd atomically by every status change
+    // (never derived from the in-memory copy) → ETag of GET /api/submissions/{id}.
+    // Documents written before this field existed read as 0.
+    private Long version = 0L;
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.example.task_submission_service.dto;
+
+import com.example.task_submission_service.exception.InvalidCursorException;
+import com.example.task_submission_service.submissionModel.TaskSubmission;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SubmissionCursorTests {
+
+	private static final String ID = new ObjectId().toHexString();
+
+	@Test
+	void roundTripKeepsTimeAndId() {
+		SubmissionCursor cursor = new SubmissionCursor(LocalDateTime.of(2025, 1, 31, 10, 0, 15, 123_000_000), ID);
+
+		assertThat(SubmissionCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void roundTripKeepsNullTime() {
+		SubmissionCursor cursor = new SubmissionCursor(null, ID);
+
+		assertThat(SubmissionCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	void encodedCursorIsUrlSafe() {
+		assertThat(new SubmissionCursor(LocalDateTime.of(2025, 3, 1, 8, 30), ID).encode()).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void ofReadsSubmissionTimeAndId() {
+		TaskSubmission submission = new TaskSubmission();
+		submission.setId(ID);
+		submission.setSubmissionTime(LocalDateTime.of(2025, 5, 1, 12, 0));
+
+		assertThat(SubmissionCursor.of(submission)).isEqualTo(new SubmissionCursor(submission.getSubmissionTime(), ID));
+	}
+
+	@Test
+	void rejectsInvalidBase64() {
+		assertThatThrownBy(() -> SubmissionCursor.decode("not base64!"))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void rejectsWrongNumberOfParts() {
+		assertThatThrownBy(() -> SubmissionCursor.decode(encode(ID)))
+				.isInstanceOf(InvalidCursorException.class);
+		assertThatThrownBy(() -> SubmissionCursor.decode(encode("2025-01-31T10:00|" + ID + "|extra")))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void rejectsInvalidObjectId() {
+		assertThatThrownBy(() -> SubmissionCursor.decode(encode("2025-01-31T10:00|not-an-object-id")))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	void rejectsInvalidTime() {
+		assertThatThrownBy(() -> SubmissionCursor.decode(encode("31.01.2025|" + ID)))
+				.isInstanceOf(InvalidCursorException.class);
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,148 @@
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.enums.OutboxStatus;
+import com.example.task_submission_service.submissionModel.OutboxEvent;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+// Claim / lease state machine: PENDING (due) → claimed by one dispatcher run → SENT, rescheduled or FAILED.
+// Checks the guards of every transition on the queries sent to MongoDB.
+class OutboxEventRepositoryCustomImplTests {
+
+	private static final Instant NOW = Instant.parse("2025-01-31T10:00:00Z");
+	private static final Instant LEASE_UNTIL = NOW.plusSeconds(30);
+
+	private MongoTemplate mongoTemplate;
+	private OutboxEventRepositoryCustomImpl repository;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		repository = new OutboxEventRepositoryCustomImpl(mongoTemplate);
+	}
+
+	@Test
+	void claimOnlyTakesEventsThatAreStillDueAndReturnsWhatThisRunOwns() {
+		OutboxEvent first = event("event-1");
+		OutboxEvent second = event("event-2");
+		when(mongoTemplate.find(any(Query.class), eq(OutboxEvent.class)))
+				.thenReturn(List.of(first, second))
+				.thenReturn(List.of(first));
+
+		List<OutboxEvent> claimed = repository.claimDue("run-1", NOW, LEASE_UNTIL, 10);
+
+		ArgumentCaptor<Query> finds = ArgumentCaptor.forClass(Query.class);
+		verify(mongoTemplate, times(2)).find(finds.capture(), eq(OutboxEvent.class));
+		ArgumentCaptor<Query> claimQuery = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> claimUpdate = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateMulti(claimQuery.capture(), claimUpdate.capture(), eq(OutboxEvent.class));
+
+		// Candidates: oldest due PENDING events, at most `limit`.
+		Query candidates = finds.getAllValues().get(0);
+		assertThat(candidates.getQueryObject()).isEqualTo(due());
+		assertThat(candidates.getSortObject()).isEqualTo(new Document("nextAttemptAt", 1));
+		assertThat(candidates.getLimit()).isEqualTo(10);
+
+		// Claim: the due condition is repeated → an event another run claimed in between is skipped.
+		assertThat(claimQuery.getValue().getQueryObject())
+				.isEqualTo(due().append("id", new Document("$in", List.of("event-1", "event-2"))));
+		assertThat(claimUpdate.getValue().getUpdateObject()).isEqualTo(new Document()
+				.append("$set", new Document("claimToken", "run-1").append("nextAttemptAt", LEASE_UNTIL))
+				.append("$inc", new Document("attempts", 1)));
+
+		// Result: only the events that carry this run's token.
+		assertThat(finds.getAllValues().get(1).getQueryObject()).isEqualTo(
+				new Document("id", new Document("$in", List.of("event-1", "event-2"))).append("claimToken", "run-1"));
+		assertThat(claimed).containsExactly(first);
+	}
+
+	@Test
+	void claimWithoutDueEventsWritesNothing() {
+		when(mongoTemplate.find(any(Query.class), eq(OutboxEvent.class))).thenReturn(List.of());
+
+		assertThat(repository.claimDue("run-1", NOW, LEASE_UNTIL, 10)).isEmpty();
+
+		verify(mongoTemplate, never()).updateMulti(any(Query.class), any(Update.class), eq(OutboxEvent.class));
+	}
+
+	@Test
+	void markSentReleasesTheClaimOfThisRunOnly() {
+		repository.markSent(List.of("event-1"), "run-1", NOW);
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateMulti(query.capture(), update.capture(), eq(OutboxEvent.class));
+		assertThat(query.getValue().getQueryObject()).isEqualTo(
+				new Document("id", new Document("$in", List.of("event-1"))).append("claimToken", "run-1"));
+		assertThat(update.getValue().getUpdateObject()).isEqualTo(new Document()
+				.append("$set", new Document("status", OutboxStatus.SENT).append("sentAt", NOW))
+				.append("$unset", new Document("claimToken", 1).append("lastError", 1)));
+	}
+
+	@Test
+	void markSentWithoutIdsDoesNotTouchTheDatabase() {
+		repository.markSent(List.of(), "run-1", NOW);
+
+		verifyNoInteractions(mongoTemplate);
+	}
+
+	@Test
+	void rescheduleReturnsTheEventToPendingWithALaterDueTime() {
+		repository.reschedule("event-1", "run-1", LEASE_UNTIL, "timeout");
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(OutboxEvent.class));
+		assertThat(query.getValue().getQueryObject()).isEqualTo(owned());
+		// Status stays PENDING → due again at nextAttemptAt.
+		assertThat(update.getValue().getUpdateObject()).isEqualTo(new Document()
+				.append("$set", new Document("nextAttemptAt", LEASE_UNTIL).append("lastError", "timeout"))
+				.append("$unset", new Document("claimToken", 1)));
+	}
+
+	@Test
+	void markFailedTakesTheEventOutOfTheDueRange() {
+		repository.markFailed("event-1", "run-1", "Task not found");
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(OutboxEvent.class));
+		assertThat(query.getValue().getQueryObject()).isEqualTo(owned());
+		assertThat(update.getValue().getUpdateObject()).isEqualTo(new Document()
+				.append("$set", new Document("status", OutboxStatus.FAILED).append("lastError", "Task not found"))
+				.append("$unset", new Document("claimToken", 1)));
+	}
+
+	private static Document due() {
+		return new Document("status", OutboxStatus.PENDING).append("nextAttemptAt", new Document("$lte", NOW));
+	}
+
+	// A run whose lease expired (and whose events were re-claimed) no longer matches.
+	private static Document owned() {
+		return new Document("id", "event-1").append("claimToken", "run-1");
+	}
+
+	private static OutboxEvent event(String id) {
+		OutboxEvent event = new OutboxEvent();
+		event.setId(id);
+		return event;
+	}
+}
@@ -0,0 +1,98 @@
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.dto.SubmissionFilter;
+import com.example.task_submission_service.enums.SubmissionStatus;
+import com.example.task_submission_service.submissionModel.TaskSubmission;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Queries and updates sent to MongoDB by the submission repository fragment.
+class SubRepositoryCustomImplTests {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 31, 10, 0);
+
+	private MongoTemplate mongoTemplate;
+	private SubRepositoryCustomImpl repository;
+
+	@BeforeEach
+	void setUp() {
+		mongoTemplate = mock(MongoTemplate.class);
+		repository = new SubRepositoryCustomImpl(mongoTemplate);
+	}
+
+	@Test
+	void pageWithoutStatusFilterAlsoMatchesSubmissionsWithoutAStatus() {
+		repository.findPage(new SubmissionFilter(null, null, null, null, null), null, 10);
+
+		List<Object> statuses = statusIn();
+		assertThat(statuses).containsAll(Arrays.asList(SubmissionStatus.values()));
+		assertThat(statuses).containsNull();
+	}
+
+	@Test
+	void pageWithStatusFilterOnlyMatchesThatStatus() {
+		repository.findPage(new SubmissionFilter(SubmissionStatus.PENDING, null, null, null, null), null, 10);
+
+		assertThat(statusIn()).containsExactly(SubmissionStatus.PENDING);
+	}
+
+	@Test
+	void setStatusBumpsTheVersionAtomically() {
+		repository.findAndSetStatus("sub-1", SubmissionStatus.ACCEPTED, NOW);
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+		verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class),
+				eq(TaskSubmission.class));
+		assertThat(query.getValue().getQueryObject()).isEqualTo(new Document("id", "sub-1"));
+		assertThat(update.getValue().getUpdateObject()).isEqualTo(statusUpdate(SubmissionStatus.ACCEPTED));
+	}
+
+	@Test
+	void bulkSetStatusBumpsTheVersionOfEverySubmission() {
+		BulkOperations bulk = mock(BulkOperations.class);
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskSubmission.class)).thenReturn(bulk);
+
+		repository.bulkSetStatus(Map.of("sub-1", SubmissionStatus.REJECTED), NOW);
+
+		ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+		verify(bulk).updateOne(any(Query.class), update.capture());
+		assertThat(update.getValue().getUpdateObject()).isEqualTo(statusUpdate(SubmissionStatus.REJECTED));
+		verify(bulk).execute();
+	}
+
+	// $in list of the status condition of the page query.
+	@SuppressWarnings("unchecked")
+	private List<Object> statusIn() {
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		verify(mongoTemplate).find(query.capture(), eq(TaskSubmission.class));
+		Document status = query.getValue().getQueryObject().get("status", Document.class);
+		return new ArrayList<>((Collection<Object>) status.get("$in"));
+	}
+
+	private static Document statusUpdate(SubmissionStatus status) {
+		return new Document("$set", new Document("status", status).append("updatedAt", NOW))
+				.append("$inc", new Document("version", 1));
+	}
+}
@@ -0,0 +1,94 @@
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.config.SubmissionIndexInitializer;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.mongodb.test.autoconfigure.DataMongoTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataMongoTest
+class SubRepositoryQueryPlanTests {
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private MongoMappingContext mongoMappingContext;
+
+	@BeforeEach
+	void createIndexes() {
+		new SubmissionIndexInitializer(mongoTemplate, mongoMappingContext).createIndexes();
+	}
+
+	@Test
+	void taskSubmissionsNewestFirstUseIndex() {
+		List<String> stages = winningPlanStages(
+				new Document("taskId", "task-1"),
+				new Document("submissionTime", -1).append("_id", -1));
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+	}
+
+	@Test
+	void userKeysetPageUsesIndex() {
+		Date lastSubmissionTime = new Date();
+		ObjectId lastId = new ObjectId();
+		List<String> stages = winningPlanStages(
+				new Document("userId", "user-1")
+						.append("$or", List.of(
+								new Document("submissionTime", new Document("$lt", lastSubmissionTime)),
+								new Document("submissionTime", lastSubmissionTime).append("_id", new Document("$lt", lastId)),
+								new Document("submissionTime", null))),
+				new Document("submissionTime", -1).append("_id", -1));
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+	}
+
+	@Test
+	void pendingReviewQueueOldestFirstUsesIndex() {
+		List<String> stages = winningPlanStages(
+				new Document("status", new Document("$in", List.of("PENDING"))),
+				new Document("submissionTime", 1).append("_id", 1));
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+	}
+
+	@Test
+	void anyStatusInTimeWindowMergesIndexRanges() {
+		List<String> stages = winningPlanStages(
+				new Document("status", new Document("$in", List.of("PENDING", "ACCEPTED", "REJECTED")))
+						.append("submissionTime", new Document("$gte", new Date(0)).append("$lt", new Date())),
+				new Document("submissionTime", 1).append("_id", 1));
+
+		assertThat(stages).contains("IXSCAN").doesNotContain("SORT", "COLLSCAN");
+	}
+
+	private List<String> winningPlanStages(Document filter, Document sort) {
+		Document explain = mongoTemplate.getCollection("taskSubmission").find(filter).sort(sort).explain();
+		Document queryPlanner = explain.get("queryPlanner", Document.class);
+		List<String> stages = new ArrayList<>();
+		collectStages(queryPlanner.get("winningPlan"), stages);
+		return stages;
+	}
+
+	private void collectStages(Object node, List<String> stages) {
+		if (node instanceof Document document) {
+			if (document.get("stage") instanceof String stage) {
+				stages.add(stage);
+			}
+			document.values().forEach(value -> collectStages(value, stages));
+		} else if (node instanceof List<?> list) {
+			list.forEach(value -> collectStages(value, stages));
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.task_submission_service.repository;
+
+import com.example.task_submission_service.dto.SubmissionCursor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MongoDB sorts null/missing submissionTime before every date: first when ascending, last when descending.
+class SubmissionKeysetCriteriaTests {
+
+	private static final ObjectId ID = new ObjectId();
+	private static final LocalDateTime TIME = LocalDateTime.of(2025, 1, 31, 10, 0);
+
+	@Test
+	void ascendingAfterTimeContinuesWithLaterTimesOrSameTimeAndLaterId() {
+		assertThat(branches(Sort.Direction.ASC, TIME)).containsExactly(
+				new Document("submissionTime", new Document("$gt", TIME)),
+				new Document("submissionTime", TIME).append("id", new Document("$gt", ID)));
+	}
+
+	@Test
+	void ascendingAfterNullContinuesWithRemainingNullsThenEveryDatedSubmission() {
+		assertThat(branches(Sort.Direction.ASC, null)).containsExactly(
+				new Document("submissionTime", null).append("id", new Document("$gt", ID)),
+				new Document("submissionTime", new Document("$ne", null)));
+	}
+
+	@Test
+	void descendingAfterTimeContinuesWithEarlierTimesThenNulls() {
+		assertThat(branches(Sort.Direction.DESC, TIME)).containsExactly(
+				new Document("submissionTime", new Document("$lt", TIME)),
+				new Document("submissionTime", TIME).append("id", new Document("$lt", ID)),
+				new Document("submissionTime", null));
+	}
+
+	@Test
+	void descendingAfterNullOnlyContinuesWithinTheNulls() {
+		assertThat(branches(Sort.Direction.DESC, null)).containsExactly(
+				new Document("submissionTime", null).append("id", new Document("$lt", ID)));
+	}
+
+	private static List<Document> branches(Sort.Direction direction, LocalDateTime time) {
+		return Arrays.stream(SubRepositoryCustomImpl.afterCriteria(direction, new SubmissionCursor(time, ID.toHexString())))
+				.map(Criteria::getCriteriaObject)
+				.toList();
+	}
+}
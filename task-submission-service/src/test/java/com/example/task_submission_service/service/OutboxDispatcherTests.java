@@ -0,0 +1,161 @@
+package com.example.task_submission_service.service;
+
+import com.example.task_submission_service.dto.BulkItemResult;
+import com.example.task_submission_service.enums.OutboxEventType;
+import com.example.task_submission_service.repository.OutboxEventRepository;
+import com.example.task_submission_service.submissionModel.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTests {
+
+	private static final int BATCH_SIZE = 50;
+	private static final int MAX_ATTEMPTS = 3;
+	private static final String SERVICE_TOKEN = "service-token";
+
+	private OutboxEventRepository outboxEventRepository;
+	private TaskServiceClient taskServiceClient;
+	private SimpleMeterRegistry meterRegistry;
+	private OutboxDispatcher dispatcher;
+	private final ArgumentCaptor<String> claimToken = ArgumentCaptor.forClass(String.class);
+
+	@BeforeEach
+	void setUp() {
+		outboxEventRepository = mock(OutboxEventRepository.class);
+		taskServiceClient = mock(TaskServiceClient.class);
+		meterRegistry = new SimpleMeterRegistry();
+		dispatcher = new OutboxDispatcher(outboxEventRepository, taskServiceClient, meterRegistry,
+				BATCH_SIZE, MAX_ATTEMPTS, Duration.ofSeconds(30), Duration.ofSeconds(1), Duration.ofMinutes(5),
+				SERVICE_TOKEN);
+	}
+
+	@Test
+	void deliveredBatchIsMarkedSentWithTheClaimToken() {
+		claim(event("event-1", "task-1", 1), event("event-2", "task-2", 1));
+		when(taskServiceClient.completeTasks(SERVICE_TOKEN, List.of("task-1", "task-2")))
+				.thenReturn(List.of(BulkItemResult.ok(0, "task-1"), BulkItemResult.ok(1, "task-2")));
+
+		dispatcher.dispatch();
+
+		verify(outboxEventRepository).markSent(eq(List.of("event-1", "event-2")), eq(claimToken()), any(Instant.class));
+		verify(outboxEventRepository, never()).reschedule(anyString(), anyString(), any(), anyString());
+		verify(outboxEventRepository, never()).markFailed(anyString(), anyString(), anyString());
+		assertThat(meterRegistry.get("outbox.events.delivered").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void nothingIsClaimedWithoutAServiceToken() {
+		OutboxDispatcher unconfigured = new OutboxDispatcher(outboxEventRepository, taskServiceClient,
+				new SimpleMeterRegistry(), BATCH_SIZE, MAX_ATTEMPTS, Duration.ofSeconds(30), Duration.ofSeconds(1),
+				Duration.ofMinutes(5), "");
+
+		unconfigured.dispatch();
+
+		verify(outboxEventRepository, never()).claimDue(anyString(), any(), any(), anyInt());
+		verify(taskServiceClient, never()).completeTasks(anyString(), anyList());
+	}
+
+	@Test
+	void failedCallReschedulesEveryEventWithBackoff() {
+		claim(event("event-1", "task-1", 1), event("event-2", "task-2", 1));
+		when(taskServiceClient.completeTasks(anyString(), anyList())).thenThrow(new IllegalStateException("connection refused"));
+
+		Instant before = Instant.now();
+		dispatcher.dispatch();
+
+		ArgumentCaptor<Instant> nextAttemptAt = ArgumentCaptor.forClass(Instant.class);
+		verify(outboxEventRepository).reschedule(eq("event-1"), eq(claimToken()), nextAttemptAt.capture(),
+				contains("connection refused"));
+		verify(outboxEventRepository).reschedule(eq("event-2"), eq(claimToken()), any(Instant.class),
+				contains("connection refused"));
+		verify(outboxEventRepository, never()).markFailed(anyString(), anyString(), anyString());
+		verify(outboxEventRepository, never()).markSent(anyList(), anyString(), any());
+		// First attempt → between half and all of the initial backoff (jitter).
+		assertThat(nextAttemptAt.getValue()).isBetween(before.plusMillis(500), Instant.now().plusMillis(1000));
+		assertThat(meterRegistry.get("outbox.events.retried").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	void failedCallGivesUpAfterMaxAttempts() {
+		claim(event("event-1", "task-1", MAX_ATTEMPTS));
+		when(taskServiceClient.completeTasks(anyString(), anyList())).thenThrow(new IllegalStateException("timeout"));
+
+		dispatcher.dispatch();
+
+		verify(outboxEventRepository).markFailed(eq("event-1"), eq(claimToken()), contains("timeout"));
+		verify(outboxEventRepository, never()).reschedule(anyString(), anyString(), any(), anyString());
+		assertThat(meterRegistry.get("outbox.events.failed").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void itemFailureIsPermanentWhileTheRestOfTheBatchIsSent() {
+		claim(event("event-1", "task-1", 1), event("event-2", "task-2", 1));
+		when(taskServiceClient.completeTasks(SERVICE_TOKEN, List.of("task-1", "task-2")))
+				.thenReturn(List.of(BulkItemResult.ok(0, "task-1"),
+						BulkItemResult.failed(1, "task-2", "Task not found with id: task-2")));
+
+		dispatcher.dispatch();
+
+		verify(outboxEventRepository).markSent(eq(List.of("event-1")), eq(claimToken()), any(Instant.class));
+		verify(outboxEventRepository).markFailed("event-2", claimToken(), "Task not found with id: task-2");
+		verify(outboxEventRepository, never()).reschedule(anyString(), anyString(), any(), anyString());
+	}
+
+	@Test
+	void eventWithoutResultIsRetried() {
+		claim(event("event-1", "task-1", 1), event("event-2", "task-2", 1));
+		when(taskServiceClient.completeTasks(SERVICE_TOKEN, List.of("task-1", "task-2")))
+				.thenReturn(List.of(BulkItemResult.ok(0, "task-1")));
+
+		dispatcher.dispatch();
+
+		verify(outboxEventRepository).markSent(eq(List.of("event-1")), eq(claimToken()), any(Instant.class));
+		verify(outboxEventRepository).reschedule(eq("event-2"), eq(claimToken()), any(Instant.class), anyString());
+		verify(outboxEventRepository, never()).markFailed(anyString(), anyString(), anyString());
+	}
+
+	@Test
+	void emptyClaimSendsNothing() {
+		when(outboxEventRepository.claimDue(anyString(), any(), any(), eq(BATCH_SIZE))).thenReturn(List.of());
+
+		dispatcher.dispatch();
+
+		verify(taskServiceClient, never()).completeTasks(anyString(), anyList());
+	}
+
+	// Stubs claimDue() with the given events; claimToken() returns the token the dispatcher claimed them with.
+	private void claim(OutboxEvent... events) {
+		when(outboxEventRepository.claimDue(claimToken.capture(), any(), any(), eq(BATCH_SIZE))).thenReturn(List.of(events));
+	}
+
+	private String claimToken() {
+		return claimToken.getValue();
+	}
+
+	private static OutboxEvent event(String id, String taskId, int attempts) {
+		OutboxEvent event = new OutboxEvent();
+		event.setId(id);
+		event.setType(OutboxEventType.TASK_COMPLETED);
+		event.setTaskId(taskId);
+		event.setAttempts(attempts);
+		return event;
+	}
+}
@@ -0,0 +1,102 @@
+package com.example.task_submission_service.service;
+
+import com.example.task_submission_service.dto.BulkItemResult;
+import com.example.task_submission_service.dto.SubmissionReview;
+import com.example.task_submission_service.enums.SubmissionStatus;
+import com.example.task_submission_service.repository.OutboxEventRepository;
+import com.example.task_submission_service.repository.SubRepository;
+import com.example.task_submission_service.repository.SubmissionRevisionRepository;
+import com.example.task_submission_service.submissionModel.TaskSubmission;
+import com.mongodb.MongoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.UncategorizedMongoDbException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Bulk review when a concurrent review makes MongoDB abort the transaction with a write conflict.
+class SubmissionServiceImplementationTests {
+
+	private static final String SUBMISSION_ID = "sub-1";
+
+	private SubRepository subRepository;
+	private OutboxEventRepository outboxEventRepository;
+	private TransactionTemplate transactionTemplate;
+	private SubmissionServiceImplementation service;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		subRepository = mock(SubRepository.class);
+		outboxEventRepository = mock(OutboxEventRepository.class);
+		transactionTemplate = mock(TransactionTemplate.class);
+		// Runs the callback directly; every call stands for one transaction attempt.
+		when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+				((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+		service = new SubmissionServiceImplementation(subRepository, outboxEventRepository, mock(SubmitLookups.class),
+				mock(SubmissionRevisionRepository.class), transactionTemplate);
+		when(subRepository.findStates(List.of(SUBMISSION_ID))).thenReturn(List.of(pending()));
+	}
+
+	@Test
+	void writeConflictRetriesTheWholeTransaction() {
+		doThrow(writeConflict()).doNothing().when(subRepository).bulkSetStatus(anyMap(), any());
+
+		List<BulkItemResult> results = service.reviewSubmissions(List.of(new SubmissionReview(SUBMISSION_ID, "ACCEPTED")));
+
+		assertThat(results).containsExactly(BulkItemResult.ok(0, SUBMISSION_ID));
+		verify(transactionTemplate, times(2)).execute(any());
+		// Second attempt re-reads the states before writing again.
+		verify(subRepository, times(2)).findStates(List.of(SUBMISSION_ID));
+		verify(outboxEventRepository, times(1)).insert(anyList());
+	}
+
+	@Test
+	void writeConflictIsSurfacedAfterTheLastAttempt() {
+		doThrow(writeConflict()).when(subRepository).bulkSetStatus(anyMap(), any());
+
+		assertThatThrownBy(() -> service.reviewSubmissions(List.of(new SubmissionReview(SUBMISSION_ID, "ACCEPTED"))))
+				.isInstanceOf(UncategorizedMongoDbException.class);
+		verify(transactionTemplate, times(3)).execute(any());
+		verify(outboxEventRepository, never()).insert(anyList());
+	}
+
+	@Test
+	void otherErrorsAreNotRetried() {
+		doThrow(new IllegalStateException("boom")).when(subRepository).bulkSetStatus(anyMap(), any());
+
+		assertThatThrownBy(() -> service.reviewSubmissions(List.of(new SubmissionReview(SUBMISSION_ID, "REJECTED"))))
+				.isInstanceOf(IllegalStateException.class);
+		verify(transactionTemplate, times(1)).execute(any());
+	}
+
+	private static RuntimeException writeConflict() {
+		MongoException conflict = new MongoException(112, "WriteConflict");
+		conflict.addLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL);
+		return new UncategorizedMongoDbException("Write conflict", conflict);
+	}
+
+	private static TaskSubmission pending() {
+		TaskSubmission submission = new TaskSubmission();
+		submission.setId(SUBMISSION_ID);
+		submission.setTaskId("task-1");
+		submission.setStatus(SubmissionStatus.PENDING);
+		return submission;
+	}
+}
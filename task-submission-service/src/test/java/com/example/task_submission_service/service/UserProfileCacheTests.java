@@ -0,0 +1,112 @@
+package com.example.task_submission_service.service;
+
+import com.example.task_submission_service.dto.UserDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// One USER-SERVICE call per token: concurrent misses join the in-flight lookup and are counted as coalesced.
+class UserProfileCacheTests {
+
+	private static final String JWT = "Bearer token-a";
+	private static final UserDTO USER = new UserDTO("user-1", "Jane Doe", "jane@example.com", "ROLE_CUSTOMER", "123");
+
+	private UserServiceClient userServiceClient;
+	private SimpleMeterRegistry meterRegistry;
+	private UserProfileCache cache;
+
+	@BeforeEach
+	void setUp() {
+		userServiceClient = mock(UserServiceClient.class);
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new UserProfileCache(userServiceClient, JsonMapper.builder().build(), meterRegistry,
+				100, Duration.ofMinutes(5));
+	}
+
+	@Test
+	void concurrentMissesShareOneRemoteCall() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(userServiceClient.getUserProfile(JWT)).thenAnswer(invocation -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return USER;
+		});
+
+		int callers = 4;
+		AtomicReferenceArray<UserDTO> profiles = new AtomicReferenceArray<>(callers);
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < callers; i++) {
+			int caller = i;
+			threads.add(new Thread(() -> profiles.set(caller, cache.getUserProfile(JWT))));
+		}
+
+		// The first caller runs the loader; the others start while it is in flight and wait for it.
+		threads.get(0).start();
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+		for (Thread thread : threads.subList(1, callers)) {
+			thread.start();
+			awaitWaiting(thread);
+		}
+		release.countDown();
+		for (Thread thread : threads) {
+			thread.join(5_000);
+		}
+
+		for (int i = 0; i < callers; i++) {
+			assertThat(profiles.get(i)).isEqualTo(USER);
+		}
+		verify(userServiceClient, times(1)).getUserProfile(JWT);
+		assertThat(counter("user.profile.remote.calls")).isEqualTo(1);
+		assertThat(counter("user.profile.cache.coalesced")).isEqualTo(callers - 1);
+	}
+
+	@Test
+	void hitsAreNotCountedAsCoalesced() {
+		when(userServiceClient.getUserProfile(JWT)).thenReturn(USER);
+
+		cache.getUserProfile(JWT);
+		cache.getUserProfile(JWT);
+
+		assertThat(counter("user.profile.remote.calls")).isEqualTo(1);
+		assertThat(counter("user.profile.cache.coalesced")).isZero();
+	}
+
+	@Test
+	void coalescedMetricIsRegisteredNextToTheOtherProfileMeters() {
+		assertThat(meterRegistry.find("user.profile.cache.coalesced").counter()).isNotNull();
+		assertThat(meterRegistry.find("user.profile.remote.calls").counter()).isNotNull();
+		assertThat(meterRegistry.find("user.profile.cache.hit.ratio").gauge()).isNotNull();
+	}
+
+	private double counter(String name) {
+		return meterRegistry.get(name).counter().count();
+	}
+
+	// Blocked on the entry the first caller is computing.
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (System.nanoTime() < deadline) {
+			Thread.State state = thread.getState();
+			if (state == Thread.State.BLOCKED || state == Thread.State.WAITING) {
+				return;
+			}
+			Thread.sleep(5);
+		}
+		throw new AssertionError("Caller did not start waiting: " + thread.getState());
+	}
+}
@@ -3,6 +3,7 @@ package com.example.task_user_service;
 
 import org.springframework.boot.SpringApplication;          // Utility class to bootstrap and launch Spring Boot application.
 import org.springframework.boot.autoconfigure.SpringBootApplication; // Annotation to enable auto-configuration, component scanning, and configuration support.
+import org.springframework.scheduling.annotation.EnableScheduling; // Enables @Scheduled (JWT key refresh + rotation).
 
 // @SpringBootApplication → Combines three key annotations:
 // 1. @Configuration → Marks this class as a source of bean definitions.
@@ -10,7 +11,10 @@ import org.springframework.boot.autoconfigure.SpringBootApplication; // Annotati
 // 3. @ComponentScan → Scans for Spring components (controllers, services, repositories) in the package.
 //
 // This annotation makes the class the main entry point for the Spring Boot application.
+//
+// @EnableScheduling → Runs @Scheduled jobs (JWT signing key refresh + rotation).
 @SpringBootApplication
+@EnableScheduling
 public class TaskUserServiceApplication {
 
     // ================================
@@ -0,0 +1,69 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.config;
+
+import com.example.task_user_service.repository.CompletedTaskRepository; // Target collection (idempotent upserts).
+import lombok.RequiredArgsConstructor;                  // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;                       // Lombok → logging support.
+import org.bson.Document;                               // Raw BSON document (the field no longer exists on User).
+import org.springframework.boot.context.event.ApplicationReadyEvent; // Published once the application has started.
+import org.springframework.context.event.EventListener; // Marks a method as an application event listener.
+import org.springframework.core.annotation.Order;       // Runs after the indexes exist.
+import org.springframework.data.mongodb.core.MongoTemplate; // Low-level MongoDB operations.
+import org.springframework.data.mongodb.core.query.Query;   // MongoDB query.
+import org.springframework.data.mongodb.core.query.Update;  // $unset modification.
+import org.springframework.stereotype.Component;        // Marks this class as a Spring-managed bean.
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+// CompletedTaskMigration → Moves legacy embedded user.completedTasks arrays into the completedTask collection.
+// Purpose:
+// - Runs at startup after UserIndexInitializer; only touches users that still have the array.
+// - Per user: bulk-upsert the completions (idempotent), then $unset the array → safe to re-run
+//   after a crash and on several instances at once.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CompletedTaskMigration {
+
+    // ================================
+    // Dependencies (Injected via Constructor)
+    // ================================
+    private final MongoTemplate mongoTemplate;
+    private final CompletedTaskRepository completedTaskRepository;
+
+    // ================================
+    // Migrate at Startup
+    // ================================
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void migrate() {
+        Query query = Query.query(where("completedTasks").exists(true));
+        query.fields().include("completedTasks");
+
+        int users = 0;
+        int completions = 0;
+        try (Stream<Document> documents = mongoTemplate.stream(query, Document.class, "user")) {
+            for (Document document : (Iterable<Document>) documents::iterator) {
+                Object id = document.get("_id");
+                List<?> legacy = document.getList("completedTasks", Object.class);
+                if (legacy != null) {
+                    completions += completedTaskRepository.recordCompleted(String.valueOf(id),
+                            legacy.stream().filter(Objects::nonNull).map(String::valueOf).distinct().toList());
+                }
+                mongoTemplate.updateFirst(Query.query(where("_id").is(id)), new Update().unset("completedTasks"), "user");
+                users++;
+            }
+        } catch (RuntimeException e) {
+            log.error("Completed task migration stopped after {} users: {}", users, e.getMessage());
+            return;
+        }
+
+        if (users > 0) {
+            log.info("Moved {} completed tasks of {} users into the completedTask collection", completions, users);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.config;
+
+import com.example.task_user_service.usermodel.CompletedTask; // Completed-task entity whose index annotations are resolved.
+import com.example.task_user_service.usermodel.User;    // User entity whose index annotations are resolved.
+import lombok.RequiredArgsConstructor;                  // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;                       // Lombok → logging support.
+import org.springframework.boot.context.event.ApplicationReadyEvent; // Published once the application has started.
+import org.springframework.context.event.EventListener; // Marks a method as an application event listener.
+import org.springframework.core.annotation.Order;       // Runs before CompletedTaskMigration.
+import org.springframework.data.mongodb.core.MongoTemplate; // Low-level MongoDB operations (index management).
+import org.springframework.data.mongodb.core.index.IndexOperations; // Index operations for a single collection.
+import org.springframework.data.mongodb.core.index.IndexResolver;   // Resolves @Indexed/@CompoundIndex annotations.
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver; // Default annotation-based resolver.
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext; // Mapping metadata for MongoDB entities.
+import org.springframework.stereotype.Component;        // Marks this class as a Spring-managed bean.
+
+// UserIndexInitializer → Creates the indexes declared on User and CompletedTask when the service starts.
+// Purpose:
+// - Spring Data does not auto-create indexes by default.
+// - The unique email index makes login lookups point reads and lets signup be a single insert
+//   (a duplicate email fails the insert instead of needing a check beforehand).
+// - createIndex() is idempotent → existing indexes are left untouched.
+// - If existing data already contains duplicate emails, the unique index cannot be built → logged,
+//   the service still starts (duplicates must be cleaned up manually).
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserIndexInitializer {
+
+    // ================================
+    // Dependencies (Injected via Constructor)
+    // ================================
+    private final MongoTemplate mongoTemplate;             // Used to access index operations.
+    private final MongoMappingContext mongoMappingContext; // Used to resolve index annotations on User.
+
+    // ================================
+    // Create Indexes at Startup
+    // ================================
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    public void createIndexes() {
+        createIndexes(User.class);
+        createIndexes(CompletedTask.class);
+    }
+
+    private void createIndexes(Class<?> entity) {
+        IndexOperations indexOps = mongoTemplate.indexOps(entity);
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+        String collection = mongoTemplate.getCollectionName(entity);
+
+        resolver.resolveIndexFor(entity).forEach(index -> {
+            try {
+                String name = indexOps.createIndex(index);
+                log.info("Ensured index {} on {} collection", name, collection);
+            } catch (RuntimeException e) {
+                log.error("Could not create index {} on {} collection: {}", index.getIndexKeys(), collection, e.getMessage());
+            }
+        });
+    }
+}
@@ -1,17 +1,21 @@
 // Package declaration → groups related classes together.
 package com.example.task_user_service.controller;
 
+import com.example.task_user_service.exception.PasswordHashingBusyException; // Hashing pool saturated → 503 + Retry-After.
 import com.example.task_user_service.exception.UserException;          // Custom exception for user-related errors.
 import com.example.task_user_service.repository.UserRepository;       // Repository for accessing User collection in MongoDB.
 import com.example.task_user_service.request.LoginRequest;            // DTO for login requests (email + password).
 import com.example.task_user_service.response.AuthResponse;           // Standardized response for authentication.
 import com.example.task_user_service.service.CustomerServiceImplementation; // Loads user details for authentication.
+import com.example.task_user_service.service.PasswordHashingService;  // Bounded pool for BCrypt encode/match.
 import com.example.task_user_service.service.UserService;             // Service interface for user operations.
 import com.example.task_user_service.taskSecurityConfig.JwtProvider;  // Utility for generating JWT tokens.
 import com.example.task_user_service.usermodel.User;                  // User entity mapped to MongoDB.
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker; // Resilience4j annotation for fault tolerance.
 import lombok.RequiredArgsConstructor;                                // Lombok → generates constructor for final fields.
 import lombok.extern.slf4j.Slf4j;                                     // Lombok → logging support.
+import org.springframework.http.HttpHeaders;                          // Retry-After header name.
+import org.springframework.dao.DuplicateKeyException;                // Unique index violation on insert.
 import org.springframework.http.HttpStatus;                           // HTTP status codes.
 import org.springframework.http.ResponseEntity;                       // Represents HTTP responses.
 import org.springframework.security.authentication.BadCredentialsException; // Exception for invalid login credentials.
@@ -19,7 +23,6 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;              // Represents authenticated user.
 import org.springframework.security.core.context.SecurityContextHolder; // Holds authentication info for current request.
 import org.springframework.security.core.userdetails.UserDetails;     // Represents user details for authentication.
-import org.springframework.security.crypto.password.PasswordEncoder;  // Used for hashing and verifying passwords.
 import org.springframework.web.bind.annotation.PostMapping;           // Maps HTTP POST requests.
 import org.springframework.web.bind.annotation.RequestBody;           // Binds request body to method parameter.
 import org.springframework.web.bind.annotation.RequestMapping;        // Maps base URL for controller.
@@ -39,30 +42,33 @@ public class AuthController {
     // Dependencies (Injected via Constructor)
     // ================================
     private final UserRepository userRepository; // For saving/fetching users from MongoDB.
-    private final PasswordEncoder passwordEncoder; // For hashing and verifying passwords.
+    private final PasswordHashingService passwordHashingService; // Hashes/verifies passwords off the request thread pool.
     private final CustomerServiceImplementation customerServiceImplementation; // Loads user details for login.
     private final UserService userService; // Provides user-related operations.
+    private final JwtProvider jwtProvider; // Signs JWT tokens (RS256, current key).
 
     // ================================
     // Signup Endpoint (POST /auth/signup)
     // ================================
     // Purpose:
-    // - Registers a new user.
+    // - Registers a new user with a single insert.
     // - Encodes password before saving.
+    // - The unique email index rejects duplicates (also concurrent ones) → "Email is already used".
     // - Generates JWT token after successful signup.
     @PostMapping("/signup")
     @CircuitBreaker(name = "userService", fallbackMethod = "signupFallback") // Resilience4j circuit breaker.
     public ResponseEntity<AuthResponse> createUserHandler(@RequestBody User user) throws UserException {
 
-        // Step 1: Check if email already exists.
-        if (userRepository.findByEmail(user.getEmail()) != null) {
+        // Step 1: Encode password before saving (bounded hashing pool).
+        user.setPassword(passwordHashingService.encode(user.getPassword()));
+
+        // Step 2: Insert (never update) → a duplicate email fails on the unique index.
+        try {
+            userRepository.insert(user);
+        } catch (DuplicateKeyException e) {
             throw new UserException("Email is already used in another account.");
         }
 
-        // Step 2: Encode password before saving.
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        userRepository.save(user);
-
         // Step 3: Log successful signup.
         log.info("User successfully signed up with name: {}", user.getFullName());
 
@@ -74,7 +80,7 @@ public class AuthController {
 
         // Step 5: Return JWT token in AuthResponse.
         return ResponseEntity.ok(
-                new AuthResponse(JwtProvider.generateToken(authentication), "Register Success", true)
+                new AuthResponse(jwtProvider.generateToken(authentication), "Register Success", true)
         );
     }
 
@@ -99,7 +105,7 @@ public class AuthController {
 
         // Step 4: Return JWT token in AuthResponse.
         return ResponseEntity.ok(
-                new AuthResponse(JwtProvider.generateToken(auth), "Login success", true)
+                new AuthResponse(jwtProvider.generateToken(auth), "Login success", true)
         );
     }
 
@@ -107,7 +113,15 @@ public class AuthController {
     // Fallback Methods (Resilience4j)
     // ================================
     // Called when circuit breaker detects service failure.
+    // A saturated hashing pool → 503 with Retry-After, so clients back off instead of retrying at once.
     public ResponseEntity<AuthResponse> signupFallback(User user, Throwable throwable) {
+        if (throwable instanceof UserException) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new AuthResponse(null, throwable.getMessage(), false));
+        }
+        if (throwable instanceof PasswordHashingBusyException busy) {
+            return busy(busy, "Registration temporarily unavailable. AuthService is busy, try again later.");
+        }
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .body(new AuthResponse(null,
                         "Registration temporarily unavailable. AuthService is busy, try again later.",
@@ -115,10 +129,20 @@ public class AuthController {
     }
 
     public ResponseEntity<AuthResponse> signinFallback(LoginRequest loginRequest, Throwable throwable) {
+        if (throwable instanceof PasswordHashingBusyException busy) {
+            return busy(busy, "Login service is busy");
+        }
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
                 .body(new AuthResponse(null, "Login service is busy", false));
     }
 
+    private ResponseEntity<AuthResponse> busy(PasswordHashingBusyException busy, String message) {
+        log.warn("Shedding auth request: {}", busy.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, busy.getRetryAfter().toSeconds())))
+                .body(new AuthResponse(null, message, false));
+    }
+
     // ================================
     // Authentication Helper Method
     // ================================
@@ -128,10 +152,13 @@ public class AuthController {
     private Authentication authentication(String username, String password) {
         UserDetails userDetails = customerServiceImplementation.loadUserByUsername(username);
 
-        if (userDetails == null || !passwordEncoder.matches(password, userDetails.getPassword())) {
+        if (userDetails == null || !passwordHashingService.matches(password, userDetails.getPassword())) {
             throw new BadCredentialsException("Invalid Credential");
         }
 
+        // Upgrade an outdated hash (legacy format or lower cost) in the background.
+        passwordHashingService.rehashIfOutdated(userDetails.getUsername(), password, userDetails.getPassword());
+
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
\ No newline at end of file
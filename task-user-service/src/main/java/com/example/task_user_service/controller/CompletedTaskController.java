@@ -0,0 +1,93 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.controller;
+
+import com.example.task_user_service.dto.CompletedTaskPage;     // One page of completions + next cursor.
+import com.example.task_user_service.exception.UserException;   // Custom exception for user-related errors.
+import com.example.task_user_service.response.ApiResponse;      // Standardized API response wrapper.
+import com.example.task_user_service.service.CompletedTaskService; // Completed-task operations.
+import com.example.task_user_service.service.UserService;      // Resolves the caller (role check).
+import com.example.task_user_service.usermodel.CompletedTask;  // Completed-task document.
+import com.example.task_user_service.usermodel.User;           // User entity mapped to MongoDB.
+import lombok.RequiredArgsConstructor;                         // Lombok → generates constructor for final fields.
+import lombok.extern.slf4j.Slf4j;                              // Lombok → logging support.
+import org.springframework.http.HttpStatus;                    // HTTP status codes.
+import org.springframework.http.ResponseEntity;                // Represents HTTP responses.
+import org.springframework.web.bind.annotation.*;              // REST controller + mapping annotations.
+
+import java.util.List;
+
+// CompletedTaskController → Endpoints for the tasks a user has completed.
+// Completions are stored in their own indexed collection → the user document (and /api/users/profile)
+// stays the same size no matter how many tasks a user completes.
+@RestController
+@RequestMapping("/api/users/{userId}/completed-tasks")
+@RequiredArgsConstructor
+@Slf4j
+public class CompletedTaskController {
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final CompletedTaskService completedTaskService; // Completed-task operations.
+    private final UserService userService;                   // Resolves the caller for the admin check.
+
+    // ================================
+    // Record Completed (PUT /api/users/{userId}/completed-tasks/{taskId}) → Admin only
+    // ================================
+    // Purpose:
+    // - Idempotent: 201 Created for a new completion, 200 OK if it was already recorded.
+    @PutMapping("/{taskId}")
+    public ResponseEntity<ApiResponse> recordCompleted(@PathVariable String userId,
+                                                       @PathVariable String taskId,
+                                                       @RequestHeader("Authorization") String jwt) throws UserException {
+        User requester = userService.findUserProfileByJwt(jwt);
+        if (!"ROLE_ADMIN".equals(requester.getRole())) {
+            log.warn("Unauthorized completion recording attempted by user with email: {}", requester.getEmail());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        boolean created = completedTaskService.recordCompleted(userId, taskId);
+        return ResponseEntity.status(created ? HttpStatus.CREATED : HttpStatus.OK)
+                .body(new ApiResponse(created ? "Completion recorded" : "Completion already recorded", true));
+    }
+
+    // ================================
+    // Count Completed (GET /api/users/{userId}/completed-tasks/count)
+    // ================================
+    @GetMapping("/count")
+    public ResponseEntity<Long> countCompleted(@PathVariable String userId) {
+        return ResponseEntity.ok(completedTaskService.countCompleted(userId));
+    }
+
+    // ================================
+    // Has Completed (GET /api/users/{userId}/completed-tasks/{taskId})
+    // ================================
+    @GetMapping("/{taskId}")
+    public ResponseEntity<Boolean> hasCompleted(@PathVariable String userId, @PathVariable String taskId) {
+        return ResponseEntity.ok(completedTaskService.hasCompleted(userId, taskId));
+    }
+
+    // ================================
+    // List Completed (GET /api/users/{userId}/completed-tasks)
+    // ================================
+    // Purpose:
+    // - Newest first, keyset pagination: limit + after (value of X-Next-Cursor from the previous page).
+    // - 400 Bad Request on a malformed cursor.
+    @GetMapping
+    public ResponseEntity<List<CompletedTask>> getCompletedTasks(@PathVariable String userId,
+                                                                 @RequestParam(required = false) Integer limit,
+                                                                 @RequestParam(required = false) String after) {
+        CompletedTaskPage page;
+        try {
+            page = completedTaskService.getCompletedTasks(userId, limit, after);
+        } catch (UserException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(UserController.NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.completedTasks());
+    }
+}
@@ -0,0 +1,41 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.controller;
+
+import com.example.task_user_service.taskSecurityConfig.JwtKeyManager; // Holds the published public keys.
+import lombok.RequiredArgsConstructor;                         // Lombok → generates constructor for final fields.
+import org.springframework.http.CacheControl;                  // Cache-Control response header.
+import org.springframework.http.ResponseEntity;                // Represents HTTP responses.
+import org.springframework.web.bind.annotation.GetMapping;     // Maps HTTP GET requests.
+import org.springframework.web.bind.annotation.RestController; // Marks this class as a REST controller.
+
+import java.time.Duration;
+import java.util.Map;
+
+// JwksController → Publishes the JWT verification keys (JSON Web Key Set, RFC 7517).
+// Purpose:
+// - TASK-SERVICE (and any other service or the gateway) fetches this once, caches it and then
+//   verifies tokens locally by their "kid" header → no call back to USER-SERVICE per request.
+// - Public keys only; unauthenticated (the /api/** rule does not apply).
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final JwtKeyManager jwtKeyManager;
+
+    // ================================
+    // JWKS (GET /.well-known/jwks.json)
+    // ================================
+    // - Contains the current key, a successor that is published ahead of activation,
+    //   and predecessors whose tokens may still be valid.
+    // - Cache-Control max-age=300 → clients re-fetch at most every 5 minutes
+    //   (plus on an unknown kid).
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwtKeyManager.jwks());
+    }
+}
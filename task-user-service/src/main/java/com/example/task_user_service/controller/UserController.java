@@ -1,6 +1,8 @@
 // Package declaration → groups related classes together.
 package com.example.task_user_service.controller;
 
+import com.example.task_user_service.dto.UserDTO;               // Public user view (no password).
+import com.example.task_user_service.dto.UserPage;              // One page of users + next cursor.
 import com.example.task_user_service.exception.UserException;   // Custom exception for user-related errors.
 import com.example.task_user_service.service.UserService;      // Service interface for user operations.
 import com.example.task_user_service.usermodel.User;           // User entity mapped to MongoDB.
@@ -8,10 +10,15 @@ import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker; // Resil
 import lombok.RequiredArgsConstructor;                         // Lombok → generates constructor for final fields.
 import lombok.extern.slf4j.Slf4j;                              // Lombok → logging support.
 import org.springframework.http.HttpStatus;                    // HTTP status codes.
+import org.springframework.http.MediaType;                     // Content types (NDJSON for exports).
 import org.springframework.http.ResponseEntity;                // Represents HTTP responses.
 import org.springframework.web.bind.annotation.*;              // REST controller + mapping annotations.
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody; // Writes the body directly to the response stream.
+import tools.jackson.databind.json.JsonMapper;                 // Serializes users for the NDJSON export.
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 // @RestController → Marks this class as a REST controller (returns JSON responses).
 // @RequestMapping("/api/users") → Base URL for user-related endpoints.
@@ -27,6 +34,13 @@ public class UserController {
     // Dependency Injection
     // ================================
     private final UserService userService; // Provides user-related operations.
+    private final JsonMapper jsonMapper;   // Serializes users for the NDJSON export.
+
+    // ================================
+    // Constants
+    // ================================
+    // Response header carrying the cursor for the next page (absent on the last page).
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     // ================================
     // Get User Profile (GET /api/users/profile)
@@ -59,19 +73,77 @@ public class UserController {
         return new ResponseEntity<>(user, HttpStatus.ACCEPTED);
     }
 
+    // ================================
+    // Find Users by IDs (POST /api/users/batch)
+    // ================================
+    // Purpose:
+    // - Resolve many users in one call (e.g. assignees of a task page, authors of submissions).
+    // - Body → JSON array of user ids; POST keeps long id lists out of the URL.
+    // - Response → projected UserDTOs (no password); unknown ids are omitted.
+    // - 400 Bad Request if the batch limit is exceeded.
+    @PostMapping("/batch")
+    @CircuitBreaker(name = "userService", fallbackMethod = "fallbackForFindUsersByIds")
+    public ResponseEntity<List<UserDTO>> findUsersByIds(@RequestBody List<String> userIds,
+                                                        @RequestHeader("Authorization") String jwt) {
+        log.info("Batch lookup for {} user ids", userIds == null ? 0 : userIds.size());
+        try {
+            return ResponseEntity.ok(userService.findUsersByIds(userIds));
+        } catch (UserException e) {
+            log.warn("Rejected batch lookup: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // ================================
     // Find All Users (GET /api/users/all)
     // ================================
     // Purpose:
-    // - Fetch all registered users.
-    // - Removes passwords before returning response.
+    // - Fetch registered users one page at a time (keyset pagination by id).
+    // - Projected UserDTOs → password and completedTasks are never read from MongoDB.
+    // - limit → page size (default 50, max 500); after → value of X-Next-Cursor from the previous page.
+    // - 400 Bad Request on a malformed cursor.
     @GetMapping("/all")
     @CircuitBreaker(name = "userService", fallbackMethod = "fallbackForFindAllUsers")
-    public ResponseEntity<List<User>> findAllUsers() {
-        log.info("Fetching all registered users");
-        List<User> users = userService.findAllUsers();
-        users.forEach(u -> u.setPassword(null)); // Hide passwords.
-        return new ResponseEntity<>(users, HttpStatus.ACCEPTED);
+    public ResponseEntity<List<UserDTO>> findAllUsers(@RequestParam(required = false) Integer limit,
+                                                      @RequestParam(required = false) String after) {
+        log.info("Fetching registered users page (limit={}, after={})", limit, after);
+        try {
+            return pageResponse(userService.getUsersPage(limit, after), HttpStatus.ACCEPTED);
+        } catch (UserException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // ================================
+    // Export Users (GET /api/users/export) → Admin only, NDJSON
+    // ================================
+    // Purpose:
+    // - Streams every user as one JSON object per line (application/x-ndjson).
+    // - Users are read from a MongoDB cursor (projected) and written straight to the response,
+    //   so memory use does not grow with the number of users.
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestHeader("Authorization") String jwt) throws UserException {
+        // Step 1: Only admins can export users.
+        User requester = userService.findUserProfileByJwt(jwt);
+        if (!"ROLE_ADMIN".equals(requester.getRole())) {
+            log.warn("Unauthorized user export attempted by user with email: {}", requester.getEmail());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        // Step 2: Write users line by line while iterating the cursor (runs on an MVC async thread).
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<UserDTO> users = userService.exportUsers()) {
+                Iterator<UserDTO> iterator = users.iterator();
+                while (iterator.hasNext()) {
+                    outputStream.write(jsonMapper.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     // ================================
@@ -88,7 +160,12 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
     }
 
-    public ResponseEntity<List<User>> fallbackForFindAllUsers(String jwt, Throwable throwable) {
+    public ResponseEntity<List<UserDTO>> fallbackForFindUsersByIds(List<String> userIds, String jwt, Throwable throwable) {
+        log.error("Circuit Breaker trigger for findUsersByIds: {}", throwable.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
+    public ResponseEntity<List<UserDTO>> fallbackForFindAllUsers(Integer limit, String after, Throwable throwable) {
         log.error("Circuit Breaker trigger for findAllUsers: {}", throwable.getMessage());
         return ResponseEntity.ok(List.of()); // Return empty list if service unavailable.
     }
@@ -97,16 +174,31 @@ public class UserController {
     // Get All Users (GET /api/users)
     // ================================
     // Purpose:
-    // - Another endpoint to fetch all users.
+    // - Another endpoint to fetch users (same keyset pagination and projection as /all).
     // - Handles exceptions manually instead of circuit breaker.
     @GetMapping()
-    public ResponseEntity<?> getAllUsers(@RequestHeader("Authorization") String jwt) {
+    public ResponseEntity<?> getAllUsers(@RequestHeader("Authorization") String jwt,
+                                         @RequestParam(required = false) Integer limit,
+                                         @RequestParam(required = false) String after) {
         try {
-            List<User> users = userService.getAllUsers();
-            return ResponseEntity.ok(users);
+            return pageResponse(userService.getUsersPage(limit, after), HttpStatus.OK);
+        } catch (UserException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             log.error("Error retrieving users: {}", e.getMessage());
             return ResponseEntity.internalServerError().body("Error retrieving users");
         }
     }
-}
\ No newline at end of file
+
+    // ================================
+    // Pagination Helper
+    // ================================
+    // Returns the page as a JSON array and exposes the next cursor as response header.
+    private ResponseEntity<List<UserDTO>> pageResponse(UserPage page, HttpStatus status) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.users());
+    }
+}
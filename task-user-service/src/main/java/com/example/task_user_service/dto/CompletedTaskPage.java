@@ -0,0 +1,15 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.dto;
+
+import com.example.task_user_service.usermodel.CompletedTask; // Completed-task document.
+
+import java.util.List;
+
+// CompletedTaskPage → One page of a user's completed tasks (newest first).
+// Purpose:
+// - completedTasks → the completions of this page.
+// - nextCursor → id of the last completion, to pass as "after" for the next page; null on the last page.
+public record CompletedTaskPage(
+        List<CompletedTask> completedTasks,
+        String nextCursor
+) { }
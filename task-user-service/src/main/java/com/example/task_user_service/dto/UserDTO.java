@@ -0,0 +1,15 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.dto;
+
+// UserDTO → A Java record used as a Data Transfer Object (DTO).
+// Purpose:
+// - Public view of a user, returned by the batch lookup (POST /api/users/batch).
+// - Also used as a query projection → MongoDB only returns these fields (no password, no completedTasks).
+// - Same shape as the UserDTO records in TASK-SERVICE and TASK-SUBMISSION-SERVICE.
+public record UserDTO(
+        String id,        // Unique identifier of the user (MongoDB ObjectId).
+        String fullName,  // Full name of the user.
+        String email,     // Email address (used for login and communication).
+        String role,      // Role of the user (e.g., ROLE_ADMIN, ROLE_CUSTOMER).
+        String mobile     // Mobile number of the user.
+) { }
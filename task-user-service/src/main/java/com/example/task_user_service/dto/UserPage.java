@@ -0,0 +1,13 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.dto;
+
+import java.util.List;
+
+// UserPage → One page of users returned by keyset pagination.
+// Purpose:
+// - users → the users of this page (ordered by id).
+// - nextCursor → id of the last user, to pass as "after" for the next page; null on the last page.
+public record UserPage(
+        List<UserDTO> users,
+        String nextCursor
+) { }
@@ -0,0 +1,24 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.exception;
+
+import java.time.Duration;
+
+// PasswordHashingBusyException → Thrown when the password hashing pool cannot take more work.
+// Extends RuntimeException → passes through the circuit breaker fallbacks, which answer 503 + Retry-After.
+public class PasswordHashingBusyException extends RuntimeException {
+
+    // ================================
+    // Retry After
+    // ================================
+    // Suggested wait before the client retries (sent as Retry-After header).
+    private final Duration retryAfter;
+
+    public PasswordHashingBusyException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,23 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.repository;
+
+import com.example.task_user_service.usermodel.CompletedTask;      // Completed-task document.
+import org.springframework.data.mongodb.repository.MongoRepository; // Spring Data MongoDB repository interface.
+
+// CompletedTaskRepository → MongoDB operations on the completedTask collection.
+// Derived queries below are served by the unique (userId, taskId) index;
+// upserts and keyset pages come from CompletedTaskRepositoryCustom.
+public interface CompletedTaskRepository extends MongoRepository<CompletedTask, String>, CompletedTaskRepositoryCustom {
+
+    // ================================
+    // Has Completed
+    // ================================
+    // Point lookup on (userId, taskId).
+    boolean existsByUserIdAndTaskId(String userId, String taskId);
+
+    // ================================
+    // Count per User
+    // ================================
+    // Counts index keys with the userId prefix (no documents are fetched).
+    long countByUserId(String userId);
+}
@@ -0,0 +1,36 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.repository;
+
+import com.example.task_user_service.usermodel.CompletedTask; // Completed-task document.
+
+import java.util.Collection;
+import java.util.List;
+
+// CompletedTaskRepositoryCustom → Custom repository fragment for idempotent writes and keyset pages.
+// Spring Data merges it into CompletedTaskRepository; the implementation lives in CompletedTaskRepositoryCustomImpl.
+public interface CompletedTaskRepositoryCustom {
+
+    // ================================
+    // Record Completed (idempotent)
+    // ================================
+    // Purpose:
+    // - Upsert (userId, taskId) → recording the same completion twice is a no-op.
+    // - Returns true if a new completion was stored.
+    boolean recordCompleted(String userId, String taskId);
+
+    // ================================
+    // Record Completed (bulk, idempotent)
+    // ================================
+    // Purpose:
+    // - Same as recordCompleted() for many tasks of one user with a single unordered bulk write.
+    // - Returns the number of newly stored completions.
+    int recordCompleted(String userId, Collection<String> taskIds);
+
+    // ================================
+    // Find Page (keyset pagination)
+    // ================================
+    // Purpose:
+    // - Fetch up to `limit` completions of one user, newest first (_id desc),
+    //   starting strictly after `afterId` (null = first page).
+    List<CompletedTask> findPage(String userId, String afterId, int limit);
+}
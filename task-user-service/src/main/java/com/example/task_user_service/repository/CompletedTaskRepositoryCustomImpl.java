@@ -0,0 +1,77 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.repository;
+
+import com.example.task_user_service.usermodel.CompletedTask;  // Completed-task document.
+import lombok.RequiredArgsConstructor;                         // Lombok → generates constructor for final fields.
+import org.springframework.data.domain.Sort;                   // Sort definition (_id descending).
+import org.springframework.data.mongodb.core.BulkOperations;   // Batches many upserts into one round trip.
+import org.springframework.data.mongodb.core.MongoTemplate;    // Low-level MongoDB operations.
+import org.springframework.data.mongodb.core.query.Query;      // MongoDB query.
+import org.springframework.data.mongodb.core.query.Update;     // $setOnInsert modification.
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+// CompletedTaskRepositoryCustomImpl → MongoTemplate-backed implementation of CompletedTaskRepositoryCustom.
+@RequiredArgsConstructor
+public class CompletedTaskRepositoryCustomImpl implements CompletedTaskRepositoryCustom {
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final MongoTemplate mongoTemplate;
+
+    // ================================
+    // Record Completed (idempotent)
+    // ================================
+    @Override
+    public boolean recordCompleted(String userId, String taskId) {
+        return mongoTemplate.upsert(byUserAndTask(userId, taskId), insertOnly(), CompletedTask.class)
+                .getUpsertedId() != null;
+    }
+
+    // ================================
+    // Record Completed (bulk, idempotent)
+    // ================================
+    @Override
+    public int recordCompleted(String userId, Collection<String> taskIds) {
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CompletedTask.class);
+        Update update = insertOnly();
+        for (String taskId : taskIds) {
+            bulk.upsert(byUserAndTask(userId, taskId), update);
+        }
+        return bulk.execute().getUpserts().size();
+    }
+
+    // ================================
+    // Find Page (keyset pagination)
+    // ================================
+    // Served by the (userId, _id desc) index.
+    @Override
+    public List<CompletedTask> findPage(String userId, String afterId, int limit) {
+        Query query = Query.query(where("userId").is(userId));
+        if (afterId != null) {
+            query.addCriteria(where("id").lt(afterId)); // Mapped to _id (ObjectId).
+        }
+        query.with(Sort.by(Sort.Direction.DESC, "id")).limit(limit);
+        return mongoTemplate.find(query, CompletedTask.class);
+    }
+
+    // ================================
+    // Helpers
+    // ================================
+    private Query byUserAndTask(String userId, String taskId) {
+        return Query.query(where("userId").is(userId).and("taskId").is(taskId));
+    }
+
+    // Existing completions keep their original timestamp.
+    private Update insertOnly() {
+        return new Update().setOnInsert("completedAt", LocalDateTime.now());
+    }
+}
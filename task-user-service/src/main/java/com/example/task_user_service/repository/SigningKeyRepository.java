@@ -0,0 +1,18 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.repository;
+
+import com.example.task_user_service.usermodel.SigningKey;          // JWT signing key document.
+import org.springframework.data.mongodb.repository.MongoRepository; // Spring Data MongoDB repository interface.
+
+import java.util.List;
+
+// SigningKeyRepository → MongoDB operations on the signingKey collection.
+// The collection only ever holds a handful of documents (current key + keys in rotation).
+public interface SigningKeyRepository extends MongoRepository<SigningKey, String> {
+
+    // ================================
+    // Derived Query: All Keys, Newest Activation First
+    // ================================
+    // - The first key whose activatesAt is in the past is the current signing key.
+    List<SigningKey> findAllByOrderByActivatesAtDesc();
+}
@@ -1,9 +1,12 @@
 // Package declaration → groups related classes together.
 package com.example.task_user_service.repository;
 
+import com.example.task_user_service.dto.UserDTO;    // Projection returned by batch lookups (no password).
 import com.example.task_user_service.usermodel.User; // Import the User model (MongoDB document).
 import org.springframework.data.mongodb.repository.MongoRepository; // Spring Data MongoDB repository interface.
-import org.springframework.data.mongodb.repository.Query;            // Annotation for custom MongoDB queries.
+
+import java.util.Collection;
+import java.util.List;
 
 // UserRepository → Interface for MongoDB operations on User collection.
 // Extends MongoRepository<User, String>:
@@ -17,15 +20,14 @@ import org.springframework.data.mongodb.repository.Query;            // Annotati
 // - deleteById(String id)
 //
 // You can also define custom query methods.
-public interface UserRepository extends MongoRepository<User, String> {
+// Conditional writes (password re-hash) come from UserRepositoryCustom.
+public interface UserRepository extends MongoRepository<User, String>, UserRepositoryCustom {
 
     // ================================
-    // Custom Query: Find User by Email
+    // Derived Query: Find User by Email
     // ================================
-    // @Query("{email:?0}")
-    // - Defines a MongoDB query using JSON syntax.
-    // - {email:?0} → Matches documents where "email" field equals the first method parameter (?0).
-    // - ?0 → Placeholder for the first argument passed to the method.
+    // - Spring Data derives { "email" : ?0 } from the method name.
+    // - Served by the unique index "email_unique" → point read (at most one document).
     //
     // Example:
     //   userRepository.findByEmail("harmandeep@example.com");
@@ -34,6 +36,14 @@ public interface UserRepository extends MongoRepository<User, String> {
     // Returns:
     // - User object if found.
     // - null if no user exists with that email.
-    @Query("{email:?0}")
     User findByEmail(String email);
+
+    // ================================
+    // Derived Query: Find Users by IDs (projection)
+    // ================================
+    // - Executes ONE query: { "_id" : { "$in" : [ ... ] } }.
+    // - Returning UserDTO → Spring Data derives a field projection from the record components,
+    //   so the password hash never leaves the database.
+    // - Unknown ids are simply absent from the result; order is not guaranteed.
+    List<UserDTO> findByIdIn(Collection<String> ids);
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.repository;
+
+import com.example.task_user_service.dto.UserDTO; // Projection (no password, no completedTasks).
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// UserRepositoryCustom → Custom repository fragment for conditional writes and projected listings.
+// Spring Data merges it into UserRepository; the implementation lives in UserRepositoryCustomImpl.
+public interface UserRepositoryCustom {
+
+    // ================================
+    // Update Password If Unchanged
+    // ================================
+    // Purpose:
+    // - Replace the stored password hash only if it still equals `expectedHash`
+    //   (single updateOne, no read-modify-write race with a concurrent password change).
+    // - Returns true if the hash was replaced.
+    boolean updatePasswordIfUnchanged(String email, String expectedHash, String newHash);
+
+    // ================================
+    // Find Page (keyset pagination, projected)
+    // ================================
+    // Purpose:
+    // - Fetch up to `limit` users ordered by _id, starting strictly after `afterId` (null = first page).
+    // - Only the UserDTO fields are read → password and completedTasks never leave MongoDB.
+    // - Served by the _id index → deep pages cost the same as the first one.
+    List<UserDTO> findPage(String afterId, int limit);
+
+    // ================================
+    // Stream Users (export, projected)
+    // ================================
+    // Purpose:
+    // - Iterate over all users through a MongoDB cursor, one batch at a time (same projection as findPage).
+    // - The returned Stream holds an open cursor → callers must close it (try-with-resources).
+    Stream<UserDTO> streamUsers();
+}
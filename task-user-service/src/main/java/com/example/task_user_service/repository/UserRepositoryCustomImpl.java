@@ -0,0 +1,64 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.repository;
+
+import com.example.task_user_service.dto.UserDTO;               // Projection (no password, no completedTasks).
+import com.example.task_user_service.usermodel.User;           // User entity mapped to MongoDB.
+import lombok.RequiredArgsConstructor;                         // Lombok → generates constructor for final fields.
+import org.springframework.data.domain.Sort;                   // Sort definition (_id ascending).
+import org.springframework.data.mongodb.core.MongoTemplate;    // Low-level MongoDB operations.
+import org.springframework.data.mongodb.core.query.Query;      // MongoDB query.
+import org.springframework.data.mongodb.core.query.Update;     // $set modification.
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+// UserRepositoryCustomImpl → MongoTemplate-backed implementation of UserRepositoryCustom.
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final MongoTemplate mongoTemplate;
+
+    // ================================
+    // Constants
+    // ================================
+    private static final int EXPORT_BATCH_SIZE = 500; // Documents per cursor batch while exporting.
+
+    // ================================
+    // Update Password If Unchanged
+    // ================================
+    @Override
+    public boolean updatePasswordIfUnchanged(String email, String expectedHash, String newHash) {
+        Query query = Query.query(where("email").is(email).and("password").is(expectedHash));
+        return mongoTemplate.updateFirst(query, Update.update("password", newHash), User.class)
+                .getModifiedCount() > 0;
+    }
+
+    // ================================
+    // Find Page (keyset pagination, projected)
+    // ================================
+    // as(UserDTO.class) → Spring Data derives the field projection from the record components.
+    @Override
+    public List<UserDTO> findPage(String afterId, int limit) {
+        Query query = new Query();
+        if (afterId != null) {
+            query.addCriteria(where("id").gt(afterId)); // Mapped to _id (ObjectId).
+        }
+        query.with(Sort.by(Sort.Direction.ASC, "id")).limit(limit);
+
+        return mongoTemplate.query(User.class).as(UserDTO.class).matching(query).all();
+    }
+
+    // ================================
+    // Stream Users (export, projected)
+    // ================================
+    @Override
+    public Stream<UserDTO> streamUsers() {
+        Query query = new Query().with(Sort.by(Sort.Direction.ASC, "id")).cursorBatchSize(EXPORT_BATCH_SIZE);
+        return mongoTemplate.query(User.class).as(UserDTO.class).matching(query).stream();
+    }
+}
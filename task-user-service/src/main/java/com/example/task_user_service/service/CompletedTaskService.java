@@ -0,0 +1,41 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.service;
+
+import com.example.task_user_service.dto.CompletedTaskPage;   // One page of completions + next cursor.
+import com.example.task_user_service.exception.UserException; // Custom exception for user-related errors.
+
+// CompletedTaskService → Contract for the tasks a user has completed.
+// Completions live in their own collection (completedTask), not inside the user document.
+public interface CompletedTaskService {
+
+    // ================================
+    // Record Completed
+    // ================================
+    // Purpose:
+    // - Store that the user completed the task (idempotent).
+    // - Returns true if the completion was new.
+    public boolean recordCompleted(String userId, String taskId);
+
+    // ================================
+    // Has Completed
+    // ================================
+    // Purpose:
+    // - Point lookup: did this user complete this task?
+    public boolean hasCompleted(String userId, String taskId);
+
+    // ================================
+    // Count Completed
+    // ================================
+    // Purpose:
+    // - Number of tasks the user has completed.
+    public long countCompleted(String userId);
+
+    // ================================
+    // Get Completed Tasks (keyset pagination)
+    // ================================
+    // Purpose:
+    // - One page of the user's completions, newest first.
+    // - limit → page size (default 50, at most 500); after → nextCursor of the previous page.
+    // - Throws UserException if the cursor is malformed.
+    public CompletedTaskPage getCompletedTasks(String userId, Integer limit, String after) throws UserException;
+}
@@ -0,0 +1,77 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.service;
+
+import com.example.task_user_service.dto.CompletedTaskPage;    // One page of completions + next cursor.
+import com.example.task_user_service.exception.UserException;  // Custom exception for user-related errors.
+import com.example.task_user_service.repository.CompletedTaskRepository; // Completed-task collection.
+import com.example.task_user_service.usermodel.CompletedTask;  // Completed-task document.
+import lombok.RequiredArgsConstructor;                         // Lombok → generates constructor for final fields.
+import org.bson.types.ObjectId;                                // Validates cursor ids.
+import org.springframework.stereotype.Service;                 // Marks this class as a Spring-managed service bean.
+
+import java.util.List;
+
+// @Service → Marks this class as a service component.
+// @RequiredArgsConstructor → Lombok generates constructor for final fields (dependency injection).
+@Service
+@RequiredArgsConstructor
+public class CompletedTaskServiceImplementation implements CompletedTaskService {
+
+    // ================================
+    // Dependency Injection
+    // ================================
+    private final CompletedTaskRepository completedTaskRepository;
+
+    // ================================
+    // Limits
+    // ================================
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // ================================
+    // Record Completed
+    // ================================
+    @Override
+    public boolean recordCompleted(String userId, String taskId) {
+        return completedTaskRepository.recordCompleted(userId, taskId);
+    }
+
+    // ================================
+    // Has Completed
+    // ================================
+    @Override
+    public boolean hasCompleted(String userId, String taskId) {
+        return completedTaskRepository.existsByUserIdAndTaskId(userId, taskId);
+    }
+
+    // ================================
+    // Count Completed
+    // ================================
+    @Override
+    public long countCompleted(String userId) {
+        return completedTaskRepository.countByUserId(userId);
+    }
+
+    // ================================
+    // Get Completed Tasks (keyset pagination)
+    // ================================
+    // One extra document is fetched to know whether a next page exists.
+    @Override
+    public CompletedTaskPage getCompletedTasks(String userId, Integer limit, String after) throws UserException {
+        // Step 1: Clamp page size.
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        // Step 2: Validate cursor (id of the previous page's last completion).
+        if (after != null && !ObjectId.isValid(after)) {
+            throw new UserException("Malformed cursor");
+        }
+
+        // Step 3: Read pageSize + 1 completions.
+        List<CompletedTask> completed = completedTaskRepository.findPage(userId, after, pageSize + 1);
+        if (completed.size() <= pageSize) {
+            return new CompletedTaskPage(completed, null);
+        }
+        List<CompletedTask> page = completed.subList(0, pageSize);
+        return new CompletedTaskPage(page, page.getLast().getId());
+    }
+}
@@ -0,0 +1,176 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.service;
+
+import com.example.task_user_service.exception.PasswordHashingBusyException; // Pool full / timed out → 503.
+import com.example.task_user_service.repository.UserRepository; // Conditional password update (re-hash).
+import io.micrometer.core.instrument.Counter;           // Monotonic counter metric.
+import io.micrometer.core.instrument.Gauge;             // Sampled value metric (queue depth).
+import io.micrometer.core.instrument.MeterRegistry;     // Registry the metrics are published to (actuator).
+import io.micrometer.core.instrument.Timer;             // Latency metric.
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics; // Standard executor.* metrics.
+import jakarta.annotation.PreDestroy;                   // Shuts the pool down with the context.
+import lombok.extern.slf4j.Slf4j;                       // Lombok → logging support.
+import org.springframework.beans.factory.annotation.Value; // Injects configuration values.
+import org.springframework.security.crypto.password.PasswordEncoder; // BCrypt encoder (CPU-bound).
+import org.springframework.stereotype.Service;          // Marks this class as a Spring-managed service bean.
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// PasswordHashingService → Runs password hashing and matching on a dedicated, bounded pool.
+// Purpose:
+// - BCrypt is deliberately CPU-expensive; a login storm on Tomcat threads would occupy every core
+//   and starve cheap endpoints such as GET /api/users/profile that other services depend on.
+// - At most `auth.hashing.threads` hashes run at once (default: available cores), at most
+//   `auth.hashing.queue-capacity` wait → everything beyond that is rejected immediately.
+// - Rejected or timed-out work → PasswordHashingBusyException → 503 with Retry-After.
+// - Metrics: executor.* for "passwordHashing", auth.hashing.queue.depth, auth.hashing.duration
+//   (tag operation=encode|matches), auth.hashing.rejected and auth.hashing.rehashed.
+// - rehashIfOutdated() upgrades old hashes (unprefixed or lower cost) after a successful signin,
+//   in the background and only if the pool has room.
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    // ================================
+    // Dependencies / Configuration
+    // ================================
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;     // Maximum wait (queue + hashing) per call.
+    private final Duration retryAfter;  // Sent to rejected clients.
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+    private final Counter rehashed;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  UserRepository userRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${auth.hashing.threads:0}") int threads,
+                                  @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${auth.hashing.timeout:5s}") Duration timeout,
+                                  @Value("${auth.hashing.retry-after:2s}") Duration retryAfter) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.timeout = timeout;
+        this.retryAfter = retryAfter;
+
+        // threads <= 0 → one worker per available core.
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()); // Full queue → RejectedExecutionException.
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+        Gauge.builder("auth.hashing.queue.depth", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a worker")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.hashing.duration").tag("operation", "encode")
+                .description("Time spent hashing a password (excluding queue wait)")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.hashing.duration").tag("operation", "matches")
+                .description("Time spent checking a password (excluding queue wait)")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.hashing.rejected")
+                .description("Password hashing requests rejected because the pool was saturated")
+                .register(meterRegistry);
+        this.rehashed = Counter.builder("auth.hashing.rehashed")
+                .description("Stored password hashes upgraded to the current algorithm/cost at signin")
+                .register(meterRegistry);
+    }
+
+    // ================================
+    // Encode (signup)
+    // ================================
+    public String encode(String rawPassword) {
+        return run(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    // ================================
+    // Matches (signin)
+    // ================================
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // ================================
+    // Re-hash If Outdated (after signin)
+    // ================================
+    // Purpose:
+    // - Called only after matches() succeeded → rawPassword is known to be correct.
+    // - Outdated hash → encode again with the current settings and store it, unless the password
+    //   was changed in the meantime (conditional update on the old hash).
+    // - Fire-and-forget: the signin response does not wait; a full pool just skips it
+    //   (the next signin tries again).
+    public void rehashIfOutdated(String email, String rawPassword, String storedHash) {
+        if (!passwordEncoder.upgradeEncoding(storedHash)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    String newHash = encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+                    if (userRepository.updatePasswordIfUnchanged(email, storedHash, newHash)) {
+                        rehashed.increment();
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Password re-hash failed for {}: {}", email, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipped password re-hash for {}: hashing pool is saturated", email);
+        }
+    }
+
+    // ================================
+    // Helpers
+    // ================================
+    // Submits the work and waits for it on the calling (request) thread.
+    private <T> T run(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Password hashing pool is saturated", retryAfter);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException("Password hashing timed out", retryAfter);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Interrupted while waiting for password hashing", retryAfter);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
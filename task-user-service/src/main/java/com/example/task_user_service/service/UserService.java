@@ -1,10 +1,13 @@
 // Package declaration → groups related classes together.
 package com.example.task_user_service.service;
 
+import com.example.task_user_service.dto.UserDTO;             // Public user view (no password).
+import com.example.task_user_service.dto.UserPage;            // One page of users + next cursor.
 import com.example.task_user_service.exception.UserException; // Custom exception for user-related errors.
 import com.example.task_user_service.usermodel.User;          // User entity mapped to MongoDB.
 
 import java.util.List; // Used for returning lists of users.
+import java.util.stream.Stream; // Lazily iterated users (export).
 
 // UserService → Interface that defines the contract for user-related operations.
 // Interfaces in Java only declare methods (no implementation).
@@ -12,12 +15,21 @@ import java.util.List; // Used for returning lists of users.
 public interface UserService {
 
     // ================================
-    // Get All Users
+    // Get Users Page (keyset pagination)
     // ================================
     // Purpose:
-    // - Fetch all users from the database.
-    // - Throws UserException if something goes wrong (e.g., DB error).
-    public List<User> getAllUsers() throws UserException;
+    // - Fetch one page of users ordered by id (projected → no password, no completedTasks).
+    // - limit → page size (default 50, at most 500); after → nextCursor of the previous page.
+    // - Throws UserException if the cursor is malformed.
+    public UserPage getUsersPage(Integer limit, String after) throws UserException;
+
+    // ================================
+    // Export Users
+    // ================================
+    // Purpose:
+    // - Stream every user (projected) for NDJSON export.
+    // - The returned Stream holds an open MongoDB cursor → close it after use.
+    public Stream<UserDTO> exportUsers();
 
     // ================================
     // Find User Profile by JWT
@@ -46,11 +58,11 @@ public interface UserService {
     public User findUserById(String userId) throws UserException;
 
     // ================================
-    // Find All Users (Duplicate)
+    // Find Users by IDs (batch)
     // ================================
     // Purpose:
-    // - Another method to fetch all users.
-    // - Unlike getAllUsers(), this one does not throw UserException.
-    // - Could be used in contexts where exception handling is not required.
-    public List<User> findAllUsers();
+    // - Resolve many users with a single $in query (instead of one GET per id).
+    // - Duplicate and blank ids are ignored; unknown ids are absent from the result.
+    // - Throws UserException if more than MAX_BATCH_SIZE distinct ids are requested.
+    public List<UserDTO> findUsersByIds(List<String> userIds) throws UserException;
 }
\ No newline at end of file
@@ -1,15 +1,24 @@
 // Package declaration → groups related classes together.
 package com.example.task_user_service.service;
 
+import com.example.task_user_service.dto.UserDTO;               // Public user view (no password).
+import com.example.task_user_service.dto.UserPage;              // One page of users + next cursor.
 import com.example.task_user_service.exception.UserException;   // Custom exception for user-related errors.
 import com.example.task_user_service.repository.UserRepository; // Repository for accessing User collection in MongoDB.
 import com.example.task_user_service.taskSecurityConfig.JwtProvider; // Utility for extracting email from JWT tokens.
 import com.example.task_user_service.usermodel.User;           // User entity mapped to MongoDB.
 import lombok.RequiredArgsConstructor;                         // Lombok → generates constructor for final fields.
+import org.bson.types.ObjectId;                                // Validates cursor ids.
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // Authentication set by JwtTokenValidator.
+import org.springframework.security.core.Authentication;       // Represents the authenticated user.
+import org.springframework.security.core.context.SecurityContextHolder; // Holds authentication info for current request.
 import org.springframework.stereotype.Service;                 // Marks this class as a Spring-managed service bean.
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 // @Service → Marks this class as a service component.
 // @RequiredArgsConstructor → Lombok generates constructor for final fields (dependency injection).
@@ -23,27 +32,67 @@ public class UserServiceImplementation implements UserService {
     // Injects UserRepository to interact with MongoDB.
     private final UserRepository userRepository;
 
+    // Verifies JWTs and extracts the email claim.
+    private final JwtProvider jwtProvider;
+
+    // ================================
+    // Limits
+    // ================================
+    // Upper bound for one batch lookup → keeps the $in list and the response size bounded.
+    public static final int MAX_BATCH_SIZE = 500;
+
+    // Page sizes for user listings.
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
+    // ================================
+    // Get Users Page (keyset pagination)
+    // ================================
+    // Purpose:
+    // - Clamp the page size, validate the cursor and read one projected page.
+    // - One extra document is fetched to know whether a next page exists.
+    @Override
+    public UserPage getUsersPage(Integer limit, String after) throws UserException {
+        // Step 1: Clamp page size.
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+
+        // Step 2: Validate cursor (it is the id of the previous page's last user).
+        if (after != null && !ObjectId.isValid(after)) {
+            throw new UserException("Malformed cursor");
+        }
+
+        // Step 3: Read pageSize + 1 users.
+        List<UserDTO> users = userRepository.findPage(after, pageSize + 1);
+        if (users.size() <= pageSize) {
+            return new UserPage(users, null);
+        }
+        List<UserDTO> page = users.subList(0, pageSize);
+        return new UserPage(page, page.getLast().id());
+    }
+
     // ================================
-    // Get All Users
+    // Export Users
     // ================================
-    // Delegates to findAllUsers().
-    // Throws UserException if needed (though here it just calls findAllUsers).
     @Override
-    public List<User> getAllUsers() throws UserException {
-        return findAllUsers();
+    public Stream<UserDTO> exportUsers() {
+        return userRepository.streamUsers();
     }
 
     // ================================
     // Find User Profile by JWT
     // ================================
     // Purpose:
-    // - Extract email from JWT using JwtProvider.
+    // - Take the email from the SecurityContext (JwtTokenValidator already verified this request's token);
+    //   only parse the JWT when no authenticated principal is present.
     // - Fetch user from MongoDB by email.
     // - Throw UserException if user not found.
     @Override
     public User findUserProfileByJwt(String jwt) throws UserException {
-        // Step 1: Extract email from JWT.
-        String email = JwtProvider.getEmailFromJwtToken(jwt);
+        // Step 1: Email of the verified principal, or from the JWT as fallback.
+        String email = authenticatedEmail();
+        if (email == null) {
+            email = jwtProvider.getEmailFromJwtToken(jwt);
+        }
 
         // Step 2: Find user by email.
         User user = userRepository.findByEmail(email);
@@ -55,6 +104,15 @@ public class UserServiceImplementation implements UserService {
         return user;
     }
 
+    // Principal name set by JwtTokenValidator (null outside an authenticated request).
+    private String authenticatedEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication instanceof UsernamePasswordAuthenticationToken && authentication.isAuthenticated()) {
+            return authentication.getName();
+        }
+        return null;
+    }
+
     // ================================
     // Find User by Email
     // ================================
@@ -84,13 +142,32 @@ public class UserServiceImplementation implements UserService {
     }
 
     // ================================
-    // Find All Users
+    // Find Users by IDs (batch)
     // ================================
     // Purpose:
-    // - Fetch all users from MongoDB.
-    // - Returns list of users.
+    // - Drop blank and duplicate ids, then run ONE projected $in query.
+    // - Result → UserDTOs (password never loaded).
     @Override
-    public List<User> findAllUsers() {
-        return userRepository.findAll();
+    public List<UserDTO> findUsersByIds(List<String> userIds) throws UserException {
+        // Step 1: Normalize ids (keep request order, skip null/blank, remove duplicates).
+        Set<String> ids = new LinkedHashSet<>();
+        if (userIds != null) {
+            for (String id : userIds) {
+                if (id != null && !id.isBlank()) {
+                    ids.add(id);
+                }
+            }
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // Step 2: Enforce the batch limit.
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new UserException("At most " + MAX_BATCH_SIZE + " user ids per request, got " + ids.size());
+        }
+
+        // Step 3: Single $in query with projection.
+        return userRepository.findByIdIn(ids);
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 // Package declaration → groups related classes together.
 package com.example.task_user_service.taskSecurityConfig;
 
+import org.springframework.beans.factory.annotation.Value;                // Injects configuration values.
 import org.springframework.context.annotation.Bean;                       // Marks a method as a Spring bean provider.
 import org.springframework.context.annotation.Configuration;            // Marks this class as a Spring configuration class.
 import org.springframework.security.config.annotation.web.builders.HttpSecurity; // Used to configure HTTP security.
@@ -8,14 +9,17 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer; // Allows disabling CSRF easily.
 import org.springframework.security.config.http.SessionCreationPolicy;  // Defines session management policy.
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder; // Password encoder using BCrypt hashing.
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder; // "{id}hash" format → algorithm can change later.
 import org.springframework.security.crypto.password.PasswordEncoder;    // Interface for password encoding.
 import org.springframework.security.web.SecurityFilterChain;            // Defines the security filter chain.
 import org.springframework.security.web.authentication.www.BasicAuthenticationFilter; // Base filter for authentication.
 import org.springframework.web.cors.CorsConfiguration;                  // Defines CORS rules.
 import org.springframework.web.cors.CorsConfigurationSource;            // Provides CORS configuration source.
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 // @Configuration → Marks this class as a configuration provider.
 // @EnableWebSecurity → Enables Spring Security for the application.
@@ -28,7 +32,7 @@ public class ApplicationConfig {
     // ================================
     // Defines how HTTP requests are secured in the application.
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtProvider jwtProvider) throws Exception {
         return http
                 // Session Management → Stateless (no server-side sessions).
                 .sessionManagement(management ->
@@ -44,7 +48,7 @@ public class ApplicationConfig {
                         .anyRequest().permitAll())
 
                 // Add custom JWT validation filter before BasicAuthenticationFilter.
-                .addFilterBefore(new JwtTokenValidator(), BasicAuthenticationFilter.class)
+                .addFilterBefore(new JwtTokenValidator(jwtProvider), BasicAuthenticationFilter.class)
 
                 // Disable CSRF (not needed for stateless REST APIs).
                 .csrf(AbstractHttpConfigurer::disable)
@@ -89,10 +93,19 @@ public class ApplicationConfig {
     // ================================
     // Password Encoder Bean
     // ================================
-    // Provides a BCryptPasswordEncoder for hashing user passwords.
-    // Ensures passwords are stored securely in the database.
+    // Provides a DelegatingPasswordEncoder for hashing user passwords.
+    // - New hashes → "{bcrypt}$2a$<cost>$..." with the cost calibrated at startup to the target latency.
+    // - Hashes stored before the "{id}" prefix was introduced (plain BCrypt) still match.
+    // - upgradeEncoding() is true for unprefixed or cheaper hashes → re-hashed on the next signin
+    //   (PasswordHashingService.rehashIfOutdated).
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.hashing.target-latency:50ms}") Duration targetLatency,
+                                           @Value("${auth.hashing.min-strength:10}") int minStrength,
+                                           @Value("${auth.hashing.max-strength:16}") int maxStrength) {
+        int strength = BCryptStrengthCalibrator.calibrate(targetLatency, minStrength, maxStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
     }
 }
\ No newline at end of file
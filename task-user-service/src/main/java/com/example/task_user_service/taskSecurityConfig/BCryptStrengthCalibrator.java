@@ -0,0 +1,49 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.taskSecurityConfig;
+
+import lombok.extern.slf4j.Slf4j;                                   // Lombok → logging support.
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder; // Password encoder using BCrypt hashing.
+
+import java.time.Duration;
+
+// BCryptStrengthCalibrator → Picks the BCrypt cost factor for the hardware the service runs on.
+// Purpose:
+// - Every +1 of the cost doubles the hashing time; the default (10) is too cheap on fast machines
+//   and too expensive on small containers.
+// - Measures one hash at the minimum cost (best of a few runs after a warm-up) and raises the cost
+//   while the projected time stays within the target latency.
+// - Never goes below minStrength (security floor) or above maxStrength.
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final int SAMPLES = 3;
+    private static final String PROBE = "calibration-probe";
+
+    private BCryptStrengthCalibrator() { }
+
+    // ================================
+    // Calibrate
+    // ================================
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(PROBE); // Warm-up (class loading, JIT).
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode(PROBE);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int strength = minStrength;
+        long projected = best;
+        while (strength < maxStrength && projected * 2 <= targetLatency.toNanos()) {
+            strength++;
+            projected *= 2;
+        }
+
+        log.info("BCrypt calibrated: cost {} at {} ms per hash (cost {} measured {} ms, target {} ms)",
+                strength, projected / 1_000_000, minStrength, best / 1_000_000, targetLatency.toMillis());
+        return strength;
+    }
+}
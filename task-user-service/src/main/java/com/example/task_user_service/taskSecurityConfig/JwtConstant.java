@@ -6,13 +6,11 @@ package com.example.task_user_service.taskSecurityConfig;
 public class JwtConstant {
 
     // ================================
-    // Secret Key
+    // Token Validity
     // ================================
-    // SECRET_KEY → Used to sign and validate JWT tokens.
-    // This must be kept secure and private.
-    // In production, store it in environment variables or a secure vault (not hardcoded).
-    public static final String SECRET_KEY =
-            "wpembytrwcvnryxksdbqwjebruyGHyudqgwveytrtrCSnwifoesarjbwF";
+    // TOKEN_VALIDITY_MS → Lifetime of an issued token (24 hours).
+    // Also decides how long a rotated signing key stays published (see JwtKeyManager).
+    public static final long TOKEN_VALIDITY_MS = 86400000;
 
     // ================================
     // JWT Header
@@ -0,0 +1,276 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.taskSecurityConfig;
+
+import com.example.task_user_service.repository.SigningKeyRepository; // Persists the key pairs (shared by all instances).
+import com.example.task_user_service.usermodel.SigningKey;           // Key pair document.
+import io.jsonwebtoken.JwsHeader;                     // Signed token header (carries the "kid").
+import io.jsonwebtoken.Locator;                       // Chooses the verification key per token.
+import io.jsonwebtoken.LocatorAdapter;                // Locator base class with a JWS-specific hook.
+import jakarta.annotation.PostConstruct;              // Runs once after dependency injection.
+import lombok.extern.slf4j.Slf4j;                     // Lombok → logging support.
+import org.springframework.beans.factory.annotation.Value; // Injects configuration values.
+import org.springframework.scheduling.annotation.Scheduled; // Periodic refresh / rotation.
+import org.springframework.stereotype.Component;      // Marks this class as a Spring-managed bean.
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// JwtKeyManager → Owns the RS256 key pairs used to sign and verify JWTs.
+// Purpose:
+// - Tokens are signed with a private key and carry its "kid" header; the public keys are published
+//   at /.well-known/jwks.json → other services verify tokens locally, without calling USER-SERVICE.
+// - Overlapping rotation:
+//   1. Every `jwt.rotation.interval` a new key is generated and published immediately,
+//      but only used for signing after `jwt.rotation.publish-ahead` (verifiers have time to fetch it).
+//   2. The previous key stays published until every token it signed has expired
+//      (token validity + `jwt.keys.refresh-interval` of slack for instances with an older key snapshot).
+// - Keys live in MongoDB → all USER-SERVICE instances sign with the same key and publish the same JWKS.
+//   Private keys are stored encrypted (SigningKeyCipher, KEK from JWT_KEY_ENCRYPTION_KEY), never in plain form.
+// - The in-memory snapshot is immutable and replaced atomically → signing/verification never touch the database.
+@Component
+@Slf4j
+public class JwtKeyManager {
+
+    // ================================
+    // Constants
+    // ================================
+    private static final String ALGORITHM = "RSA";
+    private static final int KEY_SIZE = 2048;
+    private static final Duration MIN_RELOAD_INTERVAL = Duration.ofSeconds(30); // Unknown-kid reloads.
+
+    // ================================
+    // Dependencies / Configuration
+    // ================================
+    private final SigningKeyRepository signingKeyRepository;
+    private final SigningKeyCipher signingKeyCipher; // Encrypts / decrypts the stored private keys.
+    private final Duration rotationInterval; // How long a key signs tokens before it is replaced.
+    private final Duration publishAhead;     // How long a new key is published before it signs.
+    private final Duration refreshInterval;  // How often every instance reloads the keys.
+
+    // ================================
+    // State
+    // ================================
+    private volatile List<LoadedKey> keys = List.of();       // Newest activation first.
+    private volatile Instant lastReload = Instant.EPOCH;
+
+    public JwtKeyManager(SigningKeyRepository signingKeyRepository,
+                         SigningKeyCipher signingKeyCipher,
+                         @Value("${jwt.rotation.interval:7d}") Duration rotationInterval,
+                         @Value("${jwt.rotation.publish-ahead:10m}") Duration publishAhead,
+                         @Value("${jwt.keys.refresh-interval:5m}") Duration refreshInterval) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.signingKeyCipher = signingKeyCipher;
+        this.rotationInterval = rotationInterval;
+        this.publishAhead = publishAhead;
+        this.refreshInterval = refreshInterval;
+    }
+
+    // ================================
+    // Startup
+    // ================================
+    // Makes sure a signing key exists before the first login.
+    @PostConstruct
+    public void init() {
+        rotateIfDue();
+    }
+
+    // ================================
+    // Current Signing Key
+    // ================================
+    // Newest key whose activation time has passed.
+    public LoadedKey signingKey() {
+        Instant now = Instant.now();
+        for (LoadedKey key : keys) {
+            if (!key.activatesAt().isAfter(now)) {
+                return key;
+            }
+        }
+        throw new IllegalStateException("No active JWT signing key");
+    }
+
+    // ================================
+    // Verification Key Locator
+    // ================================
+    // Picks the public key by the token's "kid" header; unknown kid → reload once (another instance
+    // may have rotated), still unknown → null → the parser rejects the token.
+    public Locator<Key> keyLocator() {
+        return new LocatorAdapter<>() {
+            @Override
+            protected Key locate(JwsHeader header) {
+                return publicKey(header.getKeyId());
+            }
+        };
+    }
+
+    private RSAPublicKey publicKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        RSAPublicKey key = find(kid);
+        if (key == null && Instant.now().isAfter(lastReload.plus(MIN_RELOAD_INTERVAL))) {
+            reload();
+            key = find(kid);
+        }
+        return key;
+    }
+
+    private RSAPublicKey find(String kid) {
+        for (LoadedKey key : keys) {
+            if (key.kid().equals(kid)) {
+                return key.publicKey();
+            }
+        }
+        return null;
+    }
+
+    // ================================
+    // JWKS (RFC 7517)
+    // ================================
+    // Public keys only; includes keys that are published ahead of activation and keys still in overlap.
+    public Map<String, Object> jwks() {
+        List<Map<String, Object>> jwks = new ArrayList<>();
+        for (LoadedKey key : keys) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", ALGORITHM);
+            jwk.put("use", "sig");
+            jwk.put("alg", "RS256");
+            jwk.put("kid", key.kid());
+            jwk.put("n", base64Url(key.publicKey().getModulus()));
+            jwk.put("e", base64Url(key.publicKey().getPublicExponent()));
+            jwks.add(jwk);
+        }
+        return Map.of("keys", jwks);
+    }
+
+    // ================================
+    // Periodic Refresh
+    // ================================
+    // Picks up keys generated or retired by other instances.
+    @Scheduled(initialDelayString = "${jwt.keys.refresh-interval:5m}", fixedDelayString = "${jwt.keys.refresh-interval:5m}")
+    public void refresh() {
+        reload();
+    }
+
+    // ================================
+    // Rotation
+    // ================================
+    // Purpose:
+    // - No key yet → generate one that is active immediately (nobody can hold an older JWKS).
+    // - Newest key older than the rotation interval → generate a successor, active after publishAhead.
+    // - Keys superseded longer than token validity (+ refresh slack) ago → delete.
+    // - Keys stored before encryption was introduced (plain PKCS#8) are re-written encrypted.
+    // - Concurrent rotation on several instances at worst creates an extra key; all keys are published.
+    @Scheduled(initialDelayString = "${jwt.rotation.check-interval:1h}", fixedDelayString = "${jwt.rotation.check-interval:1h}")
+    public synchronized void rotateIfDue() {
+        Instant now = Instant.now();
+        List<SigningKey> stored = signingKeyRepository.findAllByOrderByActivatesAtDesc();
+
+        // Step 0: Encrypt private keys that are still stored in plain form.
+        for (SigningKey key : stored) {
+            if (!signingKeyCipher.isEncrypted(key.getPrivateKey())) {
+                key.setPrivateKey(signingKeyCipher.encrypt(key.getKid(), Base64.getDecoder().decode(key.getPrivateKey())));
+                signingKeyRepository.save(key);
+                log.warn("Encrypted plain-text JWT signing key {} at rest", key.getKid());
+            }
+        }
+
+        // Step 1: Generate a new key when none exists or the newest one is due for rotation.
+        if (stored.isEmpty()) {
+            stored = List.of(signingKeyRepository.save(generate(now, now)));
+            log.info("Generated initial JWT signing key {}", stored.getFirst().getKid());
+        } else if (!stored.getFirst().getActivatesAt().plus(rotationInterval).isAfter(now)) {
+            SigningKey next = signingKeyRepository.save(generate(now, now.plus(publishAhead)));
+            log.info("Generated JWT signing key {} (active from {})", next.getKid(), next.getActivatesAt());
+            stored = signingKeyRepository.findAllByOrderByActivatesAtDesc();
+        }
+
+        // Step 2: Retire keys that can no longer have signed an unexpired token.
+        Instant supersededAt = null;
+        for (SigningKey key : stored) {
+            if (supersededAt != null
+                    && supersededAt.plusMillis(JwtConstant.TOKEN_VALIDITY_MS).plus(refreshInterval).isBefore(now)) {
+                signingKeyRepository.deleteById(key.getKid());
+                log.info("Retired JWT signing key {}", key.getKid());
+            }
+            if (supersededAt == null && !key.getActivatesAt().isAfter(now)) {
+                supersededAt = key.getActivatesAt(); // Current signing key → every older key is superseded.
+            }
+        }
+
+        reload();
+    }
+
+    // ================================
+    // Helpers
+    // ================================
+    private void reload() {
+        List<LoadedKey> loaded = new ArrayList<>();
+        for (SigningKey key : signingKeyRepository.findAllByOrderByActivatesAtDesc()) {
+            try {
+                loaded.add(load(key));
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                log.error("Skipping unreadable JWT signing key {}: {}", key.getKid(), e.getMessage());
+            }
+        }
+        keys = List.copyOf(loaded);
+        lastReload = Instant.now();
+    }
+
+    private SigningKey generate(Instant createdAt, Instant activatesAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(ALGORITHM);
+            generator.initialize(KEY_SIZE);
+            KeyPair pair = generator.generateKeyPair();
+            String kid = UUID.randomUUID().toString();
+            return SigningKey.builder()
+                    .kid(kid)
+                    .publicKey(Base64.getEncoder().encodeToString(pair.getPublic().getEncoded()))
+                    .privateKey(signingKeyCipher.encrypt(kid, pair.getPrivate().getEncoded()))
+                    .createdAt(createdAt)
+                    .activatesAt(activatesAt)
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate RSA key pair", e);
+        }
+    }
+
+    private LoadedKey load(SigningKey key) throws GeneralSecurityException {
+        KeyFactory factory = KeyFactory.getInstance(ALGORITHM);
+        RSAPublicKey publicKey = (RSAPublicKey) factory.generatePublic(
+                new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+        PrivateKey privateKey = factory.generatePrivate(
+                new PKCS8EncodedKeySpec(signingKeyCipher.decrypt(key.getKid(), key.getPrivateKey())));
+        return new LoadedKey(key.getKid(), publicKey, privateKey, key.getActivatesAt());
+    }
+
+    // Unsigned big-endian bytes, Base64url without padding (JWK "n" / "e").
+    private static String base64Url(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // ================================
+    // Loaded Key
+    // ================================
+    public record LoadedKey(String kid, RSAPublicKey publicKey, PrivateKey privateKey, Instant activatesAt) { }
+}
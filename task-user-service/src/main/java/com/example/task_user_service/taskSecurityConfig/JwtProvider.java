@@ -1,28 +1,58 @@
 // Package declaration → groups related classes together.
 package com.example.task_user_service.taskSecurityConfig;
 
+import com.github.benmanes.caffeine.cache.Cache; // Bounded in-process cache.
+import com.github.benmanes.caffeine.cache.Caffeine; // Cache builder.
+import com.github.benmanes.caffeine.cache.Expiry; // Per-entry expiry (capped at the token's exp).
 import io.jsonwebtoken.Claims;                  // Represents the payload (claims) inside JWT.
+import io.jsonwebtoken.JwtParser;               // Thread-safe, reusable JWT parser.
 import io.jsonwebtoken.Jwts;                    // Utility class for building and parsing JWT tokens.
-import io.jsonwebtoken.security.Keys;           // Utility for generating secure keys.
 import org.springframework.security.core.Authentication; // Represents the authenticated user.
+import org.springframework.beans.factory.annotation.Value; // Injects configuration values.
 import org.springframework.security.core.GrantedAuthority; // Represents user roles/authorities.
+import org.springframework.security.core.authority.AuthorityUtils; // Converts roles string → authorities.
+import org.springframework.stereotype.Component; // Marks this class as a Spring-managed bean.
 
-import javax.crypto.SecretKey;                  // Secret key used for signing JWT.
-import java.nio.charset.StandardCharsets;       // Charset for encoding secret key.
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;                    // Collection interface for authorities.
 import java.util.Date;                          // Used for issuedAt and expiration timestamps.
 import java.util.HashSet;                       // Used to store unique authorities.
+import java.util.HexFormat;
 import java.util.Set;                           // Represents a set of authorities.
 
-// JwtProvider → Utility class for generating and validating JWT tokens.
+// JwtProvider → Generates and validates JWT tokens.
+// - Tokens are signed with RS256 by the current key of JwtKeyManager; the "kid" header names the key.
+// - Verification picks the public key by "kid" → tokens signed before a key rotation stay valid.
+// - Verified tokens are cached by SHA-256 digest until min(ttl, exp) → one signature check per token,
+//   not per request.
+@Component
 public class JwtProvider {
 
     // ================================
-    // Secret Key
+    // Dependencies
     // ================================
-    // Generate a secure HMAC key using the SECRET_KEY defined in JwtConstant.
-    private static final SecretKey key =
-            Keys.hmacShaKeyFor(JwtConstant.SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    private final JwtKeyManager jwtKeyManager; // Signing key + public keys by kid.
+    private final JwtParser jwtParser;         // Built once; locates the verification key per token.
+    private final Duration claimsCacheTtl;     // Upper bound for a cached verification.
+    private final Cache<String, VerifiedToken> verifiedTokens; // token digest → verified claims.
+
+    public JwtProvider(JwtKeyManager jwtKeyManager,
+                       @Value("${jwt.claims-cache.maximum-size:10000}") long claimsCacheSize,
+                       @Value("${jwt.claims-cache.ttl:10m}") Duration claimsCacheTtl) {
+        this.jwtKeyManager = jwtKeyManager;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(jwtKeyManager.keyLocator())
+                .build();
+        this.claimsCacheTtl = claimsCacheTtl;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
 
     // ================================
     // Generate JWT Token
@@ -30,19 +60,21 @@ public class JwtProvider {
     // Purpose:
     // - Create a JWT token for an authenticated user.
     // - Include claims like email and authorities.
-    // - Sign the token with SECRET_KEY.
-    public static String generateToken(Authentication authentication) {
+    // - Sign the token with the current private key (RS256, "kid" header).
+    public String generateToken(Authentication authentication) {
         // Extract roles/authorities from Authentication object.
         String roles = populateAuthorities(authentication.getAuthorities());
+        JwtKeyManager.LoadedKey signingKey = jwtKeyManager.signingKey();
 
         // Build JWT token.
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and() // Key ID → verifiers select the public key.
                 .issuedAt(new Date()) // Token issue time.
-                .expiration(new Date(System.currentTimeMillis() + 86400000)) // Expiration = 24 hours.
+                .expiration(new Date(System.currentTimeMillis() + JwtConstant.TOKEN_VALIDITY_MS)) // Expiration = 24 hours.
                 .subject(authentication.getName()) // Subject = username/email.
                 .claim("email", authentication.getName()) // Custom claim: email.
                 .claim("authorities", roles) // Custom claim: roles.
-                .signWith(key) // Sign with secret key.
+                .signWith(signingKey.privateKey(), Jwts.SIG.RS256) // Sign with the private key.
                 .compact(); // Build final token string.
     }
 
@@ -58,30 +90,91 @@ public class JwtProvider {
         return String.join(",", auth); // Example: "ROLE_USER,ROLE_ADMIN"
     }
 
+    // ================================
+    // Parse Claims
+    // ================================
+    // Purpose:
+    // - Verify signature (public key by "kid") + expiry and return the payload.
+    // - Throws JwtException / IllegalArgumentException for invalid tokens.
+    public Claims parseClaims(String jwt) {
+        return jwtParser.parseSignedClaims(jwt).getPayload();
+    }
+
+    // ================================
+    // Verify (cached)
+    // ================================
+    // Purpose:
+    // - Return the cached verification of this exact token, or verify it once and cache the result.
+    // - Only successfully verified tokens are cached; invalid tokens throw every time.
+    public VerifiedToken verify(String jwt) {
+        String key = digest(jwt);
+        VerifiedToken token = verifiedTokens.getIfPresent(key);
+        if (token != null && token.expiresAt().isAfter(Instant.now())) {
+            return token;
+        }
+
+        Claims claims = parseClaims(jwt);
+        token = new VerifiedToken(
+                String.valueOf(claims.get("email")),
+                AuthorityUtils.commaSeparatedStringToAuthorityList(String.valueOf(claims.get("authorities"))),
+                claims.getExpiration() == null ? Instant.now().plus(claimsCacheTtl) : claims.getExpiration().toInstant());
+        verifiedTokens.put(key, token);
+        return token;
+    }
+
     // ================================
     // Extract Email from JWT Token
     // ================================
     // Purpose:
-    // - Parse JWT token.
+    // - Verify JWT token (cached).
     // - Extract "email" claim.
-    public static String getEmailFromJwtToken(String jwt) {
+    public String getEmailFromJwtToken(String jwt) {
         // Remove "Bearer " prefix if present.
         if (jwt != null && jwt.startsWith("Bearer")) {
             jwt = jwt.substring(7);
         }
         try {
-            // Parse JWT and extract claims.
-            Claims claims = Jwts.parser()
-                    .verifyWith(key) // Verify signature with secret key.
-                    .build()
-                    .parseSignedClaims(jwt)
-                    .getPayload();
-
-            // Return email claim.
-            return String.valueOf(claims.get("email"));
+            // Verify JWT and return email claim.
+            return verify(jwt).email();
         } catch (Exception e) {
             System.out.println("Error extracting the email from the jwt token :" + e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+
+    // ================================
+    // Helpers
+    // ================================
+    // SHA-256 of the token → the raw token is never kept as a cache key.
+    private static String digest(String jwt) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Expires a cached verification after min(ttl, time left until exp); reads do not extend it.
+    private class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration untilExp = Duration.between(Instant.now(), value.expiresAt());
+            if (untilExp.isNegative()) {
+                return 0;
+            }
+            return (untilExp.compareTo(claimsCacheTtl) < 0 ? untilExp : claimsCacheTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,9 +1,6 @@
 // Package declaration → groups related classes together.
 package com.example.task_user_service.taskSecurityConfig;
 
-import io.jsonwebtoken.Claims;                        // Represents the payload (claims) inside JWT.
-import io.jsonwebtoken.Jwts;                          // Utility class for parsing JWT tokens.
-import io.jsonwebtoken.security.Keys;                 // Utility for generating secure keys.
 import jakarta.servlet.FilterChain;                   // Represents the chain of filters in a request.
 import jakarta.servlet.ServletException;              // Exception for servlet errors.
 import jakarta.servlet.http.HttpServletRequest;       // Represents incoming HTTP request.
@@ -11,20 +8,25 @@ import jakarta.servlet.http.HttpServletResponse;      // Represents outgoing HTT
 import org.springframework.security.authentication.BadCredentialsException; // Exception for invalid credentials.
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // Authentication object.
 import org.springframework.security.core.Authentication; // Represents authenticated user.
-import org.springframework.security.core.GrantedAuthority; // Represents user roles/authorities.
-import org.springframework.security.core.authority.AuthorityUtils; // Utility for converting roles string → authorities.
 import org.springframework.security.core.context.SecurityContextHolder; // Holds authentication info for current request.
 import org.springframework.web.filter.OncePerRequestFilter; // Ensures filter runs once per request.
 
-import javax.crypto.SecretKey;                        // Secret key used for signing JWT.
 import java.io.IOException;                           // Exception for I/O errors.
-import java.nio.charset.StandardCharsets;             // Charset for encoding secret key.
-import java.util.List;                                // Used for storing authorities list.
 
 // JwtTokenValidator → Custom filter that validates JWT tokens on every request.
 // Extends OncePerRequestFilter → ensures this filter runs once per request.
+// Not a @Component → it is only registered in the security filter chain (ApplicationConfig).
 public class JwtTokenValidator extends OncePerRequestFilter {
 
+    // ================================
+    // Dependencies
+    // ================================
+    private final JwtProvider jwtProvider; // Verifies tokens with the public key named by "kid".
+
+    public JwtTokenValidator(JwtProvider jwtProvider) {
+        this.jwtProvider = jwtProvider;
+    }
+
     // ================================
     // Core Filter Logic
     // ================================
@@ -42,27 +44,14 @@ public class JwtTokenValidator extends OncePerRequestFilter {
             jwt = jwt.substring(7); // Remove "Bearer " prefix.
 
             try {
-                // Step 3: Create secret key from JwtConstant.
-                SecretKey key = Keys.hmacShaKeyFor(JwtConstant.SECRET_KEY.getBytes(StandardCharsets.UTF_8));
-
-                // Step 4: Parse JWT and extract claims.
-                Claims claims = Jwts.parser()
-                        .verifyWith(key) // Verify signature with secret key.
-                        .build()
-                        .parseSignedClaims(jwt)
-                        .getPayload();
-
-                // Step 5: Extract email and authorities from claims.
-                String email = String.valueOf(claims.get("email"));
-                String authorities = String.valueOf(claims.get("authorities"));
-
-                // Step 6: Convert authorities string → GrantedAuthority list.
-                List<GrantedAuthority> auth =
-                        AuthorityUtils.commaSeparatedStringToAuthorityList(authorities);
+                // Step 3-6: Verify signature (RS256, key by "kid") + expiry; email and authorities
+                // come from the verified-token cache when this token was seen before.
+                VerifiedToken token = jwtProvider.verify(jwt);
 
                 // Step 7: Create Authentication object with email + authorities.
+                // The principal (email) is what the service layer reads → no second parse of the token.
                 Authentication authentication =
-                        new UsernamePasswordAuthenticationToken(email, null, auth);
+                        new UsernamePasswordAuthenticationToken(token.email(), null, token.authorities());
 
                 // Step 8: Store authentication in SecurityContext.
                 SecurityContextHolder.getContext().setAuthentication(authentication);
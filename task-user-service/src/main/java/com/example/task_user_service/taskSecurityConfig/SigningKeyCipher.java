@@ -0,0 +1,101 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.taskSecurityConfig;
+
+import org.springframework.beans.factory.annotation.Value; // Injects configuration values.
+import org.springframework.stereotype.Component;           // Marks this class as a Spring-managed bean.
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+// SigningKeyCipher → Encrypts the JWT signing private keys before they are written to MongoDB.
+// Purpose:
+// - A database dump or backup alone must not be enough to sign tokens.
+// - AES-256-GCM with a key-encryption key (KEK) that never touches the database:
+//   `jwt.keys.encryption-key` (env JWT_KEY_ENCRYPTION_KEY) → 32 random bytes, Base64
+//   (e.g. `openssl rand -base64 32`). All USER-SERVICE instances need the same value.
+// - The key id is bound as associated data → an encrypted key cannot be moved to another kid.
+// - Stored format: "v1:" + Base64(12-byte IV || ciphertext + tag).
+// - The service refuses to start without a valid KEK.
+@Component
+public class SigningKeyCipher {
+
+    // ================================
+    // Constants
+    // ================================
+    private static final String PREFIX = "v1:";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int KEY_BYTES = 32;
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    // ================================
+    // State
+    // ================================
+    private final SecretKey keyEncryptionKey;
+    private final SecureRandom random = new SecureRandom();
+
+    public SigningKeyCipher(@Value("${jwt.keys.encryption-key:}") String encodedKey) {
+        byte[] key;
+        try {
+            key = Base64.getDecoder().decode(encodedKey.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("jwt.keys.encryption-key (JWT_KEY_ENCRYPTION_KEY) is not valid Base64", e);
+        }
+        if (key.length != KEY_BYTES) {
+            throw new IllegalStateException("jwt.keys.encryption-key (JWT_KEY_ENCRYPTION_KEY) must be "
+                    + KEY_BYTES + " Base64-encoded bytes, e.g. the output of `openssl rand -base64 32`");
+        }
+        this.keyEncryptionKey = new SecretKeySpec(key, "AES");
+    }
+
+    // ================================
+    // Encrypt
+    // ================================
+    public String encrypt(String kid, byte[] privateKey) {
+        try {
+            byte[] iv = new byte[IV_BYTES];
+            random.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+            byte[] encrypted = cipher.doFinal(privateKey);
+            byte[] stored = ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array();
+            return PREFIX + Base64.getEncoder().encodeToString(stored);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot encrypt JWT signing key " + kid, e);
+        }
+    }
+
+    // ================================
+    // Decrypt
+    // ================================
+    // Throws GeneralSecurityException for a wrong KEK or a tampered value.
+    public byte[] decrypt(String kid, String stored) throws GeneralSecurityException {
+        if (!isEncrypted(stored)) {
+            throw new GeneralSecurityException("Signing key " + kid + " is not encrypted");
+        }
+        byte[] data = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+        if (data.length <= IV_BYTES) {
+            throw new GeneralSecurityException("Signing key " + kid + " is truncated");
+        }
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.DECRYPT_MODE, keyEncryptionKey, new GCMParameterSpec(TAG_BITS, data, 0, IV_BYTES));
+        cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+        return cipher.doFinal(data, IV_BYTES, data.length - IV_BYTES);
+    }
+
+    // ================================
+    // Format Check
+    // ================================
+    // false → legacy plain Base64 PKCS#8 written before encryption was introduced.
+    public boolean isEncrypted(String stored) {
+        return stored != null && stored.startsWith(PREFIX);
+    }
+}
@@ -0,0 +1,18 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.taskSecurityConfig;
+
+import org.springframework.security.core.GrantedAuthority; // Represents user roles/authorities.
+
+import java.time.Instant;
+import java.util.List;
+
+// VerifiedToken → What is left of a JWT after its signature and expiry have been checked.
+// Purpose:
+// - Cached by JwtProvider (keyed by token digest) → repeated requests with the same token skip
+//   the RSA signature verification.
+// - Authorities are converted once, not on every request.
+public record VerifiedToken(
+        String email,                        // "email" claim → principal name in the SecurityContext.
+        List<GrantedAuthority> authorities,  // "authorities" claim as GrantedAuthority list.
+        Instant expiresAt                    // "exp" claim → cache entries never outlive the token.
+) { }
@@ -0,0 +1,51 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.usermodel;
+
+import lombok.AllArgsConstructor;                   // Lombok → generates constructor with all fields.
+import lombok.Builder;                              // Lombok → generates builder pattern for object creation.
+import lombok.Data;                                 // Lombok → generates getters, setters, equals, hashCode, toString.
+import lombok.NoArgsConstructor;                    // Lombok → generates default no-argument constructor.
+import org.springframework.data.annotation.Id;      // Marks field as primary key in MongoDB.
+import org.springframework.data.mongodb.core.index.CompoundIndex;   // Declares a compound index.
+import org.springframework.data.mongodb.core.index.CompoundIndexes; // Groups several compound indexes.
+import org.springframework.data.mongodb.core.mapping.Document; // Maps class to MongoDB collection.
+
+import java.time.LocalDateTime;
+
+// @Document(collection = "completedTask") → One "user X completed task Y" fact per document.
+// Purpose:
+// - Replaces the unbounded User.completedTasks array → user documents stay constant-size,
+//   so profile reads no longer deserialize every completed task.
+// - Indexes (created at startup by UserIndexInitializer):
+//   userId_taskId_unique → "has completed" point lookup, count per user, idempotent recording.
+//   userId_id → newest-first keyset pagination of a user's completed tasks.
+@Document(collection = "completedTask")
+@CompoundIndexes({
+        @CompoundIndex(name = "userId_taskId_unique", def = "{'userId': 1, 'taskId': 1}", unique = true),
+        @CompoundIndex(name = "userId_id", def = "{'userId': 1, '_id': -1}")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompletedTask {
+
+    // ================================
+    // Unique Identifier
+    // ================================
+    // ObjectId → increases with insertion time → used as the pagination cursor.
+    @Id
+    private String id;
+
+    // ================================
+    // User / Task
+    // ================================
+    private String userId;  // Id of the user who completed the task.
+    private String taskId;  // Id of the completed task (TASK-SERVICE).
+
+    // ================================
+    // Completed At
+    // ================================
+    // When the completion was recorded.
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,50 @@
+// Package declaration → groups related classes together.
+package com.example.task_user_service.usermodel;
+
+import lombok.AllArgsConstructor;                   // Lombok → generates constructor with all fields.
+import lombok.Builder;                              // Lombok → generates builder pattern for object creation.
+import lombok.Data;                                 // Lombok → generates getters, setters, equals, hashCode, toString.
+import lombok.NoArgsConstructor;                    // Lombok → generates default no-argument constructor.
+import org.springframework.data.annotation.Id;      // Marks field as primary key in MongoDB.
+import org.springframework.data.mongodb.core.mapping.Document; // Maps class to MongoDB collection.
+
+import java.time.Instant;
+
+// @Document(collection = "signingKey") → One RS256 key pair used to sign JWTs.
+// Purpose:
+// - Shared by all USER-SERVICE instances → every instance signs with the same key and publishes
+//   the same JWKS (/.well-known/jwks.json).
+// - Several keys exist during a rotation: the new key is published before it signs anything,
+//   the old key stays published until the last token signed with it has expired.
+// - The private key is stored encrypted with a key-encryption key that is not in the database
+//   (SigningKeyCipher, JWT_KEY_ENCRYPTION_KEY) → a database dump alone cannot sign tokens.
+@Document(collection = "signingKey")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SigningKey {
+
+    // ================================
+    // Key ID
+    // ================================
+    // Written to the "kid" header of every token → verifiers pick the matching public key.
+    @Id
+    private String kid;
+
+    // ================================
+    // Key Material
+    // ================================
+    // publicKey → X.509 (SubjectPublicKeyInfo) encoding, Base64.
+    // privateKey → PKCS#8 encoding, AES-256-GCM encrypted ("v1:" + Base64(IV || ciphertext)).
+    private String publicKey;
+    private String privateKey;
+
+    // ================================
+    // Lifecycle
+    // ================================
+    // createdAt → when the key was generated (published in the JWKS from this moment).
+    // activatesAt → from this moment new tokens are signed with this key.
+    private Instant createdAt;
+    private Instant activatesAt;
+}
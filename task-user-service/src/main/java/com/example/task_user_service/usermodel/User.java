@@ -7,10 +7,9 @@ import lombok.Builder;                              // Lombok → generates buil
 import lombok.Data;                                 // Lombok → generates getters, setters, equals, hashCode, toString.
 import lombok.NoArgsConstructor;                    // Lombok → generates default no-argument constructor.
 import org.springframework.data.annotation.Id;      // Marks field as primary key in MongoDB.
+import org.springframework.data.mongodb.core.index.Indexed; // Declares a single-field index (created by UserIndexInitializer).
 import org.springframework.data.mongodb.core.mapping.Document; // Maps class to MongoDB collection.
 
-import java.util.List; // Used for storing completed task IDs as a list.
-
 // @Document(collection = "user") → Maps this class to MongoDB collection named "user".
 // Each instance of User will be stored as a document in this collection.
 // @Data → Lombok generates boilerplate code (getters/setters, equals, hashCode, toString).
@@ -43,6 +42,8 @@ public class User {
     // ================================
     // Stores the user's email address.
     // Typically used for login and communication.
+    // @Indexed(unique = true) → one account per email; login lookups are indexed point reads.
+    @Indexed(name = "email_unique", unique = true)
     private String email;
 
     // ================================
@@ -68,10 +69,6 @@ public class User {
     // Stores the user's mobile phone number.
     private String mobile;
 
-    // ================================
-    // Completed Tasks
-    // ================================
-    // Stores IDs of tasks the user has completed.
-    // Each task ID is represented as a Long.
-    private List<Long> completedTasks;
+    // Completed tasks are stored in the completedTask collection (see CompletedTask),
+    // so the user document stays constant-size.
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.task_user_service.taskSecurityConfig;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Hash and match latency of the production PasswordEncoder at the cost calibrated for this machine.
+// - encode        → signup and re-hash on signin.
+// - matches       → signin against a "{bcrypt}" hash written at the calibrated cost.
+// - matchesLegacy → signin against an unprefixed cost-10 hash (default-encoder fallback).
+// Not a unit test (surefire skips it). Run after `mvn test-compile` with the test classpath, e.g.
+//   java -cp target/test-classes:target/classes:<test classpath> \
+//        com.example.task_user_service.taskSecurityConfig.PasswordHashingBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+	private static final String PASSWORD = "correct horse battery staple";
+
+	// Same defaults as auth.hashing.* in application.yaml.
+	@Param("50")
+	public long targetLatencyMs;
+
+	private PasswordEncoder encoder;
+	private String hash;
+	private String legacyHash;
+
+	@Setup
+	public void setUp() {
+		encoder = new ApplicationConfig().passwordEncoder(Duration.ofMillis(targetLatencyMs), 10, 16);
+		hash = encoder.encode(PASSWORD);
+		legacyHash = new BCryptPasswordEncoder().encode(PASSWORD);
+	}
+
+	@Benchmark
+	public String encode() {
+		return encoder.encode(PASSWORD);
+	}
+
+	@Benchmark
+	public boolean matches() {
+		return encoder.matches(PASSWORD, hash);
+	}
+
+	@Benchmark
+	public boolean matchesLegacy() {
+		return encoder.matches(PASSWORD, legacyHash);
+	}
+
+	public static void main(String[] args) throws Exception {
+		new Runner(new OptionsBuilder()
+				.include(PasswordHashingBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}